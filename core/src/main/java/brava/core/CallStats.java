@@ -0,0 +1,107 @@
+package brava.core;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free success / failure / latency counters, populated by {@link Unchecked#metered(Unchecked.Supplier, CallStats)}.
+ * <p>
+ * A single {@link CallStats} can be shared by any number of threads and suppliers, and read at any time <i>(e.g. by a dashboard)</i>.
+ *
+ * @implNote The counters are {@link LongAdder}s, so recording a call never contends with other threads.
+ * The flip side is that reading several counters isn't atomic, so a reading taken while calls are in-flight might be slightly inconsistent.
+ */
+public final class CallStats {
+    private final LongAdder  successes    = new LongAdder();
+    private final LongAdder  failures     = new LongAdder();
+    private final LongAdder  totalNanos   = new LongAdder();
+    private final AtomicLong maxNanos     = new AtomicLong();
+
+    void recordSuccess(long elapsedNanos) {
+        successes.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    void recordFailure(long elapsedNanos) {
+        failures.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    private void recordLatency(long elapsedNanos) {
+        totalNanos.add(elapsedNanos);
+
+        // 📎 Checking before writing means that, once the max has settled, we never write to the shared cache line again.
+        if (elapsedNanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+    }
+
+    /**
+     * @return the number of calls that returned a value
+     */
+    @Contract(pure = true)
+    public long successes() {
+        return successes.sum();
+    }
+
+    /**
+     * @return the number of calls that threw a {@link Throwable}
+     */
+    @Contract(pure = true)
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return the total number of finished calls, whether they succeeded or failed
+     */
+    @Contract(pure = true)
+    public long calls() {
+        return successes() + failures();
+    }
+
+    /**
+     * @return the time spent in all finished calls, combined
+     */
+    @Contract(pure = true)
+    public @NotNull Duration totalLatency() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    /**
+     * @return the average time spent in a single call, or {@link Duration#ZERO} if there haven't been any calls
+     */
+    @Contract(pure = true)
+    public @NotNull Duration meanLatency() {
+        var calls = calls();
+        return calls == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / calls);
+    }
+
+    /**
+     * @return the longest time spent in a single call
+     */
+    @Contract(pure = true)
+    public @NotNull Duration maxLatency() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Sets all of my counters back to 0.
+     */
+    public void reset() {
+        successes.reset();
+        failures.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "✅ %s / ❌ %s (mean %s, max %s)".formatted(successes(), failures(), meanLatency(), maxLatency());
+    }
+}
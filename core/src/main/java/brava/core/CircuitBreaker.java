@@ -0,0 +1,185 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A <a href="https://martinfowler.com/bliki/CircuitBreaker.html">circuit breaker</a>, used by {@link Unchecked#circuitBreaking(Unchecked.Supplier, CircuitBreaker)}.
+ * <p>
+ * After {@link #failureThreshold()} consecutive failures, I {@link State#OPEN open}, and every call is rejected with an {@link OpenException}
+ * until {@link #openDuration()} has passed. Then, a single trial call is let through <i>({@link State#HALF_OPEN})</i>:
+ * if it succeeds, I {@link State#CLOSED close} again; otherwise, I re-open.
+ * <p>
+ * A single {@link CircuitBreaker} is meant to be shared by everybody calling the same flaky resource.
+ *
+ * @implNote All of my state is kept in atomics, so I never block.
+ * Rejecting a call while {@link State#OPEN} costs a volatile read, a {@link System#nanoTime()}, and a {@link LongAdder#increment()}.
+ */
+public final class CircuitBreaker {
+    /**
+     * Describes whether calls are being let through.
+     */
+    public enum State {
+        /**
+         * Everything is fine, and calls go through normally.
+         */
+        CLOSED,
+        /**
+         * Too many calls have failed, so calls are being rejected.
+         */
+        OPEN,
+        /**
+         * A single trial call has been let through to see if things have recovered.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Thrown <i>instead</i> of invoking the underlying {@link Unchecked.Supplier} while a {@link CircuitBreaker} is {@link State#OPEN}.
+     *
+     * @implNote Each {@link CircuitBreaker} re-uses a single instance without a stack trace, so rejecting a call doesn't allocate anything.
+     */
+    public static final class OpenException extends RuntimeException {
+        private OpenException(@NotNull CircuitBreaker breaker) {
+            super("The %s is open, so the call was rejected!".formatted(breaker), null, false, false);
+        }
+    }
+
+    private final int                    failureThreshold;
+    private final long                   openNanos;
+    private final AtomicReference<State> state               = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger          consecutiveFailures = new AtomicInteger();
+    private final LongAdder              rejections          = new LongAdder();
+    private final OpenException          openException;
+    /**
+     * The {@link System#nanoTime()} that I was last {@link State#OPEN}ed.
+     *
+     * @implNote This is always written <i>before</i> {@link #state} becomes {@link State#OPEN}, so anybody who sees {@link State#OPEN} also sees the right value.
+     */
+    private volatile long openedAt;
+
+    private CircuitBreaker(int failureThreshold, @NotNull Duration openDuration) {
+        Preconditions.checkArgument(failureThreshold > 0, "failureThreshold must be positive, but was %s", failureThreshold);
+        Preconditions.checkArgument(openDuration.isNegative() == false, "openDuration must not be negative, but was %s", openDuration);
+        this.failureThreshold = failureThreshold;
+        this.openNanos        = openDuration.toNanos();
+        this.openException    = new OpenException(this);
+    }
+
+    /**
+     * @param failureThreshold the number of consecutive failures that will {@link State#OPEN} the circuit
+     * @param openDuration     how long to reject calls before letting a trial call through
+     * @return a new, {@link State#CLOSED} {@link CircuitBreaker}
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static @NotNull CircuitBreaker of(int failureThreshold, @NotNull Duration openDuration) {
+        return new CircuitBreaker(failureThreshold, openDuration);
+    }
+
+    /**
+     * Decides whether a call is allowed to go through.
+     *
+     * @return {@code true} if this is the {@link State#HALF_OPEN} trial call, which must be passed on to {@link #onSuccess(boolean)} or {@link #onFailure(boolean)}
+     * @throws OpenException if the call should be rejected
+     */
+    boolean acquire() {
+        var current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+
+        if (current == State.OPEN && System.nanoTime() - openedAt >= openNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            // We won the race to make the trial call
+            return true;
+        }
+
+        rejections.increment();
+        throw openException;
+    }
+
+    /**
+     * @param trial whatever {@link #acquire()} returned for this call
+     * @implNote Only the trial call can close me: a call that was let through while I was {@link State#CLOSED} might finish long after I've opened.
+     */
+    void onSuccess(boolean trial) {
+        // 📎 Checking before writing keeps the happy path free of writes to shared memory.
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+
+        if (trial) {
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    /**
+     * @param trial whatever {@link #acquire()} returned for this call
+     * @implNote Late failures from calls that were let through while I was {@link State#CLOSED} can't re-open me while the trial call is deciding.
+     */
+    void onFailure(boolean trial) {
+        if (trial) {
+            trip(State.HALF_OPEN);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == State.CLOSED) {
+            trip(State.CLOSED);
+        }
+    }
+
+    private void trip(@NotNull State from) {
+        openedAt = System.nanoTime();
+        if (state.compareAndSet(from, State.OPEN)) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Forces me back to {@link State#CLOSED}, forgetting about any failures.
+     */
+    public void reset() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    /**
+     * @return what I'm currently doing
+     */
+    @Contract(pure = true)
+    public @NotNull State state() {
+        return state.get();
+    }
+
+    /**
+     * @return the number of consecutive failures that will {@link State#OPEN} me
+     */
+    @Contract(pure = true)
+    public int failureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * @return how long I stay {@link State#OPEN} before letting a trial call through
+     */
+    @Contract(pure = true)
+    public @NotNull Duration openDuration() {
+        return Duration.ofNanos(openNanos);
+    }
+
+    /**
+     * @return the number of calls that I've rejected with an {@link OpenException}
+     */
+    @Contract(pure = true)
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "%s(threshold %s, open for %s)".formatted(getClass().getSimpleName(), failureThreshold, openDuration());
+    }
+}
@@ -1,50 +1,51 @@
 package brava.core;
 
-import brava.core.exceptions.UncheckedReflectionException;
-import com.google.common.base.Equivalence;
 import com.google.common.base.Preconditions;
 import com.google.common.reflect.TypeToken;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.RecordComponent;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.NoSuchElementException;
+import java.util.StringJoiner;
 
 /**
  * Constructs a {@link Record} by {@link #set}ting individual {@link RecordComponent} values.
  *
  * @param <R> a {@link Record} type
+ * @implNote Values are stored in an array, in the same order as the canonical constructor's parameters,
+ * so {@link #build()} can hand them straight to {@link RecordMetadata#construct(Object...)}.
  */
 public final class RecordBuilder<R extends @NotNull Record> {
-    private final TypeToken<R> recordType;
-    private final RecordComponent[] recordComponents;
-    private final HashMap<Equivalence.Wrapper<RecordComponent>, Object> components;
+    private final RecordMetadata<R> metadata;
+    private final Object[]          values;
+    /**
+     * One bit per {@link #values} slot, which is set once that slot has been {@link #set(RecordComponent, Object)}
+     * <i>(since {@code null} is a perfectly good value)</i>.
+     */
+    private final long[]            assigned;
 
     //region Constructors & factories
 
-    private RecordBuilder(TypeToken<R> recordType) {
-        this(recordType, new HashMap<>());
-    }
-
-    private RecordBuilder(TypeToken<R> recordType, HashMap<Equivalence.Wrapper<RecordComponent>, Object> components) {
-        this.recordType = recordType;
-        this.components = components;
-        this.recordComponents = recordType.getRawType().getRecordComponents();
+    private RecordBuilder(RecordMetadata<R> metadata) {
+        this.metadata = metadata;
+        this.values   = new Object[metadata.arity()];
+        this.assigned = new long[(values.length + Long.SIZE - 1) / Long.SIZE];
     }
 
     @Contract(pure = true, value = "_ -> new")
     public static <R extends @NotNull Record> @NotNull RecordBuilder<R> ofType(@NotNull TypeToken<R> recordType) {
-        return new RecordBuilder<>(recordType);
+        @SuppressWarnings("unchecked" /* Records are always `final`, so this is a safe cast. */)
+        var rType = (Class<R>) recordType.getRawType();
+        return ofType(rType);
     }
 
 
     @Contract(pure = true, value = "_ -> new")
     public static <R extends @NotNull Record> @NotNull RecordBuilder<R> ofType(@NotNull Class<R> recordType) {
-        return new RecordBuilder<>(TypeToken.of(recordType));
+        return new RecordBuilder<>(RecordMetadata.of(recordType));
     }
 
     /**
@@ -56,28 +57,35 @@ public final class RecordBuilder<R extends @NotNull Record> {
     public static <R extends @NotNull Record> @NotNull RecordBuilder<R> from(@NotNull R original) {
         @SuppressWarnings("unchecked")
         var recordClass = (Class<R>) original.getClass();
-        var recordToken = TypeToken.of(recordClass);
-        var builder = new RecordBuilder<>(recordToken);
+        var builder     = ofType(recordClass);
 
-        var components = recordClass.getRecordComponents();
-        for (var comp : components) {
-            builder.set(comp, Records.getComponentValue(original, comp));
+        for (int i = 0; i < builder.values.length; i++) {
+            builder.values[i] = builder.metadata.get(original, i);
         }
 
+        // 📎 This also sets the bits past the last component, which are never looked at.
+        Arrays.fill(builder.assigned, -1L);
         return builder;
     }
 
     //endregion
 
-    private static void requireRecordComponent(
-        TypeToken<? extends Record> recordType,
-        RecordComponent recordComponent
-    ) {
+    /**
+     * @return the position of the {@code recordComponent} in {@link #values}
+     * @throws IllegalArgumentException if the {@code recordComponent} isn't a member of {@link R}
+     */
+    private int requireRecordComponent(RecordComponent recordComponent) {
+        var index = metadata.indexOf(recordComponent);
         Preconditions.checkArgument(
-            TypeToken.of(recordType.getRawType()).isSupertypeOf(recordComponent.getDeclaringRecord()),
+            index >= 0,
             "The component `%s` must be a member of the record type %s", recordComponent,
-            recordType
+            metadata.recordType()
         );
+        return index;
+    }
+
+    private boolean isAssigned(int index) {
+        return (assigned[index / Long.SIZE] & (1L << index)) != 0;
     }
 
     /**
@@ -87,14 +95,12 @@ public final class RecordBuilder<R extends @NotNull Record> {
      * @throws NoSuchElementException   if the given {@link RecordComponent} hasn't been {@link #set(RecordComponent, Object)}
      */
     public @Nullable Object get(@NotNull RecordComponent component) {
-        requireRecordComponent(recordType, component);
+        var index = requireRecordComponent(component);
 
-        var wrapped = Records.recordComponentEquivalence.wrap(component);
-
-        if (components.containsKey(wrapped)) {
-            return components.get(wrapped);
+        if (isAssigned(index)) {
+            return values[index];
         } else {
-            throw new NoSuchElementException("The key %s wasn't found in %s!".formatted(component, components));
+            throw new NoSuchElementException("The component %s hasn't been set in %s!".formatted(component, this));
         }
     }
 
@@ -106,10 +112,11 @@ public final class RecordBuilder<R extends @NotNull Record> {
      * @return the previously {@link #set(RecordComponent, Object)} value, if there was one
      */
     public @Nullable Object set(@NotNull RecordComponent component, @Nullable Object value) {
-        requireRecordComponent(recordType, component);
-
-        var wrapped = Records.recordComponentEquivalence.wrap(component);
-        return components.put(wrapped, value);
+        var index    = requireRecordComponent(component);
+        var previous = values[index];
+        values[index] = value;
+        assigned[index / Long.SIZE] |= 1L << index;
+        return previous;
     }
 
     /**
@@ -133,25 +140,34 @@ public final class RecordBuilder<R extends @NotNull Record> {
      */
     @Contract(pure = true)
     public boolean hasComponentValue(@NotNull RecordComponent component) {
-        Preconditions.checkArgument(recordType.isSupertypeOf(component.getDeclaringRecord()));
-        return components.containsKey(Records.recordComponentEquivalence.wrap(component));
+        return isAssigned(requireRecordComponent(component));
     }
 
     /**
      * @return a new instance of {@link R}
      * @throws IllegalArgumentException if you haven't provided the correct values for the {@link Records#getCanonicalConstructor(Class)}
+     * @throws NoSuchElementException   if one of the {@link RecordComponent}s hasn't been {@link #set(RecordComponent, Object)}
+     * @see RecordMetadata#construct(Object...)
      */
     @Contract(pure = true)
     public R build() {
-        var canonicalConstructor = Records.getCanonicalConstructor(recordType);
-        var constructorArgs = Arrays.stream(recordComponents)
-              .map(this::get)
-              .toArray();
-
-        try {
-            return canonicalConstructor.newInstance(constructorArgs);
-        } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-            throw new UncheckedReflectionException(e);
+        for (int i = 0; i < values.length; i++) {
+            if (!isAssigned(i)) {
+                throw new NoSuchElementException("The component %s hasn't been set in %s!".formatted(metadata.components().get(i), this));
+            }
         }
+
+        // 📎 The constructor's parameters are copied out of the array, so it's safe to keep using it afterwards.
+        return metadata.construct(values);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        var joiner = new StringJoiner(", ", "RecordBuilder<" + metadata.recordType().getSimpleName() + ">[", "]");
+        for (int i = 0; i < values.length; i++) {
+            joiner.add(metadata.components().get(i).getName() + "=" + (isAssigned(i) ? values[i] : "?"));
+        }
+
+        return joiner.toString();
     }
 }
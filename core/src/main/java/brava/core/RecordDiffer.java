@@ -0,0 +1,127 @@
+package brava.core;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Primitives;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Works out the {@link RecordPatch} between two instances of a {@link Record}, one {@link RecordComponent} at a time.
+ * <p>
+ * Components are compared with the {@link Equivalence} registered for their {@link RecordComponent#getType()}, if there is one.
+ * Otherwise, components that are themselves {@link Record}s are diffed recursively, and everything else is compared with {@link Object#equals(Object)}.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * record Point(double x, double y) { }
+ *
+ * var differ = RecordDiffer.defaults()
+ *     .withEquivalence(double.class, Equivalence.equals().onResultOf(it -> Math.round(it * 100)));
+ *
+ * differ.diff(new Point(1, 2), new Point(1.001, 3)); // => RecordPatch<Point>[y=3.0]
+ * }</pre>
+ *
+ * @see Records#diff(Record, Record)
+ */
+@ApiStatus.Experimental
+public final class RecordDiffer {
+    private static final RecordDiffer DEFAULTS = new RecordDiffer(ImmutableMap.of());
+
+    /**
+     * Keyed by {@link Primitives#wrap(Class)}, so {@code int} and {@link Integer} components share an {@link Equivalence}.
+     */
+    private final ImmutableMap<Class<?>, Equivalence<Object>> equivalences;
+
+    private RecordDiffer(@NotNull ImmutableMap<Class<?>, Equivalence<Object>> equivalences) {
+        this.equivalences = equivalences;
+    }
+
+    /**
+     * @return a {@link RecordDiffer} that diffs nested {@link Record}s and compares everything else with {@link Object#equals(Object)}
+     */
+    @Contract(pure = true)
+    public static @NotNull RecordDiffer defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param type        a {@link RecordComponent#getType()}; primitives and their wrappers are treated as the same type
+     * @param equivalence decides whether two values of that type are the same
+     * @param <T>         the component type
+     * @return a new {@link RecordDiffer} that uses {@code equivalence} for every component of exactly that type
+     * @apiNote Registering an {@link Equivalence} for a {@link Record} type stops it from being diffed recursively,
+     * so any change replaces the whole value.
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public <T> @NotNull RecordDiffer withEquivalence(@NotNull Class<T> type, @NotNull Equivalence<? super T> equivalence) {
+        return new RecordDiffer(
+            ImmutableMap.<Class<?>, Equivalence<Object>>builder()
+                .putAll(equivalences)
+                .put(Primitives.wrap(type), Unchecked.cast(equivalence))
+                .buildKeepingLast()
+        );
+    }
+
+    /**
+     * @param before the original {@link R}
+     * @param after  the changed {@link R}
+     * @param <R>    the {@link Record} type
+     * @return a {@link RecordPatch} that turns {@code before} into something equivalent to {@code after}, containing only the components that changed
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public <R extends @NotNull Record> @NotNull RecordPatch<R> diff(@NotNull R before, @NotNull R after) {
+        Preconditions.checkArgument(before.getClass() == after.getClass(), "Can't diff a %s against a %s!", before.getClass(), after.getClass());
+        RecordMetadata<R> metadata = RecordMetadata.of(Unchecked.cast(before.getClass()));
+        if (before == after) {
+            return RecordPatch.empty(metadata.recordType());
+        }
+
+        var arity   = metadata.arity();
+        var indices = new int[arity];
+        var changes = new Object[arity];
+        var nested  = new boolean[arity];
+        int count   = 0;
+        for (int i = 0; i < arity; i++) {
+            var type = metadata.components().get(i).getType();
+            var old  = metadata.get(before, i);
+            var now  = metadata.get(after, i);
+
+            var equivalence = equivalences.get(Primitives.wrap(type));
+            if (equivalence != null) {
+                if (equivalence.equivalent(old, now)) {
+                    continue;
+                }
+            } else if (type.isRecord() && old != null && now != null) {
+                RecordPatch<?> nestedPatch = diff((Record) old, (Record) now);
+                if (!nestedPatch.isEmpty()) {
+                    indices[count] = i;
+                    changes[count] = nestedPatch;
+                    nested[count]  = true;
+                    count++;
+                }
+
+                continue;
+            } else if (Objects.equals(old, now)) {
+                continue;
+            }
+
+            indices[count] = i;
+            changes[count] = now;
+            count++;
+        }
+
+        return new RecordPatch<>(metadata.recordType(), Arrays.copyOf(indices, count), Arrays.copyOf(changes, count), Arrays.copyOf(nested, count));
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RecordDiffer" + equivalences.keySet();
+    }
+}
@@ -12,10 +12,27 @@ import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.RecordComponent;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 @ParametersAreNonnullByDefault
 final class RecordGetterHelpers {
+    /**
+     * The {@link RecordComponent} that each method reference class points to, once we've worked it out.
+     * <p>
+     * Every evaluation of the same method reference expression <i>(e.g. {@code Vinyl::artist} in a loop)</i> gets an instance of the same class,
+     * and everything in its {@link SerializedLambda} except the captured arguments comes from that class, so it's safe to only resolve it once.
+     *
+     * @implNote {@link ClassValue#computeValue(Class)} only gets the {@link Class}, but {@link #toSerializedLambda(Serializable)} needs an instance,
+     * so each class gets an empty cell that the first caller fills in. If two threads race, they'll both find the same component.
+     */
+    private static final ClassValue<AtomicReference<RecordComponent>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected AtomicReference<RecordComponent> computeValue(Class<?> lambdaType) {
+            return new AtomicReference<>();
+        }
+    };
+
     private static RecordComponent getRecordComponent(SerializedLambda serializedGetter) {
         var componentName = getNameFromMethodReference(serializedGetter);
         var recordClass = getRecordClass(serializedGetter);
@@ -73,8 +90,14 @@ final class RecordGetterHelpers {
 
     @Contract(pure = true)
     public static <GETTER extends Function<? extends Record, ?> & Serializable> RecordComponent getRecordComponent(GETTER getterMethodReference) {
-        var serializedGetter = toSerializedLambda(getterMethodReference);
-        return getRecordComponent(serializedGetter);
+        var cell     = RESOLVED.get(getterMethodReference.getClass());
+        var resolved = cell.get();
+        if (resolved == null) {
+            resolved = getRecordComponent(toSerializedLambda(getterMethodReference));
+            cell.set(resolved);
+        }
+
+        return resolved;
     }
 
     private static String getNameFromMethodReference(SerializedLambda methodReference) {
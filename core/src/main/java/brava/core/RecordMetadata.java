@@ -0,0 +1,328 @@
+package brava.core;
+
+import brava.core.exceptions.UncheckedReflectionException;
+import brava.core.exceptions.UnreachableException;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Primitives;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Everything {@link Records} and {@link RecordBuilder} need to know about a {@link Record} type, worked out once and then cached for as long as the type is loaded.
+ * <p>
+ * Looking things up with reflection every time is slow: {@link Class#getRecordComponents()} copies its array on every call
+ * <i>(and the first call can take up to a second)</i>, {@link Class#getConstructor(Class[])} searches every constructor,
+ * and core reflection re-checks access on every {@link Constructor#newInstance(Object...)}.
+ * Instead, I compile the canonical constructor and each accessor into a {@link MethodHandle} up front.
+ *
+ * @param <R> the {@link Record} type
+ */
+@ApiStatus.Experimental
+public final class RecordMetadata<R extends Record> {
+    private static final ClassValue<RecordMetadata<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected RecordMetadata<?> computeValue(@NotNull Class<?> type) {
+            if (!type.isRecord()) {
+                throw new IllegalArgumentException("The type %s must be a %s!".formatted(type, Record.class));
+            }
+
+            return new RecordMetadata<>(type.asSubclass(Record.class));
+        }
+    };
+
+    /**
+     * The numeric primitives, in order of how wide they are. Each one can be widened into any of the ones after it, except for {@code char}.
+     */
+    private static final List<Class<?>> WIDENING_ORDER = List.of(byte.class, short.class, char.class, int.class, long.class, float.class, double.class);
+
+    private final Class<R>              recordType;
+    private final RecordComponent[]     components;
+    private final List<RecordComponent> componentList;
+    /**
+     * The boxed {@link RecordComponent#getType()}s, for {@link Class#isInstance(Object)} checks.
+     */
+    private final Class<?>[]            boxedTypes;
+    private final Constructor<R>        canonicalConstructor;
+    /**
+     * The canonical constructor, spread to {@code (Object[])Object}.
+     */
+    private final MethodHandle          constructor;
+    /**
+     * Each {@link RecordComponent#getAccessor()}, adapted to {@code (Object)Object}.
+     */
+    private final MethodHandle[]        accessors;
+    /**
+     * The canonical constructor and accessors with their real types, for building {@link #witherHandle(int)}s and {@link #copierHandle(MethodHandle[])}s.
+     */
+    private final MethodHandle          directConstructor;
+    private final MethodHandle[]        directAccessors;
+
+    private RecordMetadata(@NotNull Class<R> recordType) {
+        this.recordType    = recordType;
+        this.components    = recordType.getRecordComponents();
+        this.componentList = List.of(components);
+        this.boxedTypes    = new Class<?>[components.length];
+        var types    = new Class<?>[components.length];
+        var lookup   = MethodHandles.lookup();
+        var getter   = MethodType.methodType(Object.class, Object.class);
+        this.accessors       = new MethodHandle[components.length];
+        this.directAccessors = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i]      = components[i].getType();
+            boxedTypes[i] = Primitives.wrap(types[i]);
+            var accessor = components[i].getAccessor();
+            accessor.trySetAccessible();
+            directAccessors[i] = Reflection.invoke(() -> lookup.unreflect(accessor));
+            accessors[i]       = directAccessors[i].asType(getter);
+        }
+
+        try {
+            // 📎 The canonical constructor is only `public` if the record is, so we have to look through all of them.
+            this.canonicalConstructor = recordType.getDeclaredConstructor(types);
+        } catch (NoSuchMethodException e) {
+            throw new UnreachableException(e);
+        }
+
+        canonicalConstructor.trySetAccessible();
+
+        this.directConstructor = Reflection.invoke(() -> lookup.unreflectConstructor(canonicalConstructor));
+        this.constructor       = directConstructor.asSpreader(Object[].class, components.length)
+                                                  .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    /**
+     * @param recordType a {@link Record} type
+     * @param <R>        the {@link Record} type
+     * @return the (cached) {@link RecordMetadata} for {@link R}
+     * @throws IllegalArgumentException     if {@code recordType} isn't a {@link Record}
+     * @throws UncheckedReflectionException if {@code recordType} isn't accessible, e.g. because it's in a module that isn't open to us
+     */
+    @Contract(pure = true)
+    public static <R extends Record> @NotNull RecordMetadata<R> of(@NotNull Class<R> recordType) {
+        return Unchecked.cast(CACHE.get(recordType));
+    }
+
+    /**
+     * @return the {@link Record} type
+     */
+    @Contract(pure = true)
+    public @NotNull Class<R> recordType() {
+        return recordType;
+    }
+
+    /**
+     * @return {@link R}'s {@link RecordComponent}s, in canonical order
+     * @apiNote Unlike {@link Class#getRecordComponents()}, this doesn't make a new copy every time.
+     */
+    @Contract(pure = true)
+    public @NotNull List<RecordComponent> components() {
+        return componentList;
+    }
+
+    /**
+     * @return the number of {@link RecordComponent}s
+     */
+    @Contract(pure = true)
+    public int arity() {
+        return components.length;
+    }
+
+    /**
+     * @param component a {@link RecordComponent}, which doesn't have to be the same instance as the one in {@link #components()}
+     * @return the position of {@code component} in the canonical order, or {@code -1} if it isn't one of {@link R}'s components
+     * @see Records#areSameComponent(RecordComponent, RecordComponent)
+     */
+    @Contract(pure = true)
+    public int indexOf(@NotNull RecordComponent component) {
+        if (component.getDeclaringRecord() != recordType) {
+            return -1;
+        }
+
+        // 📎 Component names are unique within a record, and comparing them is much cheaper than comparing accessor `Method`s.
+        var name = component.getName();
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].getName().equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return the <a href="https://docs.oracle.com/javase/specs/jls/se21/html/jls-8.html#jls-8.10.4">canonical constructor</a>
+     */
+    @Contract(pure = true)
+    public @NotNull Constructor<R> canonicalConstructor() {
+        return canonicalConstructor;
+    }
+
+    /**
+     * @return the canonical constructor as a {@link MethodHandle} that takes all of the component values as a single array, i.e. {@code (Object[])Object}
+     * @apiNote This doesn't check its arguments first, like {@link #construct(Object...)} does.
+     */
+    @Contract(pure = true)
+    public @NotNull MethodHandle constructorHandle() {
+        return constructor;
+    }
+
+    /**
+     * Compiles a "wither" for one of {@link R}'s components: a {@link MethodHandle} that copies a {@link R}, but with a new value for that component.
+     * <p>
+     * The other components are passed straight from their accessors to the canonical constructor, so there's no array or boxing in between,
+     * and the whole thing can be inlined like a hand-written {@code new R(original.a(), original.b(), newC)}.
+     *
+     * @param index the position of a {@link RecordComponent} in {@link #components()}
+     * @return a new {@link MethodHandle} whose {@link MethodHandle#type()} is {@code (R, T)R}, where {@code T} is the {@link RecordComponent#getType()}
+     */
+    @Contract(pure = true)
+    public @NotNull MethodHandle witherHandle(int index) {
+        Objects.checkIndex(index, components.length);
+
+        // ctor(a, b, c) -> ctor(a(r), b(r), c)...
+        var filters = directAccessors.clone();
+        filters[index] = null;
+        var filtered = MethodHandles.filterArguments(directConstructor, 0, filters);
+
+        // ...and then every `R` argument is the same one: (r, c) -> ctor(a(r), b(r), c)
+        var reorder = new int[components.length];
+        reorder[index] = 1;
+        return MethodHandles.permuteArguments(filtered, MethodType.methodType(recordType, recordType, components[index].getType()), reorder);
+    }
+
+    /**
+     * @return the {@code index}th {@link RecordComponent#getAccessor()}, as an {@code (R)T} {@link MethodHandle}
+     */
+    @Contract(pure = true)
+    @NotNull MethodHandle accessorHandle(int index) {
+        return directAccessors[index];
+    }
+
+    /**
+     * Compiles a function that copies a {@link R}, but replaces some of its components.
+     *
+     * @param replacements for each component, either {@code null} to copy it as-is, or an {@code (R)T} {@link MethodHandle} that computes its new value
+     *                     from the original {@link R}, where {@code T} is the {@link RecordComponent#getType()}
+     * @return a new {@link MethodHandle} whose {@link MethodHandle#type()} is {@code (R)R}
+     * @see RecordTransform#compile()
+     */
+    @Contract(pure = true)
+    @NotNull MethodHandle copierHandle(@Nullable MethodHandle @NotNull [] replacements) {
+        Preconditions.checkArgument(replacements.length == components.length, "%s has %s components, but %s replacements were given!", recordType.getSimpleName(), components.length, replacements.length);
+
+        var filters = directAccessors.clone();
+        for (int i = 0; i < filters.length; i++) {
+            if (replacements[i] != null) {
+                filters[i] = replacements[i];
+            }
+        }
+
+        // Every argument is now the original `R`, so it only needs to be passed in once
+        var filtered = MethodHandles.filterArguments(directConstructor, 0, filters);
+        return MethodHandles.permuteArguments(filtered, MethodType.methodType(recordType, recordType), new int[components.length]);
+    }
+
+    /**
+     * @param rec   an instance of {@link R}
+     * @param index the position of a {@link RecordComponent} in {@link #components()}
+     * @return the value of that component
+     */
+    @Contract(pure = true)
+    public @Nullable Object get(@NotNull R rec, int index) {
+        try {
+            return (Object) accessors[index].invokeExact((Object) rec);
+        } catch (Throwable e) {
+            // 📎 Accessors can't declare checked exceptions, and the implicit ones can't throw at all.
+            return Unchecked.rethrow(e);
+        }
+    }
+
+    /**
+     * @param rec an instance of {@link R}
+     * @return all of {@code rec}'s component values, in canonical order
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public @Nullable Object @NotNull [] values(@NotNull R rec) {
+        var values = new Object[components.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(rec, i);
+        }
+
+        return values;
+    }
+
+    /**
+     * Instantiates {@link R} with its canonical constructor.
+     *
+     * @param componentValues the value for each component, in canonical order
+     * @return a new instance of {@link R}
+     * @throws IllegalArgumentException if there are the wrong number of values, or one of them is the wrong type
+     *                                  <i>(just like {@link Constructor#newInstance(Object...)})</i>
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public @NotNull R construct(@Nullable Object @NotNull ... componentValues) {
+        checkArguments(componentValues);
+
+        try {
+            return Unchecked.cast((Object) constructor.invokeExact(componentValues));
+        } catch (Throwable e) {
+            // 📎 Canonical constructors can't declare checked exceptions, so this is really just unchecked exceptions and errors.
+            return Unchecked.rethrow(e);
+        }
+    }
+
+    private void checkArguments(@Nullable Object @NotNull [] componentValues) {
+        if (componentValues.length != components.length) {
+            throw new IllegalArgumentException("%s has %s components, but %s values were given!".formatted(recordType.getSimpleName(), components.length, componentValues.length));
+        }
+
+        for (int i = 0; i < componentValues.length; i++) {
+            checkValue(i, componentValues[i]);
+        }
+    }
+
+    /**
+     * Checks a value up front, so that it can be passed to {@link #constructorHandle()} later without checking it again.
+     *
+     * @param index the position of a {@link RecordComponent} in {@link #components()}
+     * @param value a possible value for that component
+     * @throws IllegalArgumentException if {@code value} can't be passed to the canonical constructor as the {@code index}th component
+     *                                  <i>(the same way as {@link #construct(Object...)})</i>
+     */
+    @Contract(pure = true)
+    public void checkValue(int index, @Nullable Object value) {
+        var type = components[index].getType();
+        if (value == null ? type.isPrimitive() : !(boxedTypes[index].isInstance(value) || widens(value, type))) {
+            throw new IllegalArgumentException("The component %s.%s must be a %s, but was given %s!".formatted(recordType.getSimpleName(), components[index].getName(), type.getTypeName(), value));
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code value} can be unboxed and then <a href="https://docs.oracle.com/javase/specs/jls/se17/html/jls-5.html#jls-5.1.2">widened</a> into a {@code primitive},
+     * which {@link Constructor#newInstance(Object...)} allows
+     */
+    private static boolean widens(@NotNull Object value, @NotNull Class<?> primitive) {
+        var from = Primitives.unwrap(value.getClass());
+        if (!primitive.isPrimitive() || !from.isPrimitive() || primitive == char.class) {
+            return false;
+        }
+
+        var rank = WIDENING_ORDER.indexOf(from);
+        return rank >= 0 && rank < WIDENING_ORDER.indexOf(primitive);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "RecordMetadata[" + recordType.getName() + "]";
+    }
+}
@@ -0,0 +1,310 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The differences between two instances of a {@link Record}, as a list of the {@link RecordComponent}s that changed and their new values.
+ * <p>
+ * Where a component is itself a {@link Record}, the change can be a nested {@link RecordPatch} instead of a whole new value.
+ * Patches can be chained together with {@link #andThen(RecordPatch)}, so a stream of them can be {@link #squash(Class, Iterable)}ed into one.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * record Vinyl(String artist, String title, int year) { }
+ *
+ * var fat    = new Vinyl("\"Weird Al\" Yankovic", "Fat", 1988);
+ * var eatIt  = new Vinyl("\"Weird Al\" Yankovic", "Eat It", 1984);
+ *
+ * RecordPatch<Vinyl> patch = Records.diff(fat, eatIt); // => RecordPatch<Vinyl>[title=Eat It, year=1984]
+ * Records.patch(fat, patch);                           // => eatIt
+ * }</pre>
+ *
+ * @param <R> the {@link Record} type
+ * @see RecordDiffer
+ * @see Records#diff(Record, Record)
+ * @see Records#patch(Record, RecordPatch)
+ */
+@ApiStatus.Experimental
+public final class RecordPatch<R extends @NotNull Record> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Class<R>  recordType;
+    /**
+     * The positions of the changed components, in ascending order.
+     */
+    private final int[]     indices;
+    /**
+     * For each of the {@link #indices}, either the component's new value, or a {@link RecordPatch} to apply to its old value.
+     */
+    private final Object[]  changes;
+    private final boolean[] nested;
+
+    RecordPatch(@NotNull Class<R> recordType, int @NotNull [] indices, @Nullable Object @NotNull [] changes, boolean @NotNull [] nested) {
+        this.recordType = recordType;
+        this.indices    = indices;
+        this.changes    = changes;
+        this.nested     = nested;
+    }
+
+    /**
+     * @param recordType the {@link Record} type
+     * @param <R>        the {@link Record} type
+     * @return a {@link RecordPatch} that doesn't change anything
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <R extends @NotNull Record> @NotNull RecordPatch<R> empty(@NotNull Class<R> recordType) {
+        return new RecordPatch<>(recordType, new int[0], new Object[0], new boolean[0]);
+    }
+
+    /**
+     * {@link #andThen(RecordPatch) Chains} a sequence of {@link RecordPatch}es together into one.
+     *
+     * @param recordType the {@link Record} type
+     * @param patches    {@link RecordPatch}es to apply one after another
+     * @param <R>        the {@link Record} type
+     * @return a single {@link RecordPatch} that does the same thing as all of the {@code patches} in order
+     * @apiNote {@link #andThen(RecordPatch)} is associative, and {@link #empty(Class)} is its identity,
+     * so you can also squash a {@link java.util.stream.Stream} with {@code patches.reduce(RecordPatch.empty(type), RecordPatch::andThen)}.
+     */
+    @Contract(pure = true)
+    public static <R extends @NotNull Record> @NotNull RecordPatch<R> squash(@NotNull Class<R> recordType, @NotNull Iterable<? extends RecordPatch<R>> patches) {
+        var squashed = empty(recordType);
+        for (var patch : patches) {
+            squashed = squashed.andThen(patch);
+        }
+
+        return squashed;
+    }
+
+    /**
+     * @return the {@link Record} type
+     */
+    @Contract(pure = true)
+    public @NotNull Class<R> recordType() {
+        return recordType;
+    }
+
+    /**
+     * @return {@code true} if this doesn't change anything
+     */
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /**
+     * @return the {@link RecordComponent}s that this changes, in canonical order
+     */
+    @Contract(pure = true)
+    public @NotNull List<RecordComponent> changedComponents() {
+        var components = RecordMetadata.of(recordType).components();
+        return Arrays.stream(indices)
+            .mapToObj(components::get)
+            .toList();
+    }
+
+    /**
+     * Creates a copy of {@code original} with the changes in this {@link RecordPatch}.
+     *
+     * @param original an instance of {@link R}
+     * @return a new instance of {@link R}, or {@code original} itself if this {@link #isEmpty()}
+     * @throws IllegalArgumentException if a nested {@link RecordPatch} would be applied to a {@code null} component
+     * @see Records#patch(Record, RecordPatch)
+     */
+    @Contract(pure = true)
+    public @NotNull R applyTo(@NotNull R original) {
+        Preconditions.checkArgument(recordType.isInstance(original), "Can't apply a %s to a %s!", this, original.getClass());
+        if (isEmpty()) {
+            return original;
+        }
+
+        var metadata = RecordMetadata.of(recordType);
+        var values   = metadata.values(original);
+        for (int i = 0; i < indices.length; i++) {
+            var index = indices[i];
+            values[index] = nested[i] ? applyNested(changes[i], values[index], metadata.components().get(index)) : changes[i];
+        }
+
+        return metadata.construct(values);
+    }
+
+    private static @NotNull Object applyNested(@Nullable Object patch, @Nullable Object value, @NotNull RecordComponent component) {
+        if (value == null) {
+            throw new IllegalArgumentException("Can't apply the nested %s to the component `%s`, because it's null!".formatted(patch, component));
+        }
+
+        RecordPatch<Record> nestedPatch = Unchecked.cast(patch);
+        return nestedPatch.applyTo((Record) value);
+    }
+
+    /**
+     * @param next the {@link RecordPatch} to apply after this one
+     * @return a new {@link RecordPatch} that does the same thing as applying this one and then {@code next}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public @NotNull RecordPatch<R> andThen(@NotNull RecordPatch<R> next) {
+        Preconditions.checkArgument(recordType == next.recordType, "Can't chain a %s after a %s!", next, this);
+
+        // 📎 This is a standard merge of two sorted lists, where `next` wins when they both change the same component.
+        var size    = indices.length + next.indices.length;
+        var indices = new int[size];
+        var changes = new Object[size];
+        var nested  = new boolean[size];
+        int count   = 0;
+        int a       = 0;
+        int b       = 0;
+        while (a < this.indices.length || b < next.indices.length) {
+            var ours   = a < this.indices.length ? this.indices[a] : Integer.MAX_VALUE;
+            var theirs = b < next.indices.length ? next.indices[b] : Integer.MAX_VALUE;
+            if (ours < theirs) {
+                indices[count] = ours;
+                changes[count] = this.changes[a];
+                nested[count]  = this.nested[a++];
+            } else if (theirs < ours || !next.nested[b]) {
+                // Either only `next` changes this component, or it replaces the whole value
+                indices[count] = theirs;
+                changes[count] = next.changes[b];
+                nested[count]  = next.nested[b++];
+                if (ours == theirs) {
+                    a++;
+                }
+            } else {
+                // `next` patches a component that we've changed too
+                indices[count] = ours;
+                if (this.nested[a]) {
+                    RecordPatch<Record> first = Unchecked.cast(this.changes[a]);
+                    changes[count] = first.andThen(Unchecked.cast(next.changes[b]));
+                    nested[count]  = true;
+                } else {
+                    changes[count] = applyNested(next.changes[b], this.changes[a], RecordMetadata.of(recordType).components().get(ours));
+                }
+
+                a++;
+                b++;
+            }
+
+            count++;
+        }
+
+        return new RecordPatch<>(recordType, Arrays.copyOf(indices, count), Arrays.copyOf(changes, count), Arrays.copyOf(nested, count));
+    }
+
+    /**
+     * @return {@code true} if the other {@link RecordPatch} makes exactly the same changes to the same type
+     */
+    @Contract(pure = true, value = "null -> false")
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        return obj == this || obj instanceof RecordPatch<?> other
+            && recordType == other.recordType
+            && Arrays.equals(indices, other.indices)
+            && Arrays.equals(nested, other.nested)
+            && Arrays.equals(changes, other.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(recordType, Arrays.hashCode(indices), Arrays.hashCode(changes));
+    }
+
+    //region Serialization
+
+    /**
+     * @implNote The default serialized form would include a class descriptor for each of our arrays, which can make a patch bigger than the record it patches.
+     */
+    @Serial
+    private @NotNull Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    @Serial
+    private void readObject(@NotNull ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("%s must be deserialized through its %s!".formatted(RecordPatch.class.getSimpleName(), SerializedForm.class.getSimpleName()));
+    }
+
+    /**
+     * The <a href="https://www.oracle.com/technical-resources/articles/java/serialization.html">serialization proxy</a> for a {@link RecordPatch},
+     * which writes each change as its component index, followed by either its new value or its nested {@link RecordPatch}.
+     */
+    private static final class SerializedForm implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private transient RecordPatch<?> patch;
+
+        private SerializedForm(@NotNull RecordPatch<?> patch) {
+            this.patch = patch;
+        }
+
+        @Serial
+        private void writeObject(@NotNull ObjectOutputStream stream) throws IOException {
+            stream.writeObject(patch.recordType);
+            stream.writeShort(patch.indices.length);
+            for (int i = 0; i < patch.indices.length; i++) {
+                // 📎 Records can't have more than 255 components, so the sign bit is free to mark the nested patches.
+                stream.writeShort(patch.nested[i] ? ~patch.indices[i] : patch.indices[i]);
+                stream.writeObject(patch.changes[i]);
+            }
+        }
+
+        @Serial
+        private void readObject(@NotNull ObjectInputStream stream) throws IOException, ClassNotFoundException {
+            var recordType = (Class<?>) stream.readObject();
+            if (!recordType.isRecord()) {
+                throw new InvalidObjectException("%s isn't a %s!".formatted(recordType, Record.class));
+            }
+
+            var count   = stream.readShort();
+            var arity   = RecordMetadata.of(recordType.asSubclass(Record.class)).arity();
+            var indices = new int[count];
+            var changes = new Object[count];
+            var nested  = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                var index = (int) stream.readShort();
+                nested[i]  = index < 0;
+                indices[i] = nested[i] ? ~index : index;
+                changes[i] = stream.readObject();
+                if (indices[i] >= arity || i > 0 && indices[i] <= indices[i - 1] || nested[i] && !(changes[i] instanceof RecordPatch<?>)) {
+                    throw new InvalidObjectException("Invalid change #%s to %s!".formatted(i, recordType));
+                }
+            }
+
+            this.patch = new RecordPatch<>(recordType.asSubclass(Record.class), indices, changes, nested);
+        }
+
+        @Serial
+        private @NotNull Object readResolve() {
+            return patch;
+        }
+    }
+
+    //endregion
+
+    @Override
+    public @NotNull String toString() {
+        var components = RecordMetadata.of(recordType).components();
+        var joiner     = new StringJoiner(", ", "RecordPatch<" + recordType.getSimpleName() + ">[", "]");
+        for (int i = 0; i < indices.length; i++) {
+            joiner.add(components.get(indices[i]).getName() + "=" + changes[i]);
+        }
+
+        return joiner.toString();
+    }
+}
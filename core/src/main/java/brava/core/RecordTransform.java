@@ -0,0 +1,188 @@
+package brava.core;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Describes changes to make to each {@link R} in a batch, which are {@link #compile()}d into a single plan that copies a whole {@link R} in one go.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * record Release(String title, String status, int version) { }
+ *
+ * var publish = RecordTransform.of(Release.class)
+ *     .set(Release::status, "published")
+ *     .update(Release::version, version -> version + 1);
+ *
+ * List<Release> published = Records.transformAll(drafts, publish);
+ * }</pre>
+ *
+ * @param <R> the {@link Record} type
+ * @see Records#transformAll(List, RecordTransform)
+ * @see Records#parallelTransformAll(List, RecordTransform)
+ */
+@ApiStatus.Experimental
+public final class RecordTransform<R extends @NotNull Record> {
+    private static final MethodHandle APPLY = Reflection.invoke(() -> MethodHandles.publicLookup().findVirtual(
+        Function.class,
+        "apply",
+        MethodType.methodType(Object.class, Object.class)
+    ));
+
+    private final RecordMetadata<R>          metadata;
+    /**
+     * The new value for each component that was {@link #set(Records.GetterMethod, Object)}.
+     */
+    private final Object[]                   constants;
+    private final boolean[]                  isConstant;
+    /**
+     * How to compute the new value for each component that was {@link #update(Records.GetterMethod, Function)}d, from its old value.
+     */
+    private final Function<Object, Object>[] functions;
+
+    private RecordTransform(@NotNull RecordMetadata<R> metadata) {
+        this.metadata   = metadata;
+        this.constants  = new Object[metadata.arity()];
+        this.isConstant = new boolean[metadata.arity()];
+        this.functions  = Unchecked.cast(new Function<?, ?>[metadata.arity()]);
+    }
+
+    /**
+     * @param recordType the {@link Record} type
+     * @param <R>        the {@link Record} type
+     * @return a new {@link RecordTransform} that doesn't change anything (yet)
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <R extends @NotNull Record> @NotNull RecordTransform<R> of(@NotNull Class<R> recordType) {
+        return new RecordTransform<>(RecordMetadata.of(recordType));
+    }
+
+    private int indexOf(@NotNull Records.GetterMethod<R, ?> getter) {
+        var component = RecordGetterHelpers.getRecordComponent(getter);
+        var index     = metadata.indexOf(component);
+        if (index < 0) {
+            throw new IllegalArgumentException("The component `%s` must be a member of the record type %s".formatted(component, metadata.recordType()));
+        }
+
+        return index;
+    }
+
+    /**
+     * Gives a component the same new value in every {@link R}, replacing anything this {@link RecordTransform} was going to do to it before.
+     *
+     * @param getter a {@link Records.GetterMethod} reference to one of {@link R}'s {@link RecordComponent#getAccessor()}s
+     * @param value  the new value for the component
+     * @param <T>    the {@link RecordComponent#getType()}
+     * @return this {@link RecordTransform}
+     * @throws IllegalArgumentException if the {@code value} is {@code null} for a primitive component
+     */
+    @Contract("_, _ -> this")
+    public <T> @NotNull RecordTransform<R> set(@NotNull Records.GetterMethod<R, T> getter, T value) {
+        var index = indexOf(getter);
+        metadata.checkValue(index, value);
+        constants[index]  = value;
+        isConstant[index] = true;
+        functions[index]  = null;
+        return this;
+    }
+
+    /**
+     * Computes the new value of a component from its old one, after anything this {@link RecordTransform} was already going to do to it.
+     *
+     * @param getter   a {@link Records.GetterMethod} reference to one of {@link R}'s {@link RecordComponent#getAccessor()}s
+     * @param function computes the new value for the component from its current value
+     * @param <T>      the {@link RecordComponent#getType()}
+     * @return this {@link RecordTransform}
+     * @apiNote If the component is primitive, the {@code function} must not return {@code null}.
+     */
+    @Contract("_, _ -> this")
+    public <T> @NotNull RecordTransform<R> update(@NotNull Records.GetterMethod<R, T> getter, @NotNull Function<? super T, ? extends T> function) {
+        var index   = indexOf(getter);
+        var updater = Unchecked.<Function<Object, Object>>cast(function);
+        if (isConstant[index]) {
+            var constant = constants[index];
+            functions[index]  = ignored -> updater.apply(constant);
+            constants[index]  = null;
+            isConstant[index] = false;
+        } else if (functions[index] != null) {
+            functions[index] = functions[index].andThen(updater);
+        } else {
+            functions[index] = updater;
+        }
+
+        return this;
+    }
+
+    /**
+     * Compiles this {@link RecordTransform} into a single {@link MethodHandle} that passes each component straight from its accessor
+     * <i>(or its new value)</i> into the canonical constructor.
+     *
+     * @return a reusable function that applies this {@link RecordTransform} to an {@link R}
+     * @apiNote Changing this {@link RecordTransform} afterwards doesn't affect the compiled function.
+     */
+    @Contract(pure = true, value = "-> new")
+    public @NotNull UnaryOperator<R> compile() {
+        var recordType   = metadata.recordType();
+        var replacements = new MethodHandle[metadata.arity()];
+        for (int i = 0; i < replacements.length; i++) {
+            var type = metadata.components().get(i).getType();
+            if (isConstant[i]) {
+                replacements[i] = MethodHandles.dropArguments(MethodHandles.constant(type, constants[i]), 0, recordType);
+            } else if (functions[i] != null) {
+                var getter = metadata.accessorHandle(i).asType(MethodType.methodType(Object.class, recordType));
+                replacements[i] = MethodHandles.filterReturnValue(getter, APPLY.bindTo(functions[i]))
+                                               .asType(MethodType.methodType(type, recordType));
+            }
+        }
+
+        var copier = metadata.copierHandle(replacements)
+                             .asType(MethodType.methodType(Object.class, Object.class));
+        return new Plan<>(toString(), copier);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        var joiner = new StringJoiner(", ", "RecordTransform<" + metadata.recordType().getSimpleName() + ">[", "]");
+        for (int i = 0; i < constants.length; i++) {
+            var name = metadata.components().get(i).getName();
+            if (isConstant[i]) {
+                joiner.add(name + "=" + constants[i]);
+            } else if (functions[i] != null) {
+                joiner.add(name + "=" + name + "'");
+            }
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * @param description the {@link RecordTransform#toString()} at the time it was compiled
+     * @param handle      a {@link RecordMetadata#copierHandle(MethodHandle[])}, adapted to {@code (Object)Object}
+     * @implNote Like {@code Records.Wither}, this is a {@link Record} so that the JIT can trust that {@link #handle} is {@code final}.
+     */
+    private record Plan<R>(@NotNull String description, @NotNull MethodHandle handle) implements UnaryOperator<R> {
+        @Override
+        public R apply(@NotNull R original) {
+            try {
+                return Unchecked.cast((Object) handle.invokeExact((Object) original));
+            } catch (Throwable e) {
+                return Unchecked.rethrow(e);
+            }
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return description;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package brava.core;
 
-import brava.core.exceptions.UnreachableException;
 import com.google.common.base.Equivalence;
 import com.google.common.collect.Iterables;
 import com.google.common.reflect.TypeToken;
@@ -10,16 +9,24 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.RecordComponent;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 /**
  * Hacker tools for working with {@link Record}s.
  *
  * @implNote The first time you call {@link Class#getRecordComponents()} appears to be quite slow (up to a second), but it becomes almost instant after that 🤷‍♀️
+ * Either way, everything here goes through the cached {@link RecordMetadata}, so it only happens once per type.
  */
 @ApiStatus.Experimental
 public final class Records {
@@ -51,15 +58,24 @@ public final class Records {
      */
     @Contract(pure = true)
     public static <R extends Record> @NotNull Constructor<R> getCanonicalConstructor(@NotNull Class<R> recordType) {
-        var componentTypes = Arrays.stream(recordType.getRecordComponents())
-              .map(RecordComponent::getType)
-              .toArray(Class<?>[]::new);
-
-        try {
-            return recordType.getConstructor(componentTypes);
-        } catch (NoSuchMethodException e) {
-            throw new UnreachableException(e);
-        }
+        return RecordMetadata.of(recordType).canonicalConstructor();
+    }
+
+    /**
+     * Compiles {@link R}'s <a href="https://docs.oracle.com/javase/specs/jls/se21/html/jls-8.html#jls-8.10.4">canonical constructor</a> into a {@link MethodHandle}
+     * that takes all of the component values as a single array, i.e. whose {@link MethodHandle#type()} is {@code (Object[])Object}.
+     * <p>
+     * Look the handle up once and then {@link MethodHandle#invokeExact(Object...)} it for each instance:
+     * unlike {@link Constructor#newInstance(Object...)}, it doesn't re-check access or wrap its arguments on every call.
+     *
+     * @param recordType a {@link Record} type
+     * @param <R>        the type of {@link Record}
+     * @return a spread {@link MethodHandle} for the canonical constructor
+     * @see RecordMetadata#constructorHandle()
+     */
+    @Contract(pure = true)
+    public static <R extends Record> @NotNull MethodHandle getCanonicalConstructorHandle(@NotNull Class<R> recordType) {
+        return RecordMetadata.of(recordType).constructorHandle();
     }
 
     /**
@@ -69,15 +85,17 @@ public final class Records {
      * @param componentValues the arguments to the canonical {@link Constructor#newInstance(Object...)}
      * @param <R>             the {@link Record} type
      * @return a new {@link R} instance
+     * @throws IllegalArgumentException if there are the wrong number of values, or one of them is the wrong type
+     * @see RecordMetadata#construct(Object...)
      */
     @Contract(pure = true, value = "_, _ -> new")
     public static <R extends Record> @NotNull R construct(
         @NotNull TypeToken<R> recordType,
         @NotNull Iterable<?> componentValues
     ) {
-        var constructor = getCanonicalConstructor(recordType);
-        var args        = Iterables.toArray(componentValues, Object.class);
-        return Reflection.invoke(() -> constructor.newInstance(args));
+        @SuppressWarnings("unchecked" /* Records are always `final`, so this is a safe cast. */)
+        var rType = (Class<R>) recordType.getRawType();
+        return RecordMetadata.of(rType).construct(Iterables.toArray(componentValues, Object.class));
     }
     //endregion
 
@@ -95,13 +113,8 @@ public final class Records {
             throw new IllegalArgumentException("The given %s `%s` is a part of %s, not %s!".formatted(RecordComponent.class.getSimpleName(), component.getName(), component.getDeclaringRecord(), rec.getClass()));
         }
 
-        try {
-            return component.getAccessor().invoke(rec);
-        } catch (InvocationTargetException e) {
-            throw new UnreachableException("Somehow, the %s `%s`'s accessor threw an exception - how is that possible?!", e);
-        } catch (IllegalAccessException e) {
-            throw new UnreachableException("Somehow, the %s `%s` didn't have a public accessor - how is that possible?!".formatted(RecordComponent.class.getSimpleName(), component), e);
-        }
+        RecordMetadata<R> metadata = RecordMetadata.of(Unchecked.cast(rec.getClass()));
+        return metadata.get(rec, metadata.indexOf(component));
     }
 
     /**
@@ -247,15 +260,157 @@ public final class Records {
      * @param value    the new value for the {@link RecordComponent}
      * @return a new instance of {@link R}
      * @apiNote If you need to modify multiple components, you should instead call {@link #builder(Record)} and then chain multiple {@link RecordBuilder#with(GetterMethod, Object)} calls together.
+     * If you're going to modify the same component over and over, use a {@link #wither(GetterMethod)} instead.
      */
     public static <R extends @NotNull Record, T> @NotNull R with(
         @NotNull R original,
         @NotNull GetterMethod<R, T> getter,
         T value
     ) {
-        return RecordBuilder.from(original)
-            .with(getter, value)
-            .build();
+        RecordMetadata<R> metadata = RecordMetadata.of(Unchecked.cast(original.getClass()));
+        var values = metadata.values(original);
+        values[metadata.indexOf(RecordGetterHelpers.getRecordComponent(getter))] = value;
+        return metadata.construct(values);
+    }
+
+    /**
+     * Compiles a reusable function that does the same thing as {@link #with(Record, GetterMethod, Object)}, but without any reflection, arrays, or lookups on each call.
+     *
+     * <h1>Example</h1>
+     * <pre>{@code
+     * record Vinyl(String artist, String title, int year) { }
+     *
+     * BiFunction<Vinyl, Integer, Vinyl> withYear = Records.wither(Vinyl::year);
+     *
+     * var fat        = new Vinyl("\"Weird Al\" Yankovic", "Fat", 1988);
+     * var remastered = withYear.apply(fat, 2024); // => Vinyl["Weird Al" Yankovic, Fat, 2024]
+     * }</pre>
+     *
+     * @param getter a {@link GetterMethod} reference to one of {@link R}'s {@link RecordComponent#getAccessor()}s
+     * @param <R>    the {@link Record} type
+     * @param <T>    the {@link RecordComponent#getType()}
+     * @return a {@link BiFunction} that copies an {@link R}, but with a new value for the {@code getter}'s component
+     * @throws IllegalArgumentException if the {@code getter} isn't a method reference
+     * @apiNote Hang on to the result, since compiling it is much slower than calling it.
+     * Unlike {@link #with(Record, GetterMethod, Object)}, a {@code null} value for a primitive component throws a {@link NullPointerException}.
+     * @see RecordMetadata#witherHandle(int)
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <R extends @NotNull Record, T> @NotNull BiFunction<R, T, R> wither(@NotNull GetterMethod<R, T> getter) {
+        var component = RecordGetterHelpers.getRecordComponent(getter);
+        RecordMetadata<R> metadata = RecordMetadata.of(Unchecked.cast(component.getDeclaringRecord()));
+        var handle = metadata.witherHandle(metadata.indexOf(component))
+                             .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+        return new Wither<>(component, handle);
+    }
+
+    /**
+     * @param component the {@link RecordComponent} that gets replaced
+     * @param handle    a {@link RecordMetadata#witherHandle(int)}, adapted to {@code (Object, Object)Object}
+     * @implNote The JIT treats the fields of a {@link Record} as truly {@code final}, which means that once the {@link Wither} itself is inlined,
+     * so is the {@link #handle} <i>(which isn't the case for an ordinary class)</i>.
+     */
+    private record Wither<R, T>(@NotNull RecordComponent component, @NotNull MethodHandle handle) implements BiFunction<R, T, R> {
+        @Override
+        public R apply(R original, T value) {
+            try {
+                return Unchecked.cast((Object) handle.invokeExact((Object) original, (Object) value));
+            } catch (Throwable e) {
+                return Unchecked.rethrow(e);
+            }
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Wither[" + component.getDeclaringRecord().getSimpleName() + "." + component.getName() + "]";
+        }
+    }
+
+    /**
+     * Applies a {@link RecordTransform} to every {@link R} in a {@link List}.
+     * <p>
+     * The {@link RecordTransform} is {@link RecordTransform#compile()}d once, and then each {@link R} is copied by a single {@link MethodHandle}
+     * that passes its components straight from their accessors <i>(or their new values)</i> to the canonical constructor.
+     *
+     * @param records   the original {@link R}s
+     * @param transform the changes to make to each {@link R}
+     * @param <R>       the {@link Record} type
+     * @return a new, unmodifiable {@link List} of the transformed {@link R}s, in the same order
+     * @see #parallelTransformAll(List, RecordTransform)
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <R extends @NotNull Record> @NotNull List<R> transformAll(
+        @NotNull List<? extends R> records,
+        @NotNull RecordTransform<R> transform
+    ) {
+        var plan        = transform.compile();
+        var transformed = new Object[records.size()];
+        if (records instanceof RandomAccess) {
+            for (int i = 0; i < transformed.length; i++) {
+                transformed[i] = plan.apply(records.get(i));
+            }
+        } else {
+            int i = 0;
+            for (var rec : records) {
+                transformed[i++] = plan.apply(rec);
+            }
+        }
+
+        return Unchecked.cast(Collections.unmodifiableList(Arrays.asList(transformed)));
+    }
+
+    /**
+     * Like {@link #transformAll(List, RecordTransform)}, but splits the work across a parallel {@link IntStream}
+     * <i>(in the same way as {@link Arrays#parallelSetAll(Object[], IntFunction)})</i>.
+     *
+     * @param records   the original {@link R}s
+     * @param transform the changes to make to each {@link R}
+     * @param <R>       the {@link Record} type
+     * @return a new, unmodifiable {@link List} of the transformed {@link R}s, in the same order
+     * @apiNote If {@code records} isn't {@link RandomAccess}, it's copied into an array first.
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <R extends @NotNull Record> @NotNull List<R> parallelTransformAll(
+        @NotNull List<? extends R> records,
+        @NotNull RecordTransform<R> transform
+    ) {
+        var plan        = transform.compile();
+        var source      = records instanceof RandomAccess ? records : Arrays.asList(records.toArray());
+        var transformed = new Object[source.size()];
+        // 📎 Each index is written by exactly one task, and `forEach` doesn't return until they've all finished, so there's nothing else to synchronize.
+        IntStream.range(0, transformed.length)
+            .parallel()
+            .forEach(i -> transformed[i] = plan.apply(Unchecked.cast(source.get(i))));
+
+        return Unchecked.cast(Collections.unmodifiableList(Arrays.asList(transformed)));
+    }
+
+    //endregion
+
+    //region Diffs
+
+    /**
+     * @param before the original {@link R}
+     * @param after  the changed {@link R}
+     * @param <R>    the {@link Record} type
+     * @return a {@link RecordPatch} containing only the components that changed, with nested {@link Record}s diffed recursively
+     * @see RecordDiffer#diff(Record, Record)
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <R extends @NotNull Record> @NotNull RecordPatch<R> diff(@NotNull R before, @NotNull R after) {
+        return RecordDiffer.defaults().diff(before, after);
+    }
+
+    /**
+     * @param original an instance of {@link R}
+     * @param patch    the changes to make, e.g. from {@link #diff(Record, Record)}
+     * @param <R>      the {@link Record} type
+     * @return a copy of {@code original} with the {@code patch} applied
+     * @see RecordPatch#applyTo(Record)
+     */
+    @Contract(pure = true)
+    public static <R extends @NotNull Record> @NotNull R patch(@NotNull R original, @NotNull RecordPatch<R> patch) {
+        return patch.applyTo(original);
     }
 
     //endregion
@@ -0,0 +1,97 @@
+package brava.core;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Describes how {@link Unchecked#retrying(Unchecked.Supplier, RetryPolicy)} should re-attempt a failed {@link Unchecked.Supplier}.
+ *
+ * <h1>Example</h1>
+ * <pre>{@code
+ * var policy = RetryPolicy.attempts(5)
+ *     .withBackoff(Duration.ofMillis(10), 2, Duration.ofSeconds(1))
+ *     .retryingOn(IOException.class);
+ * }</pre>
+ *
+ * @param maxAttempts       the total number of attempts, <i>including</i> the first one
+ * @param initialDelay      how long to wait before the first retry
+ * @param backoffMultiplier how much the delay grows after each subsequent retry
+ * @param maxDelay          the longest we'll ever wait between two attempts
+ * @param retryOn           decides which {@link Throwable}s are worth another attempt
+ */
+public record RetryPolicy(
+    int maxAttempts,
+    @NotNull Duration initialDelay,
+    double backoffMultiplier,
+    @NotNull Duration maxDelay,
+    @NotNull Predicate<? super Throwable> retryOn
+) {
+    public RetryPolicy {
+        Preconditions.checkArgument(maxAttempts > 0, "maxAttempts must be positive, but was %s", maxAttempts);
+        Preconditions.checkArgument(!initialDelay.isNegative(), "initialDelay must not be negative, but was %s", initialDelay);
+        Preconditions.checkArgument(backoffMultiplier >= 1, "backoffMultiplier must be at least 1, but was %s", backoffMultiplier);
+        Preconditions.checkArgument(maxDelay.compareTo(initialDelay) >= 0, "maxDelay %s must not be less than initialDelay %s", maxDelay, initialDelay);
+        Objects.requireNonNull(retryOn, "retryOn");
+    }
+
+    /**
+     * @param maxAttempts the total number of attempts, <i>including</i> the first one
+     * @return a new {@link RetryPolicy} that retries any {@link Exception} <i>(but not {@link Error}s)</i> immediately
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static @NotNull RetryPolicy attempts(int maxAttempts) {
+        return new RetryPolicy(maxAttempts, Duration.ZERO, 1, Duration.ZERO, Exception.class::isInstance);
+    }
+
+    /**
+     * @param initialDelay      how long to wait before the first retry
+     * @param backoffMultiplier how much the delay grows after each subsequent retry
+     * @param maxDelay          the longest we'll ever wait between two attempts
+     * @return a copy of this {@link RetryPolicy} with <a href="https://en.wikipedia.org/wiki/Exponential_backoff">exponential backoff</a>
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public @NotNull RetryPolicy withBackoff(@NotNull Duration initialDelay, double backoffMultiplier, @NotNull Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, initialDelay, backoffMultiplier, maxDelay, retryOn);
+    }
+
+    /**
+     * @param retryable    a {@link Throwable} type that is worth another attempt
+     * @param alsoRetrying additional {@link Throwable} types that are worth another attempt
+     * @return a copy of this {@link RetryPolicy} that <i>only</i> retries the given {@link Throwable} types
+     */
+    @SafeVarargs
+    @Contract(pure = true)
+    public final @NotNull RetryPolicy retryingOn(
+        @NotNull Class<? extends Throwable> retryable,
+        @NotNull Class<? extends Throwable>... alsoRetrying
+    ) {
+        Predicate<Throwable> predicate = retryable::isInstance;
+        var others = Arrays.copyOf(alsoRetrying, alsoRetrying.length);
+        if (others.length > 0) {
+            predicate = predicate.or(it -> Arrays.stream(others).anyMatch(type -> type.isInstance(it)));
+        }
+
+        return new RetryPolicy(maxAttempts, initialDelay, backoffMultiplier, maxDelay, predicate);
+    }
+
+    /**
+     * @param failedAttempts the number of attempts that have failed so far <i>(starting at 1)</i>
+     * @return how long to wait before the next attempt, in nanoseconds
+     */
+    @Contract(pure = true)
+    long delayNanos(int failedAttempts) {
+        var initial = initialDelay.toNanos();
+        if (initial == 0) {
+            return 0;
+        }
+
+        var scaled = initial * Math.pow(backoffMultiplier, failedAttempts - 1);
+        return (long) Math.min(scaled, maxDelay.toNanos());
+    }
+}
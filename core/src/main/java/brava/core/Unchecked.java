@@ -1,11 +1,20 @@
 package brava.core;
 
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Weird tricks Oracle HATES, including:
@@ -194,6 +203,166 @@ public final class Unchecked {
 
     //endregion
 
+    //region Supplier decorators
+
+    /**
+     * Wraps a {@link Supplier} so that failed attempts are re-attempted according to a {@link RetryPolicy}.
+     *
+     * <h1>Example</h1>
+     * <pre>{@code
+     * var lock = Unchecked.retrying(
+     *     () -> channel.lock(),
+     *     RetryPolicy.attempts(5).retryingOn(OverlappingFileLockException.class)
+     * );
+     *
+     * Either<FileLock, Throwable> result = lock.tryGet();
+     * }</pre>
+     *
+     * @param supplier the code that might fail
+     * @param policy   decides which failures are retried, how many times, and how long to wait in between
+     * @param <T>      the output type
+     * @return a new {@link Supplier} that throws the <i>last</i> failure once the {@link RetryPolicy} gives up
+     * @apiNote Decorators compose from the inside out, e.g. {@code circuitBreaking(retrying(timed(supplier, timeout), policy), breaker)}.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull Supplier<T> retrying(@NotNull Supplier<T> supplier, @NotNull RetryPolicy policy) {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(policy, "policy");
+
+        return () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return supplier.getChecked();
+                } catch (Throwable e) {
+                    if (attempt >= policy.maxAttempts() || !policy.retryOn().test(e)) {
+                        throw e;
+                    }
+
+                    var delay = policy.delayNanos(attempt);
+                    if (delay > 0) {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a {@link Supplier} so that it gives up after a {@link Duration}.
+     * <p>
+     * The {@code supplier} is run on a separate daemon thread, which is {@link Thread#interrupt()}ed if it takes too long.
+     *
+     * @param supplier the code that might take too long
+     * @param timeout  the longest we're willing to wait
+     * @param <T>      the output type
+     * @return a new {@link Supplier} that throws a {@link TimeoutException} if the {@code supplier} doesn't finish in time
+     * @apiNote This is intended for calls that block on something local, like file locks or subprocesses.
+     * The {@code supplier}'s own exceptions are re-thrown as-is.
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull Supplier<T> timed(@NotNull Supplier<T> supplier, @NotNull Duration timeout) {
+        Objects.requireNonNull(supplier, "supplier");
+        Preconditions.checkArgument(timeout.isNegative() == false && timeout.isZero() == false, "timeout must be positive, but was %s", timeout);
+        var timeoutNanos = timeout.toNanos();
+
+        return () -> {
+            var task = new FutureTask<T>(supplier::get);
+            TimedExecutor.INSTANCE.execute(task);
+
+            try {
+                return task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                throw new TimeoutException("The supplier didn't finish within %s!".formatted(timeout));
+            } catch (InterruptedException e) {
+                task.cancel(true);
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Lazily holds the threads used by {@link #timed(Supplier, Duration)}.
+     */
+    private static final class TimedExecutor {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("brava-timed-%d")
+                .build()
+        );
+    }
+
+    /**
+     * Wraps a {@link Supplier} so that it is guarded by a {@link CircuitBreaker}.
+     * <p>
+     * While the {@link CircuitBreaker} is {@link CircuitBreaker.State#OPEN}, the {@code supplier} isn't invoked at all;
+     * instead, a {@link CircuitBreaker.OpenException} is thrown immediately.
+     *
+     * @param supplier the code that might fail
+     * @param breaker  the {@link CircuitBreaker} that tracks the {@code supplier}'s failures <i>(which can be shared with other suppliers)</i>
+     * @param <T>      the output type
+     * @return a new {@link Supplier}
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull Supplier<T> circuitBreaking(@NotNull Supplier<T> supplier, @NotNull CircuitBreaker breaker) {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(breaker, "breaker");
+
+        return () -> {
+            var trial = breaker.acquire();
+
+            final T result;
+            try {
+                result = supplier.getChecked();
+            } catch (Throwable e) {
+                breaker.onFailure(trial);
+                throw e;
+            }
+
+            breaker.onSuccess(trial);
+            return result;
+        };
+    }
+
+    /**
+     * Wraps a {@link Supplier} so that each call is recorded in a {@link CallStats}.
+     *
+     * @param supplier the code being measured
+     * @param stats    where the results are recorded <i>(which can be shared with other suppliers)</i>
+     * @param <T>      the output type
+     * @return a new {@link Supplier}
+     * @apiNote Where you put this decides what gets counted. For example:
+     * <ul>
+     *     <li>{@code metered(retrying(supplier, policy), stats)} counts each call, no matter how many attempts it took</li>
+     *     <li>{@code retrying(metered(supplier, stats), policy)} counts each individual attempt</li>
+     * </ul>
+     */
+    @Contract(value = "_, _ -> new", pure = true)
+    public static <T> @NotNull Supplier<T> metered(@NotNull Supplier<T> supplier, @NotNull CallStats stats) {
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(stats, "stats");
+
+        return () -> {
+            var start = System.nanoTime();
+
+            final T result;
+            try {
+                result = supplier.getChecked();
+            } catch (Throwable e) {
+                stats.recordFailure(System.nanoTime() - start);
+                throw e;
+            }
+
+            stats.recordSuccess(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    //endregion
+
     //region Function
 
     /**
@@ -0,0 +1,390 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shares an immutable value between threads, like an {@link AtomicReference}, but handles contention better when the updates are expensive.
+ * <p>
+ * The usual way to update an {@link AtomicReference} is a compare-and-set loop, e.g. with {@link AtomicReference#updateAndGet(UnaryOperator)}.
+ * When the update is something like {@link Immutably#put(Map, Object, Object)}, every failed compare-and-set throws away an {@code O(n)} copy,
+ * so the more threads there are, the more time gets wasted.
+ * <p>
+ * I start out the same way, but if an update fails a couple of times, it gets queued instead.
+ * One of the queued threads then becomes the "combiner" and applies the whole queue in one go
+ * <i>(this is <a href="https://doi.org/10.1145/1810479.1810540">flat combining</a>)</i>.
+ * {@link OfList#add(Object)} and {@link OfMap#put(Object, Object)} go further: a run of queued {@code add}s or {@code put}s becomes a single
+ * {@link Immutably#edit(List, java.util.function.Consumer)}, so the whole batch only costs one copy.
+ * <p>
+ * {@link #get()} is a single volatile read, so readers never wait.
+ *
+ * @param <T> the value type, which should be immutable
+ * @implNote How quickly updates give up on compare-and-set adapts to how often they've been failing lately.
+ * The operations passed to {@link #update(UnaryOperator)} may be called more than once, so, like with {@link AtomicReference#updateAndGet(UnaryOperator)},
+ * they should be side-effect-free.
+ */
+public class AtomicImmutable<T> {
+    /**
+     * How many times an update tries compare-and-set before joining the queue.
+     */
+    private static final int FAST_ATTEMPTS     = 2;
+    /**
+     * Once {@link #contention} reaches this, updates skip straight to the queue.
+     */
+    private static final int COMBINE_THRESHOLD = 8;
+    private static final int MAX_BACKOFF_SPINS = 1 << 10;
+    private static final int YIELD_AFTER_SPINS = 64;
+
+    private final AtomicReference<T>          value;
+    /**
+     * The queued updates, as a <a href="https://en.wikipedia.org/wiki/Treiber_stack">Treiber stack</a> <i>(so newest first)</i>.
+     */
+    private final AtomicReference<Request<T>> pending   = new AtomicReference<>();
+    private final AtomicBoolean               combining = new AtomicBoolean();
+    /**
+     * A rough count of recent compare-and-set failures.
+     *
+     * @implNote This is only a heuristic, so racing threads losing each other's increments doesn't matter.
+     */
+    private volatile int contention;
+
+    private static final class Request<T> {
+        private final    UnaryOperator<T> operation;
+        private          Request<T>       next;
+        private          T                result;
+        private          Throwable        failure;
+        private volatile boolean          done;
+
+        private Request(@NotNull UnaryOperator<T> operation) {
+            this.operation = operation;
+        }
+    }
+
+    AtomicImmutable(@NotNull T initialValue) {
+        this.value = new AtomicReference<>(Objects.requireNonNull(initialValue, "initialValue"));
+    }
+
+    //region Factories
+
+    /**
+     * @param initialValue the starting value, which should be immutable
+     * @return a new {@link AtomicImmutable} holding {@code initialValue}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <T> @NotNull AtomicImmutable<T> of(@NotNull T initialValue) {
+        return new AtomicImmutable<>(initialValue);
+    }
+
+    /**
+     * @param elements the starting elements
+     * @return a new {@link OfList} holding an {@link ImmutableList} copy of {@code elements}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <E> @NotNull OfList<E> ofList(@NotNull Iterable<? extends E> elements) {
+        return new OfList<>(ImmutableList.copyOf(elements));
+    }
+
+    /**
+     * @param entries the starting entries
+     * @return a new {@link OfMap} holding an {@link ImmutableMap} copy of {@code entries}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <K, V> @NotNull OfMap<K, V> ofMap(@NotNull Map<? extends K, ? extends V> entries) {
+        return new OfMap<>(ImmutableMap.copyOf(entries));
+    }
+
+    //endregion
+
+    /**
+     * @return the current value
+     */
+    @Contract(pure = true)
+    public final @NotNull T get() {
+        return value.get();
+    }
+
+    /**
+     * Atomically replaces the current value with the result of {@code operation}.
+     *
+     * @param operation computes the new value from the current one; it may be called more than once, so it should be side-effect-free
+     * @return a value that includes this update <i>(and maybe some other updates that were combined with it)</i>
+     */
+    public final @NotNull T update(@NotNull UnaryOperator<T> operation) {
+        Objects.requireNonNull(operation, "operation");
+
+        if (contention < COMBINE_THRESHOLD) {
+            for (int attempt = 0; attempt < FAST_ATTEMPTS; attempt++) {
+                var current = value.get();
+                var next    = Objects.requireNonNull(operation.apply(current), "operation result");
+                if (value.compareAndSet(current, next)) {
+                    return next;
+                }
+
+                backoff(attempt);
+            }
+
+            contention = contention + 1;
+        }
+
+        return combine(new Request<>(operation));
+    }
+
+    private static void backoff(int attempt) {
+        var limit = Math.min(MAX_BACKOFF_SPINS, 16 << attempt);
+        var spins = ThreadLocalRandom.current().nextInt(limit);
+        for (int i = 0; i < spins; i++) {
+            Thread.onSpinWait();
+        }
+    }
+
+    //region Combining
+
+    private @NotNull T combine(@NotNull Request<T> request) {
+        Request<T> head;
+        do {
+            head         = pending.get();
+            request.next = head;
+        } while (!pending.compareAndSet(head, request));
+
+        for (int spins = 0; !request.done; spins++) {
+            if (!combining.get() && combining.compareAndSet(false, true)) {
+                try {
+                    drain();
+                } finally {
+                    combining.set(false);
+                }
+            } else if (spins < YIELD_AFTER_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+
+        if (request.failure != null) {
+            return Unchecked.rethrow(request.failure);
+        }
+
+        return request.result;
+    }
+
+    /**
+     * Applies every queued {@link Request}. Only called by the thread that holds {@link #combining}.
+     *
+     * @implNote Once the batch has been taken off {@link #pending}, nobody else will ever look at it,
+     * so every {@link Request} in it must be marked {@link Request#done} no matter what happens - otherwise its thread would wait forever.
+     */
+    private void drain() {
+        var head = pending.getAndSet(null);
+        if (head == null) {
+            return;
+        }
+
+        var batch = new ArrayList<Request<T>>();
+        for (var it = head; it != null; it = it.next) {
+            batch.add(it);
+        }
+
+        // The stack is newest-first, but the updates should be applied in the order they arrived
+        Collections.reverse(batch);
+
+        T next = null;
+        try {
+            T current;
+            do {
+                current = value.get();
+                for (var request : batch) {
+                    request.failure = null;
+                }
+                next = applyAll(current, batch);
+            } while (!value.compareAndSet(current, next));
+
+            if (batch.size() == 1 && contention > 0) {
+                // Nobody was competing with us, so things must be calming down
+                contention = contention - 1;
+            }
+        } catch (Throwable e) {
+            // The new value was never published, so none of the batch happened
+            for (var request : batch) {
+                request.failure = e;
+            }
+        } finally {
+            for (var request : batch) {
+                request.result = next;
+                request.done   = true;
+            }
+        }
+    }
+
+    /**
+     * Applies a batch of {@link Request}s, one after the other.
+     * If one of them throws, it's recorded as that {@link Request}'s {@link Request#failure} and skipped.
+     *
+     * @param current the current value
+     * @param batch   the {@link Request}s, in order
+     * @return the new value
+     */
+    T applyAll(@NotNull T current, @NotNull List<Request<T>> batch) {
+        for (var request : batch) {
+            current = applyOne(current, request);
+        }
+
+        return current;
+    }
+
+    private static <T> @NotNull T applyOne(@NotNull T current, @NotNull Request<T> request) {
+        try {
+            return Objects.requireNonNull(request.operation.apply(current), "operation result");
+        } catch (Throwable e) {
+            request.failure = e;
+            return current;
+        }
+    }
+
+    /**
+     * Applies a run of {@link Request}s that were combined into a single {@code operation}.
+     * If it throws, it's recorded as the {@link Request#failure} of every {@link Request} in the run, and the run is skipped.
+     *
+     * @param current   the current value
+     * @param run       the combined {@link Request}s
+     * @param operation applies all of the {@code run} at once
+     * @return the new value
+     */
+    private static <T> @NotNull T applyRun(@NotNull T current, @NotNull List<Request<T>> run, @NotNull UnaryOperator<T> operation) {
+        try {
+            return Objects.requireNonNull(operation.apply(current), "operation result");
+        } catch (Throwable e) {
+            for (var request : run) {
+                request.failure = e;
+            }
+            return current;
+        }
+    }
+
+    //endregion
+
+    @Override
+    public @NotNull String toString() {
+        return "AtomicImmutable[" + value.get() + "]";
+    }
+
+    /**
+     * An {@link AtomicImmutable} {@link ImmutableList} that can combine concurrent {@link #add(Object)}s into a single copy.
+     *
+     * @param <E> the element type
+     */
+    public static final class OfList<E> extends AtomicImmutable<ImmutableList<E>> {
+        private OfList(@NotNull ImmutableList<E> initialValue) {
+            super(initialValue);
+        }
+
+        private record Add<E>(@NotNull E element) implements UnaryOperator<ImmutableList<E>> {
+            @Override
+            public ImmutableList<E> apply(ImmutableList<E> list) {
+                return Immutably.add(list, element);
+            }
+        }
+
+        /**
+         * Atomically adds {@code element} to the end of the list.
+         *
+         * @return a list that includes {@code element}
+         * @see Immutably#add(Iterable, Object)
+         */
+        public @NotNull ImmutableList<E> add(@NotNull E element) {
+            return update(new Add<>(Objects.requireNonNull(element, "element")));
+        }
+
+        @Override
+        ImmutableList<E> applyAll(@NotNull ImmutableList<E> current, @NotNull List<Request<ImmutableList<E>>> batch) {
+            for (int start = 0; start < batch.size(); ) {
+                if (!(batch.get(start).operation instanceof Add<E>)) {
+                    current = applyOne(current, batch.get(start++));
+                    continue;
+                }
+
+                var end = start + 1;
+                while (end < batch.size() && batch.get(end).operation instanceof Add<E>) {
+                    end++;
+                }
+
+                var run = batch.subList(start, end);
+                current = applyRun(current, run, list -> Immutably.edit(list, editor -> {
+                    for (var request : run) {
+                        editor.add(((Add<E>) request.operation).element());
+                    }
+                }));
+                start   = end;
+            }
+
+            return current;
+        }
+    }
+
+    /**
+     * An {@link AtomicImmutable} {@link ImmutableMap} that can combine concurrent {@link #put(Object, Object)}s into a single copy.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class OfMap<K, V> extends AtomicImmutable<ImmutableMap<K, V>> {
+        private OfMap(@NotNull ImmutableMap<K, V> initialValue) {
+            super(initialValue);
+        }
+
+        private record Put<K, V>(@NotNull K key, @NotNull V value) implements UnaryOperator<ImmutableMap<K, V>> {
+            @Override
+            public ImmutableMap<K, V> apply(ImmutableMap<K, V> map) {
+                return Immutably.put(map, key, value);
+            }
+        }
+
+        /**
+         * Atomically associates {@code key} with {@code value}.
+         *
+         * @return a map that includes this entry <i>(unless a later, combined {@code put} replaced it)</i>
+         * @see Immutably#put(Map, Object, Object)
+         */
+        public @NotNull ImmutableMap<K, V> put(@NotNull K key, @NotNull V value) {
+            return update(new Put<>(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value")));
+        }
+
+        @Override
+        ImmutableMap<K, V> applyAll(@NotNull ImmutableMap<K, V> current, @NotNull List<Request<ImmutableMap<K, V>>> batch) {
+            for (int start = 0; start < batch.size(); ) {
+                if (!(batch.get(start).operation instanceof Put<K, V>)) {
+                    current = applyOne(current, batch.get(start++));
+                    continue;
+                }
+
+                var end = start + 1;
+                while (end < batch.size() && batch.get(end).operation instanceof Put<K, V>) {
+                    end++;
+                }
+
+                var run = batch.subList(start, end);
+                current = applyRun(current, run, map -> Immutably.edit(map, editor -> {
+                    for (var request : run) {
+                        var put = (Put<K, V>) request.operation;
+                        editor.put(put.key(), put.value());
+                    }
+                }));
+                start   = end;
+            }
+
+            return current;
+        }
+    }
+}
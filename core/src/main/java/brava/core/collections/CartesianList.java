@@ -0,0 +1,395 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import brava.core.tuples.Tuple;
+import brava.core.tuples.TupleN;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * An immutable view of the <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> of some {@link List}s <i>(the "domains")</i>,
+ * in <a href="https://en.wikipedia.org/wiki/Lexicographic_order#Cartesian_products">lexicographic order</a>.
+ * <p>
+ * None of the rows are stored: {@link #get(long)} works out which element of each domain belongs in a row by treating the index as a
+ * <a href="https://en.wikipedia.org/wiki/Mixed_radix">mixed-radix</a> number, whose "digits" are the indices into each domain.
+ * That makes random access {@code O(arity)}, and lets the {@link #spliterator()} split the product into even halves by index,
+ * so {@link #parallelStream()}s keep every core busy.
+ * <p>
+ * A product can have more than {@link Integer#MAX_VALUE} rows.
+ * The {@link List} methods only see the first {@link Integer#MAX_VALUE} of them <i>(like {@link java.util.Collection#size()} says they should)</i>,
+ * but {@link #longSize()}, {@link #get(long)}, {@link #stream()}, {@link #parallelStream()} and {@link #forEachCursor(Consumer)} cover everything.
+ *
+ * @param <R> the row type
+ * @see Combinatorial#cartesianList(List, List)
+ * @see Combinatorial#cartesianProduct(List)
+ */
+public final class CartesianList<R> extends CombinatorialList<R> {
+    /**
+     * Builds a row out of the chosen element from each domain.
+     *
+     * @param <R> the row type
+     */
+    @FunctionalInterface
+    interface RowFactory<R> {
+        /**
+         * @param product the {@link CartesianList} the row belongs to
+         * @param digits  the index into each domain <i>(see {@link #element(int, int)})</i>
+         * @param index   the row index
+         * @return the new row
+         * @implSpec {@code digits} is re-used for the next row, so don't hold on to it.
+         */
+        R create(@NotNull CartesianList<?> product, int @NotNull [] digits, long index);
+    }
+
+    private final List<?>[]     domains;
+    /**
+     * The size of each domain.
+     */
+    private final int[]         radices;
+    /**
+     * {@code strides[i]} is the number of rows you skip by incrementing {@code digits[i]}, i.e. the product of the sizes of the later domains.
+     */
+    private final long[]        strides;
+    /**
+     * Whether all of the row indices fit in an {@code int}, so that we can use faster 32-bit arithmetic to decode them.
+     */
+    private final boolean       small;
+    private final RowFactory<R> rows;
+
+    /**
+     * @param domains the possible values for each position in a row
+     * @param rows    builds each row
+     * @throws IllegalArgumentException if the number of rows doesn't fit in a {@code long}
+     */
+    CartesianList(@NotNull List<? extends List<?>> domains, @NotNull RowFactory<R> rows) {
+        this(domains.stream()
+                    .map(CombinatorialList::randomAccess)
+                    .toArray(List<?>[]::new), rows);
+    }
+
+    private CartesianList(@NotNull List<?> @NotNull [] domains, @NotNull RowFactory<R> rows) {
+        this(domains, new long[domains.length], rows);
+    }
+
+    private CartesianList(@NotNull List<?> @NotNull [] domains, long @NotNull [] strides, @NotNull RowFactory<R> rows) {
+        super(computeStrides(domains, strides));
+        this.domains = domains;
+        this.radices = new int[domains.length];
+        for (int i = 0; i < radices.length; i++) {
+            radices[i] = domains[i].size();
+        }
+        this.strides = strides;
+        this.small   = longSize() <= Integer.MAX_VALUE;
+        this.rows    = rows;
+    }
+
+    private static long computeStrides(@NotNull List<?>[] domains, long @NotNull [] strides) {
+        for (var domain : domains) {
+            if (domain.isEmpty()) {
+                return 0;
+            }
+        }
+
+        long stride = 1;
+        for (int i = domains.length - 1; i >= 0; i--) {
+            strides[i] = stride;
+            stride     = multiplySizes(stride, domains[i].size(), "rows in the Cartesian product of %s domains".formatted(domains.length));
+        }
+
+        return stride;
+    }
+
+    /**
+     * @return the number of domains, i.e. the number of elements in each row
+     */
+    @Contract(pure = true)
+    public int arity() {
+        return domains.length;
+    }
+
+    /**
+     * @param dimension which domain
+     * @return the size of that domain
+     */
+    int radix(int dimension) {
+        return radices[dimension];
+    }
+
+    //region Row encoding
+
+    @Override
+    int bufferLength() {
+        return domains.length;
+    }
+
+    /**
+     * Decodes a row index into the index of each of its elements in their domains.
+     */
+    @Override
+    int unrank(long index, int @NotNull [] digits) {
+        if (small) {
+            // 📎 32-bit division is several times faster than 64-bit division on most CPUs.
+            var remainder = (int) index;
+            for (int i = 0; i < digits.length; i++) {
+                var stride = (int) strides[i];
+                digits[i] = remainder / stride;
+                remainder -= digits[i] * stride;
+            }
+
+            return digits.length;
+        }
+
+        for (int i = 0; i < digits.length; i++) {
+            var digit = index / strides[i];
+            digits[i] = (int) digit;
+            index -= digit * strides[i];
+        }
+
+        return digits.length;
+    }
+
+    /**
+     * @param dimension which domain
+     * @param digit     the index into that domain
+     * @return the element of that domain
+     */
+    @Override
+    Object element(int dimension, int digit) {
+        return domains[dimension].get(digit);
+    }
+
+    /**
+     * Decodes a single digit of a row index, for when we don't need all of them.
+     */
+    private int digit(long index, int dimension) {
+        if (small) {
+            return ((int) index / (int) strides[dimension]) % radices[dimension];
+        }
+
+        return (int) ((index / strides[dimension]) % radices[dimension]);
+    }
+
+    /**
+     * Moves {@code digits} on to the next row, like an odometer.
+     */
+    @Override
+    int next(int @NotNull [] digits, int length, long index) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (++digits[i] < radices[i]) {
+                break;
+            }
+
+            digits[i] = 0;
+        }
+
+        return length;
+    }
+
+    @Override
+    R row(int @NotNull [] digits, int length, long index) {
+        return rows.create(this, digits, index);
+    }
+
+    /**
+     * @return the index of {@code o} if it's a {@link List} or {@link Tuple} with one element from each domain, otherwise {@code -1}
+     * @implNote Each element is looked up with {@link List#indexOf(Object)}, so this is {@code O(total size of the domains)}.
+     */
+    @Contract(pure = true)
+    @Override
+    public long longIndexOf(@Nullable Object o) {
+        IntFunction<?> row;
+        if (o instanceof List<?> list && list.size() == domains.length) {
+            row = list::get;
+        } else if (o instanceof Tuple<?> tuple && tuple.size() == domains.length) {
+            // The rows of `Combinatorial.cartesianList(a, b, ...)` are `Tuple`s, which aren't `List`s
+            row = tuple::get;
+        } else {
+            return -1;
+        }
+
+        if (isEmpty()) {
+            return -1;
+        }
+
+        long index = 0;
+        for (int i = 0; i < domains.length; i++) {
+            var digit = domains[i].indexOf(row.apply(i));
+            if (digit < 0) {
+                return -1;
+            }
+
+            index += digit * strides[i];
+        }
+
+        return index;
+    }
+
+    //endregion
+
+    /**
+     * Picks {@code n} rows at random, so that the elements of each domain are used as evenly as possible
+     * <i>(a <a href="https://en.wikipedia.org/wiki/Latin_hypercube_sampling">Latin hypercube</a> sample)</i>.
+     * <p>
+     * In every position, each element of that position's domain appears either {@code floor(n / domain size)} or {@code ceil(n / domain size)} times,
+     * which a uniform {@link #sample(int, RandomGenerator)} only manages on average. This costs {@code O(n × arity)}.
+     *
+     * @param n      the number of rows to pick
+     * @param random the source of randomness
+     * @return an immutable {@link List} of {@code n} rows, in random order
+     * @throws IllegalArgumentException if {@code n} is negative, or if it's positive but there aren't any rows
+     * @apiNote Keeping each domain balanced comes first, so the rows aren't always different from each other; use {@link #sample(int, RandomGenerator)} if they need to be.
+     */
+    @Contract(pure = true)
+    public @NotNull List<R> stratifiedSample(int n, @NotNull RandomGenerator random) {
+        Preconditions.checkArgument(n >= 0, "n (%s) must be non-negative", n);
+        Preconditions.checkArgument(n == 0 || !isEmpty(), "Can't sample %s rows from an empty %s!", n, this);
+        if (n == 0) {
+            // 📎 An empty product has a domain with no digits at all, which `stratify` can't divide up.
+            return List.of();
+        }
+
+        // `columns[d][i]` is the digit of row `i` in dimension `d`
+        var columns = new int[domains.length][];
+        for (int d = 0; d < domains.length; d++) {
+            columns[d] = stratify(radices[d], n, random);
+        }
+
+        var digits = new int[domains.length];
+        var rows   = new Object[n];
+        for (int i = 0; i < n; i++) {
+            long index = 0;
+            for (int d = 0; d < digits.length; d++) {
+                digits[d] = columns[d][i];
+                index += digits[d] * strides[d];
+            }
+
+            rows[i] = row(digits, digits.length, index);
+        }
+
+        return Unchecked.cast(Collections.unmodifiableList(Arrays.asList(rows)));
+    }
+
+    /**
+     * @return {@code n} shuffled digits from {@code [0, radix)}, where each digit appears either {@code floor(n / radix)} or {@code ceil(n / radix)} times
+     */
+    private static int @NotNull [] stratify(int radix, int n, @NotNull RandomGenerator random) {
+        var column = new int[n];
+
+        // As many rounds of every digit as will fit...
+        var rounds = n - n % radix;
+        for (int i = 0; i < rounds; i++) {
+            column[i] = i % radix;
+        }
+
+        // ...then a random selection of different digits for whatever's left
+        var extras = floyd(radix, n - rounds, random);
+        for (int i = rounds; i < n; i++) {
+            column[i] = (int) extras[i - rounds];
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = n - 1; i > 0; i--) {
+            var j    = random.nextInt(i + 1);
+            var temp = column[i];
+            column[i] = column[j];
+            column[j] = temp;
+        }
+
+        return column;
+    }
+
+    /**
+     * @return a {@link RowFactory} that creates immutable {@link ListBase} views of each row
+     */
+    static <T> @NotNull RowFactory<ListBase<T>> rowViews() {
+        return (product, digits, index) -> new Row<>(product, index);
+    }
+
+    /**
+     * @return a {@link RowFactory} that copies each row into a {@link TupleN}
+     */
+    static @NotNull RowFactory<TupleN> tuples() {
+        return (product, digits, index) -> {
+            var elements = new Object[digits.length];
+            for (int i = 0; i < digits.length; i++) {
+                elements[i] = product.element(i, digits[i]);
+            }
+
+            return TupleN.of(elements);
+        };
+    }
+
+    /**
+     * An immutable row, which only remembers its index: each element is decoded and looked up in the domains when you {@link #get(int)} it.
+     */
+    private static final class Row<T> implements ListBase<T>, RandomAccess {
+        private final CartesianList<?> product;
+        private final long             index;
+
+        private Row(@NotNull CartesianList<?> product, long index) {
+            this.product = product;
+            this.index   = index;
+        }
+
+        @Override
+        public int size() {
+            return product.domains.length;
+        }
+
+        @Override
+        public T get(int dimension) {
+            Objects.checkIndex(dimension, product.domains.length);
+            return Unchecked.cast(product.element(dimension, product.digit(index, dimension)));
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof Row<?> other && other.product == product && other.index == index) {
+                return true;
+            }
+
+            return obj instanceof List<?> other && size() == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            return listHash(this);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return Iterables.toString(this);
+        }
+    }
+
+    /**
+     * @return a description of the domains, since listing every row could take forever
+     */
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "CartesianList" + List.of(domains);
+    }
+}
@@ -1,13 +1,17 @@
 package brava.core.collections;
 
 import brava.core.Unchecked;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.ObjectArrays;
 import com.google.errorprone.annotations.DoNotCall;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 @ApiStatus.Internal
 public class CollectionHelpers {
@@ -39,10 +43,98 @@ public class CollectionHelpers {
         return ObjectArrays.newArray(existingArray, desiredSize);
     }
 
-    static final class SubList<T> implements ListBase<T> {
+    /**
+     * A {@link Spliterator} over a range of indices of something with {@code O(1)} random access <i>(like a {@link RandomAccess} {@link List} or a {@link brava.core.tuples.Tuple})</i>,
+     * which splits the range in half.
+     * <p>
+     * Always reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+     *
+     * @param <T> the element type
+     * @apiNote The source must not change size while this is in use.
+     */
+    public static final class RandomAccessSpliterator<T> implements Spliterator<T> {
+        private final IntFunction<? extends T> source;
+        private       int                      index;
+        private final int                      fence;
+        private final int                      characteristics;
+
+        /**
+         * @param source                    the {@link List} to split
+         * @param origin                    the first index (inclusive)
+         * @param fence                     the last index (exclusive)
+         * @param additionalCharacteristics any {@link Spliterator#characteristics()} other than {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+         */
+        public RandomAccessSpliterator(@NotNull List<T> source, int origin, int fence, int additionalCharacteristics) {
+            this(source::get, origin, fence, additionalCharacteristics);
+        }
+
+        /**
+         * @param source                    retrieves the element at an index
+         * @param origin                    the first index (inclusive)
+         * @param fence                     the last index (exclusive)
+         * @param additionalCharacteristics any {@link Spliterator#characteristics()} other than {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+         */
+        public RandomAccessSpliterator(@NotNull IntFunction<? extends T> source, int origin, int fence, int additionalCharacteristics) {
+            this.source          = source;
+            this.index           = origin;
+            this.fence           = fence;
+            this.characteristics = additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+            if (index < fence) {
+                action.accept(source.apply(index++));
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super T> action) {
+            // 📎 Copying the fields into locals lets the JIT keep them in registers.
+            var getter = source;
+            var end    = fence;
+            for (int i = index; i < end; i++) {
+                action.accept(getter.apply(i));
+            }
+            index = end;
+        }
+
+        @Override
+        public @Nullable Spliterator<T> trySplit() {
+            int origin = index;
+            int mid    = (origin + fence) >>> 1;
+            if (origin >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new RandomAccessSpliterator<>(source, origin, mid, characteristics);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+    /**
+     * A read-only view of a range of another {@link List}.
+     *
+     * @implNote {@link #subList(int, int)}s of a {@link SubList} are "flattened" into another view of the original {@link #source},
+     * so repeatedly slicing a list doesn't build up a chain of views.
+     */
+    static final class SubList<T> implements ListBase<T>, RandomAccess {
         private final List<T> source;
-        private final int offset;
-        private final int length;
+        private final int     offset;
+        private final int     length;
 
         public SubList(List<T> source, int offset, int length) {
             this.source = source;
@@ -56,16 +148,50 @@ public class CollectionHelpers {
         }
 
         @Override
-        public @NotNull Iterator<T> iterator() {
-            return source.stream()
-                  .skip(offset)
-                  .limit(length)
-                  .iterator();
+        public T get(int index) {
+            Objects.checkIndex(index, length);
+            return source.get(offset + index);
         }
 
         @Override
-        public T get(int index) {
-            return source.get(offset + index);
+        public @NotNull List<T> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, length);
+            return new SubList<>(source, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public @NotNull Spliterator<T> spliterator() {
+            return new RandomAccessSpliterator<>(source, offset, offset + length, Spliterator.IMMUTABLE);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            return obj instanceof List<?> other && length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            int hash = 1;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + Objects.hashCode(source.get(offset + i));
+            }
+
+            return hash;
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return Iterables.toString(this);
         }
     }
 
@@ -0,0 +1,120 @@
+package brava.core.collections;
+
+import com.google.common.base.Preconditions;
+import com.google.common.math.LongMath;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Every {@code k}-element <a href="https://en.wikipedia.org/wiki/Combination">combination</a> of a source {@link List}, in lexicographic order of their source indices.
+ * <p>
+ * Rows are ranked and unranked with the <a href="https://en.wikipedia.org/wiki/Combinatorial_number_system">combinatorial number system</a>,
+ * and stepped to the next row in place, which is amortized {@code O(1)}.
+ *
+ * @param <T> the source element type
+ * @param <R> the row type
+ * @see Combinatorial#combinations(List, int)
+ */
+final class Combinations<T, R> extends SelectionList<T, R> {
+    private final int k;
+
+    /**
+     * @throws IllegalArgumentException if {@code k} is negative or the number of combinations doesn't fit in a {@code long}
+     */
+    Combinations(@NotNull List<T> source, int k, @NotNull Picker<T, R> picker) {
+        super(source, count(source.size(), k), picker);
+        this.k = k;
+    }
+
+    private static long count(int n, int k) {
+        Preconditions.checkArgument(k >= 0, "k (%s) must be non-negative", k);
+        if (k > n) {
+            return 0;
+        }
+
+        // 📎 `LongMath.binomial()` saturates instead of throwing, and no binomial coefficient is actually `Long.MAX_VALUE`
+        var count = LongMath.binomial(n, k);
+        Preconditions.checkArgument(count < Long.MAX_VALUE, "The number of %s-combinations of %s elements is too big to count with a long!", k, n);
+        return count;
+    }
+
+    /**
+     * @return the number of ways to finish a combination that still needs {@code needed} elements picked out of the last {@code available} elements
+     */
+    private static long completions(int available, int needed) {
+        // 📎 Every one of these counts a subset of the rows, so it can't overflow.
+        return needed > available ? 0 : LongMath.binomial(available, needed);
+    }
+
+    @Override
+    int bufferLength() {
+        return k;
+    }
+
+    @Override
+    int unrank(long rank, int @NotNull [] indices) {
+        int candidate = 0;
+        for (int i = 0; i < k; i++) {
+            // Skip past each candidate whose block of rows comes entirely before `rank`
+            for (long block; rank >= (block = completions(n - candidate - 1, k - i - 1)); candidate++) {
+                rank -= block;
+            }
+
+            indices[i] = candidate++;
+        }
+
+        return k;
+    }
+
+    @Override
+    int next(int @NotNull [] indices, int length, long rank) {
+        // Find the last index that still has room to move up, move it up, then pack everything after it in right behind it
+        int i = k - 1;
+        while (indices[i] == n - k + i) {
+            i--;
+        }
+
+        indices[i]++;
+        for (int j = i + 1; j < k; j++) {
+            indices[j] = indices[j - 1] + 1;
+        }
+
+        return k;
+    }
+
+    /**
+     * @implNote Where the source contains duplicates, the row could have come from more than one combination of indices;
+     * the earliest of those is always the one that picks each element as early as possible.
+     */
+    @Contract(pure = true)
+    @Override
+    public long longIndexOf(@Nullable Object o) {
+        if (!(o instanceof List<?> row) || row.size() != k || isEmpty()) {
+            return -1;
+        }
+
+        long rank     = 0;
+        int  previous = -1;
+        for (int i = 0; i < k; i++) {
+            var index = indexAfter(previous, row.get(i));
+            if (index < 0) {
+                return -1;
+            }
+
+            // The sum of the blocks we skipped over, which telescopes
+            rank += completions(n - previous - 1, k - i) - completions(n - index, k - i);
+            previous = index;
+        }
+
+        return rank;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "Combinations[%s of %s]".formatted(k, source);
+    }
+}
@@ -1,15 +1,24 @@
 package brava.core.collections;
 
+import brava.core.RecordMetadata;
+import brava.core.Records;
+import brava.core.Unchecked;
 import brava.core.tuples.*;
-import com.google.common.collect.Streams;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
-import java.util.Objects;
-import java.util.function.Function;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -53,10 +62,7 @@ public final class Combinatorial {
           Iterable<A> a,
           Iterable<B> b
     ) {
-        return Streams.stream(a)
-              .flatMap(a1 -> Streams.stream(b)
-                    .map(b1 -> Tuple.of(a1, b1))
-              );
+        return cartesianList(listOf(a), listOf(b)).stream();
     }
 
     /**
@@ -94,12 +100,7 @@ public final class Combinatorial {
           Iterable<B> b,
           Iterable<C> c
     ) {
-        return Streams.stream(a)
-              .flatMap(a1 -> Streams.stream(b)
-                    .flatMap(b1 -> Streams.stream(c)
-                          .map(c1 -> Tuple.of(a1, b1, c1))
-                    )
-              );
+        return cartesianList(listOf(a), listOf(b), listOf(c)).stream();
     }
 
     /**
@@ -140,14 +141,7 @@ public final class Combinatorial {
           Iterable<C> c,
           Iterable<D> d
     ) {
-        return Streams.stream(a)
-              .flatMap(a1 -> Streams.stream(b)
-                    .flatMap(b1 -> Streams.stream(c)
-                          .flatMap(c1 -> Streams.stream(d)
-                                .map(d1 -> Tuple.of(a1, b1, c1, d1))
-                          )
-                    )
-              );
+        return cartesianList(listOf(a), listOf(b), listOf(c), listOf(d)).stream();
     }
 
     /**
@@ -191,17 +185,7 @@ public final class Combinatorial {
           Iterable<D> d,
           Iterable<E> e
     ) {
-        return Streams.stream(a)
-              .flatMap(a1 -> Streams.stream(b)
-                    .flatMap(b1 -> Streams.stream(c)
-                          .flatMap(c1 -> Streams.stream(d)
-                                .flatMap(d1 -> Streams.stream(e)
-                                      .map(e1 -> Tuple.of(a1, b1, c1, d1, e1)
-                                      )
-                                )
-                          )
-                    )
-              );
+        return cartesianList(listOf(a), listOf(b), listOf(c), listOf(d), listOf(e)).stream();
     }
 
     /**
@@ -248,19 +232,447 @@ public final class Combinatorial {
           Iterable<E> e,
           Iterable<F> f
     ) {
-        return Streams.stream(a)
-              .flatMap(a1 -> Streams.stream(b)
-                    .flatMap(b1 -> Streams.stream(c)
-                          .flatMap(c1 -> Streams.stream(d)
-                                .flatMap(d1 -> Streams.stream(e)
-                                      .flatMap(e1 -> Streams.stream(f)
-                                            .map(f1 -> Tuple.of(a1, b1, c1, d1, e1, f1)
-                                            )
-                                      )
-                                )
-                          )
-                    )
-              );
+        return cartesianList(listOf(a), listOf(b), listOf(c), listOf(d), listOf(e), listOf(f)).stream();
+    }
+
+    /**
+     * Returns a 2-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> as a random-access {@link CartesianList}.
+     *
+     * @param a   all possible {@link Tuple2#a()} values
+     * @param b   all possible {@link Tuple2#b()} values
+     * @param <A> the type of {@link Tuple2#a()}
+     * @param <B> the type of {@link Tuple2#b()}
+     * @return a {@link CartesianList} of every unique combination, in the same order as {@link #cartesianProduct(Iterable, Iterable)}
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <A, B> CartesianList<Tuple2<A, B>> cartesianList(
+          List<A> a,
+          List<B> b
+    ) {
+        return new CartesianList<>(List.of(a, b), (product, digits, index) -> Tuple.<A, B>of(Unchecked.cast(product.element(0, digits[0])), Unchecked.cast(product.element(1, digits[1]))));
+    }
+
+    /**
+     * Returns a 3-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> as a random-access {@link CartesianList}.
+     *
+     * @param a   all possible {@link Tuple3#a()} values
+     * @param b   all possible {@link Tuple3#b()} values
+     * @param c   all possible {@link Tuple3#c()} values
+     * @param <A> the type of {@link Tuple3#a()}
+     * @param <B> the type of {@link Tuple3#b()}
+     * @param <C> the type of {@link Tuple3#c()}
+     * @return a {@link CartesianList} of every unique combination, in the same order as {@link #cartesianProduct(Iterable, Iterable, Iterable)}
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <A, B, C> CartesianList<Tuple3<A, B, C>> cartesianList(
+          List<A> a,
+          List<B> b,
+          List<C> c
+    ) {
+        return new CartesianList<>(List.of(a, b, c), (product, digits, index) -> Tuple.<A, B, C>of(Unchecked.cast(product.element(0, digits[0])), Unchecked.cast(product.element(1, digits[1])), Unchecked.cast(product.element(2, digits[2]))));
+    }
+
+    /**
+     * Returns a 4-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> as a random-access {@link CartesianList}.
+     *
+     * @param a   all possible {@link Tuple4#a()} values
+     * @param b   all possible {@link Tuple4#b()} values
+     * @param c   all possible {@link Tuple4#c()} values
+     * @param d   all possible {@link Tuple4#d()} values
+     * @param <A> the type of {@link Tuple4#a()}
+     * @param <B> the type of {@link Tuple4#b()}
+     * @param <C> the type of {@link Tuple4#c()}
+     * @param <D> the type of {@link Tuple4#d()}
+     * @return a {@link CartesianList} of every unique combination, in the same order as {@link #cartesianProduct(Iterable, Iterable, Iterable, Iterable)}
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <A, B, C, D> CartesianList<Tuple4<A, B, C, D>> cartesianList(
+          List<A> a,
+          List<B> b,
+          List<C> c,
+          List<D> d
+    ) {
+        return new CartesianList<>(List.of(a, b, c, d), (product, digits, index) -> Tuple.<A, B, C, D>of(Unchecked.cast(product.element(0, digits[0])), Unchecked.cast(product.element(1, digits[1])), Unchecked.cast(product.element(2, digits[2])), Unchecked.cast(product.element(3, digits[3]))));
+    }
+
+    /**
+     * Returns a 5-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> as a random-access {@link CartesianList}.
+     *
+     * @param a   all possible {@link Tuple5#a()} values
+     * @param b   all possible {@link Tuple5#b()} values
+     * @param c   all possible {@link Tuple5#c()} values
+     * @param d   all possible {@link Tuple5#d()} values
+     * @param e   all possible {@link Tuple5#e()} values
+     * @param <A> the type of {@link Tuple5#a()}
+     * @param <B> the type of {@link Tuple5#b()}
+     * @param <C> the type of {@link Tuple5#c()}
+     * @param <D> the type of {@link Tuple5#d()}
+     * @param <E> the type of {@link Tuple5#e()}
+     * @return a {@link CartesianList} of every unique combination, in the same order as {@link #cartesianProduct(Iterable, Iterable, Iterable, Iterable, Iterable)}
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <A, B, C, D, E> CartesianList<Tuple5<A, B, C, D, E>> cartesianList(
+          List<A> a,
+          List<B> b,
+          List<C> c,
+          List<D> d,
+          List<E> e
+    ) {
+        return new CartesianList<>(List.of(a, b, c, d, e), (product, digits, index) -> Tuple.<A, B, C, D, E>of(Unchecked.cast(product.element(0, digits[0])), Unchecked.cast(product.element(1, digits[1])), Unchecked.cast(product.element(2, digits[2])), Unchecked.cast(product.element(3, digits[3])), Unchecked.cast(product.element(4, digits[4]))));
+    }
+
+    /**
+     * Returns a 6-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a> as a random-access {@link CartesianList}.
+     *
+     * @param a   all possible {@link Tuple6#a()} values
+     * @param b   all possible {@link Tuple6#b()} values
+     * @param c   all possible {@link Tuple6#c()} values
+     * @param d   all possible {@link Tuple6#d()} values
+     * @param e   all possible {@link Tuple6#e()} values
+     * @param f   all possible {@link Tuple6#f()} values
+     * @param <A> the type of {@link Tuple6#a()}
+     * @param <B> the type of {@link Tuple6#b()}
+     * @param <C> the type of {@link Tuple6#c()}
+     * @param <D> the type of {@link Tuple6#d()}
+     * @param <E> the type of {@link Tuple6#e()}
+     * @param <F> the type of {@link Tuple6#f()}
+     * @return a {@link CartesianList} of every unique combination, in the same order as {@link #cartesianProduct(Iterable, Iterable, Iterable, Iterable, Iterable, Iterable)}
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <A, B, C, D, E, F> CartesianList<Tuple6<A, B, C, D, E, F>> cartesianList(
+          List<A> a,
+          List<B> b,
+          List<C> c,
+          List<D> d,
+          List<E> e,
+          List<F> f
+    ) {
+        return new CartesianList<>(List.of(a, b, c, d, e, f), (product, digits, index) -> Tuple.<A, B, C, D, E, F>of(Unchecked.cast(product.element(0, digits[0])), Unchecked.cast(product.element(1, digits[1])), Unchecked.cast(product.element(2, digits[2])), Unchecked.cast(product.element(3, digits[3])), Unchecked.cast(product.element(4, digits[4])), Unchecked.cast(product.element(5, digits[5]))));
+    }
+
+    /**
+     * Returns an n-fold <a href="https://en.wikipedia.org/wiki/Cartesian_product">Cartesian product</a>, for when the number of domains isn't known until runtime.
+     * <p/>
+     * The rows will be in <a href="https://en.wikipedia.org/wiki/Lexicographic_order#Cartesian_products">lexicographic order</a>, e.g.:
+     * <pre>{@code
+     * Combinatorial.cartesianProduct(List.of(
+     *  List.of('a', 'b'),
+     *  List.of('x', 'y')
+     * ))
+     *  .forEach(System.out::println);
+     *
+     * // [a, x]
+     * // [a, y]
+     * // [b, x]
+     * // [b, y]
+     * }</pre>
+     * Each row is an immutable {@link ListBase} view that looks its elements up in the {@code domains}.
+     * To avoid creating the rows at all, use {@link CartesianList#forEachCursor(java.util.function.Consumer)}.
+     *
+     * @param domains all possible values for each position in a row
+     * @param <T>     the element type
+     * @return a {@link CartesianList} of every unique combination
+     * @throws IllegalArgumentException if the number of combinations doesn't fit in a {@code long}
+     * @apiNote Unlike Guava's {@link Lists#cartesianProduct(List)}, the {@code domains} may contain {@code null}s and more than {@link Integer#MAX_VALUE} rows.
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> CartesianList<ListBase<T>> cartesianProduct(List<? extends List<? extends T>> domains) {
+        return new CartesianList<>(domains, CartesianList.rowViews());
+    }
+
+    /**
+     * Finds the rows of a {@link #cartesianProduct(List)} that pass a constraint, without looking at every row.
+     * <p>
+     * The rows are visited depth-first, and {@code prefixPredicate} is tested against each prefix of a row as it's built up
+     * <i>(i.e. {@code [a]}, then {@code [a, x]}, then {@code [a, x, 1]}...)</i>.
+     * As soon as a prefix fails, none of the rows that start with it are visited. For example:
+     * <pre>{@code
+     * // Strictly increasing triples
+     * Combinatorial.search(
+     *     List.of(List.of(1, 2, 3), List.of(1, 2, 3), List.of(1, 2, 3)),
+     *     prefix -> prefix.size() < 2 || prefix.get(prefix.size() - 2) < prefix.get(prefix.size() - 1)
+     * ).forEach(System.out::println);
+     *
+     * // [1, 2, 3]
+     * }</pre>
+     * Only 9 of the 27 rows were ever tested as a whole.
+     *
+     * @param domains         all possible values for each position in a row
+     * @param prefixPredicate tested against every non-empty prefix of a row, including the whole row
+     * @param <T>             the element type
+     * @return a sequential {@link Stream} of the rows whose every prefix passed, in the same order as {@link #cartesianProduct(List)}
+     * @apiNote The prefixes passed to {@code prefixPredicate} are re-used views, so they're only valid during the call.
+     * The predicate should only depend on the prefix, since a prefix that fails is never tested again.
+     * @see #search(List, Predicate, int)
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> Stream<ListBase<T>> search(List<? extends List<? extends T>> domains, Predicate<? super List<T>> prefixPredicate) {
+        return search(domains, prefixPredicate, 0).sequential();
+    }
+
+    /**
+     * A parallel {@link #search(List, Predicate)}.
+     * <p>
+     * The top {@code forkDepth} levels of the search tree are split into subtrees, which are handed out to {@link java.util.concurrent.ForkJoinPool} workers by the {@link Stream}.
+     * Splitting a level checks its prefixes, so deeper splits prune more before forking, but spread the work more thinly;
+     * a {@code forkDepth} of 1 or 2 is usually plenty, unless the first domains are tiny.
+     *
+     * @param domains         all possible values for each position in a row
+     * @param prefixPredicate tested against every non-empty prefix of a row, including the whole row; it might be called from several threads at once
+     * @param forkDepth       how many levels of the search tree can be split into subtrees
+     * @param <T>             the element type
+     * @return a parallel {@link Stream} of the rows whose every prefix passed, in the same order as {@link #cartesianProduct(List)}
+     * @throws IllegalArgumentException if {@code forkDepth} is negative
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> Stream<ListBase<T>> search(List<? extends List<? extends T>> domains, Predicate<? super List<T>> prefixPredicate, int forkDepth) {
+        Preconditions.checkArgument(forkDepth >= 0, "forkDepth (%s) must be non-negative", forkDepth);
+        return StreamSupport.stream(new PrunedSearch<>(cartesianProduct(domains), prefixPredicate, forkDepth), true);
+    }
+
+    /**
+     * Picks {@code n} different rows of a {@link #cartesianProduct(List)} uniformly at random, without enumerating the product.
+     * <p>
+     * Row indices are drawn with Floyd's algorithm and decoded straight into {@link TupleN}s, so this costs {@code O(n log n + n × arity)}
+     * no matter how big the product is.
+     *
+     * @param domains all possible values for each position in a row
+     * @param n       the number of rows to pick
+     * @param random  the source of randomness
+     * @return an immutable {@link List} of {@code n} different rows, in the same order as the product
+     * @throws IllegalArgumentException if {@code n} is negative or bigger than the product, or if the product doesn't fit in a {@code long}
+     * @see CombinatorialList#sample(int, RandomGenerator)
+     * @see #stratifiedSample(List, int, RandomGenerator)
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static List<TupleN> sample(List<? extends List<?>> domains, int n, RandomGenerator random) {
+        return new CartesianList<>(domains, CartesianList.tuples()).sample(n, random);
+    }
+
+    /**
+     * Picks {@code n} rows of a {@link #cartesianProduct(List)} at random, so that every element of every domain is used as evenly as possible.
+     *
+     * @param domains all possible values for each position in a row
+     * @param n       the number of rows to pick
+     * @param random  the source of randomness
+     * @return an immutable {@link List} of {@code n} rows, in random order
+     * @throws IllegalArgumentException if {@code n} is negative, if it's positive but the product is empty, or if the product doesn't fit in a {@code long}
+     * @see CartesianList#stratifiedSample(int, RandomGenerator)
+     * @see #sample(List, int, RandomGenerator)
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static List<TupleN> stratifiedSample(List<? extends List<?>> domains, int n, RandomGenerator random) {
+        return new CartesianList<>(domains, CartesianList.tuples()).stratifiedSample(n, random);
+    }
+
+    /**
+     * Creates an instance of {@link R} for every combination of component values, like a {@link #cartesianProduct(List)} of the components.
+     * <p>
+     * The canonical constructor is compiled into a {@link java.lang.invoke.MethodHandle} once, up front, so each row only costs the constructor call itself.
+     * The result is a {@link CartesianList}, so you can {@link CartesianList#get(long)} any instance by index, {@link CartesianList#sample(int, RandomGenerator)} it,
+     * or generate them with a {@link CartesianList#parallelStream()}.
+     * <pre>{@code
+     * record Vinyl(String artist, String title, int year) { }
+     *
+     * var components = Vinyl.class.getRecordComponents();
+     * Combinatorial.records(Vinyl.class, Map.of(
+     *     components[0], List.of("Weird Al", "Devo"),
+     *     components[1], List.of("Fat"),
+     *     components[2], List.of(1988, 1980)
+     * )).forEach(System.out::println);
+     *
+     * // Vinyl[artist=Weird Al, title=Fat, year=1988]
+     * // Vinyl[artist=Weird Al, title=Fat, year=1980]
+     * // Vinyl[artist=Devo, title=Fat, year=1988]
+     * // Vinyl[artist=Devo, title=Fat, year=1980]
+     * }</pre>
+     *
+     * @param recordType      the {@link Record} type
+     * @param componentValues all of the possible values for each of {@link R}'s {@link RecordComponent}s
+     * @param <R>             the {@link Record} type
+     * @return a {@link CartesianList} of {@link R}s, in the same order as the {@link Class#getRecordComponents()}
+     * @throws IllegalArgumentException if {@code componentValues} doesn't have exactly one entry for each of {@link R}'s components,
+     *                                  if one of the values is the wrong type for its component,
+     *                                  or the number of combinations doesn't fit in a {@code long}
+     * @apiNote Each instance is constructed when you look at it, so the {@link CartesianList} itself takes up hardly any memory;
+     * if the canonical constructor throws, the exception comes out of whichever method was looking.
+     * @see Records#getCanonicalConstructorHandle(Class)
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <R extends Record> CartesianList<R> records(Class<R> recordType, Map<RecordComponent, ? extends List<?>> componentValues) {
+        var components = recordType.getRecordComponents();
+        Preconditions.checkArgument(components != null, "%s isn't a record type!", recordType);
+        Preconditions.checkArgument(
+            componentValues.size() == components.length,
+            "%s has %s components, but %s sets of component values were given: %s", recordType, components.length, componentValues.size(), componentValues.keySet()
+        );
+
+        var domains = new ArrayList<List<?>>(components.length);
+        for (var component : components) {
+            domains.add(
+                componentValues.entrySet()
+                    .stream()
+                    .filter(it -> Records.areSameComponent(it.getKey(), component))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("No values were given for the component %s.%s!".formatted(recordType.getSimpleName(), component.getName())))
+                    .getValue()
+            );
+        }
+
+        // 📎 Checking every value now is O(total domain size), and means the rows can skip straight to the constructor.
+        var metadata = RecordMetadata.of(recordType);
+        for (int i = 0; i < domains.size(); i++) {
+            for (var value : domains.get(i)) {
+                metadata.checkValue(i, value);
+            }
+        }
+
+        var constructor = metadata.constructorHandle();
+        return new CartesianList<>(domains, (product, digits, index) -> {
+            var args = new Object[digits.length];
+            for (int i = 0; i < digits.length; i++) {
+                args[i] = product.element(i, digits[i]);
+            }
+
+            try {
+                return Unchecked.cast((Object) constructor.invokeExact(args));
+            } catch (Throwable e) {
+                // 📎 Canonical constructors can't declare checked exceptions, so this is really just unchecked exceptions and errors.
+                return Unchecked.rethrow(e);
+            }
+        });
+    }
+
+    //region Selections
+
+    /**
+     * Returns every {@code k}-element <a href="https://en.wikipedia.org/wiki/Combination">combination</a> of the {@code source}, in order. For example:
+     * <pre>{@code
+     * Combinatorial.combinations(List.of('a', 'b', 'c', 'd'), 2)
+     *   .forEach(System.out::println);
+     *
+     * // [a, b]
+     * // [a, c]
+     * // [a, d]
+     * // [b, c]
+     * // [b, d]
+     * // [c, d]
+     * }</pre>
+     * Elements are picked by position, so if the {@code source} contains duplicates, so will the combinations.
+     *
+     * @param source the elements to choose from
+     * @param k      the number of elements in each combination
+     * @param <T>    the element type
+     * @return a {@link CombinatorialList} of every combination, which supports random access, {@link CombinatorialList#longIndexOf(Object)} and even parallel splitting
+     * @throws IllegalArgumentException if {@code k} is negative or the number of combinations doesn't fit in a {@code long}
+     * @apiNote Unlike Guava's {@link com.google.common.collect.Sets#combinations(java.util.Set, int)}, the rows are ordered {@link List}s, and the {@code source} can contain {@code null}s.
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> CombinatorialList<ListBase<T>> combinations(List<T> source, int k) {
+        return new Combinations<>(source, k, SelectionList.views());
+    }
+
+    /**
+     * Returns every <a href="https://en.wikipedia.org/wiki/Permutation">permutation</a> of the {@code source}, in lexicographic order of their positions. For example:
+     * <pre>{@code
+     * Combinatorial.permutations(List.of(1, 2, 3))
+     *   .forEach(System.out::println);
+     *
+     * // [1, 2, 3]
+     * // [1, 3, 2]
+     * // [2, 1, 3]
+     * // [2, 3, 1]
+     * // [3, 1, 2]
+     * // [3, 2, 1]
+     * }</pre>
+     *
+     * @param source the elements to rearrange
+     * @param <T>    the element type
+     * @return a {@link CombinatorialList} of every permutation
+     * @throws IllegalArgumentException if the number of permutations doesn't fit in a {@code long} <i>(i.e. the {@code source} has more than 20 elements)</i>
+     * @see #permutations(List, int)
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> CombinatorialList<ListBase<T>> permutations(List<T> source) {
+        return permutations(source, source.size());
+    }
+
+    /**
+     * Returns every {@code k}-element <a href="https://en.wikipedia.org/wiki/Permutation#k-permutations_of_n">partial permutation</a> of the {@code source}, in lexicographic order of their positions. For example:
+     * <pre>{@code
+     * Combinatorial.permutations(List.of(1, 2, 3), 2)
+     *   .forEach(System.out::println);
+     *
+     * // [1, 2]
+     * // [1, 3]
+     * // [2, 1]
+     * // [2, 3]
+     * // [3, 1]
+     * // [3, 2]
+     * }</pre>
+     *
+     * @param source the elements to choose from
+     * @param k      the number of elements in each permutation
+     * @param <T>    the element type
+     * @return a {@link CombinatorialList} of every {@code k}-permutation
+     * @throws IllegalArgumentException if {@code k} is negative or the number of permutations doesn't fit in a {@code long}
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> CombinatorialList<ListBase<T>> permutations(List<T> source, int k) {
+        return new Permutations<>(source, k, SelectionList.views());
+    }
+
+    /**
+     * Returns every sub-list of the {@code source} <i>(its <a href="https://en.wikipedia.org/wiki/Power_set">power set</a>)</i>. For example:
+     * <pre>{@code
+     * Combinatorial.powerSet(List.of('a', 'b', 'c'))
+     *   .forEach(System.out::println);
+     *
+     * // []
+     * // [a]
+     * // [b]
+     * // [a, b]
+     * // [c]
+     * // [a, c]
+     * // [b, c]
+     * // [a, b, c]
+     * }</pre>
+     * The index of each row is a bitmask of which {@code source} elements it includes, which is the same order as Guava's {@link com.google.common.collect.Sets#powerSet(java.util.Set)}.
+     *
+     * @param source the elements to choose from
+     * @param <T>    the element type
+     * @return a {@link CombinatorialList} of every sub-list
+     * @throws IllegalArgumentException if the {@code source} has more than 62 elements
+     */
+    @Nonnull
+    @Contract(pure = true)
+    public static <T> CombinatorialList<ListBase<T>> powerSet(List<T> source) {
+        return new PowerSet<>(source, SelectionList.views());
+    }
+
+    //endregion
+
+    private static <T> List<T> listOf(Iterable<T> iterable) {
+        return iterable instanceof List<T> list ? list : Lists.newArrayList(iterable);
     }
 
     /**
@@ -285,15 +697,7 @@ public final class Combinatorial {
      * @see #unorderedPairs(Iterable)
      */
     public static <T> Stream<@NonNull Tuple2<T, T>> orderedPairs(Iterable<T> source) {
-        return Streams.mapWithIndex(
-                    Streams.stream(source),
-                    (a, aIndex) -> Streams.mapWithIndex(
-                          Streams.stream(source),
-                          (b, bIndex) -> aIndex == bIndex ? null : Tuple.of(a, b)
-                    )
-              )
-              .flatMap(Function.identity())
-              .filter(Objects::nonNull);
+        return new Permutations<>(listOf(source), 2, SelectionList.<T>pairs()).stream();
     }
 
     /**
@@ -314,13 +718,6 @@ public final class Combinatorial {
      * @see #orderedPairs(Iterable)
      */
     public static <T> Stream<Tuple2<T, T>> unorderedPairs(Iterable<T> source) {
-        return Streams.mapWithIndex(
-                    Streams.stream(source),
-                    (a, aIndex) -> Streams.mapWithIndex(
-                          Streams.stream(source).skip(aIndex + 1),
-                          (b, bIndex) -> Tuple.of(a, b)
-                    )
-              )
-              .flatMap(Function.identity());
+        return new Combinations<>(listOf(source), 2, SelectionList.<T>pairs()).stream();
     }
 }
@@ -0,0 +1,510 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import brava.core.tuples.TupleN;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * The base class for immutable, computed lists of combinatorial objects, like {@link CartesianList}s, {@link Combinatorial#combinations(List, int)}
+ * and {@link Combinatorial#permutations(List)}.
+ * <p>
+ * None of the rows are stored. Instead, each row is described by an {@code int[]} "buffer" of indices, and every kind of list knows how to:
+ * <ul>
+ *     <li><b>Unrank</b> a row index into a buffer, which is what {@link #get(long)} does.</li>
+ *     <li><b>Rank</b> a row back into its index, which is what {@link #longIndexOf(Object)} does.</li>
+ *     <li>Step a buffer on to the <b>next</b> row, which is much cheaper than unranking every row from scratch.</li>
+ * </ul>
+ * The {@link #spliterator()} unranks once at the start of each split and then steps from there, so {@link #parallelStream()}s split evenly by index range.
+ * {@link #forEachCursor(Consumer)} steps a single re-usable {@link Cursor} through every row, so it doesn't create any row objects at all.
+ * <p>
+ * A list can have more than {@link Integer#MAX_VALUE} rows.
+ * The {@link List} methods only see the first {@link Integer#MAX_VALUE} of them <i>(like {@link java.util.Collection#size()} says they should)</i>,
+ * but {@link #longSize()}, {@link #get(long)}, {@link #stream()}, {@link #parallelStream()} and {@link #forEachCursor(Consumer)} cover everything.
+ *
+ * @param <R> the row type
+ */
+public abstract class CombinatorialList<R> implements ListBase<R>, RandomAccess {
+    private final long size;
+
+    /**
+     * @param size the number of rows
+     */
+    CombinatorialList(long size) {
+        this.size = size;
+    }
+
+    /**
+     * Multiplies the sizes of things, or complains that the product is too big to count.
+     *
+     * @throws IllegalArgumentException if the result doesn't fit in a {@code long}
+     */
+    static long multiplySizes(long a, long b, @NotNull Object what) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("The number of %s is too big to count with a long!".formatted(what), e);
+        }
+    }
+
+    /**
+     * @param source a domain that will have {@link List#get(int)} called on it a lot
+     * @return {@code source}, or a {@link RandomAccess} copy of it
+     */
+    static <T> @NotNull List<T> randomAccess(@NotNull List<T> source) {
+        // 📎 We call `get()` for every element of every row, so a `LinkedList` would make that quadratic.
+        return source instanceof RandomAccess ? source : new ArrayList<>(source);
+    }
+
+    //region Row encoding
+
+    /**
+     * @return the length of the {@code int[]} buffers passed to {@link #unrank(long, int[])} and {@link #next(int[], int, long)}
+     */
+    abstract int bufferLength();
+
+    /**
+     * Writes the description of a row into a buffer.
+     *
+     * @param rank   the row index
+     * @param buffer a buffer of length {@link #bufferLength()}
+     * @return the number of elements in the row
+     */
+    abstract int unrank(long rank, int @NotNull [] buffer);
+
+    /**
+     * Moves a buffer on from row {@code rank} to row {@code rank + 1}.
+     *
+     * @param buffer a buffer describing row {@code rank}
+     * @param length the number of elements in row {@code rank}
+     * @param rank   the current row index, which is never the last one
+     * @return the number of elements in row {@code rank + 1}
+     */
+    abstract int next(int @NotNull [] buffer, int length, long rank);
+
+    /**
+     * @param position a position in a row
+     * @param index    the {@code buffer} entry for that position
+     * @return the row's element at that position
+     */
+    abstract Object element(int position, int index);
+
+    /**
+     * @param buffer a buffer describing the row, which will be re-used for the next row
+     * @param length the number of elements in the row
+     * @param rank   the row index
+     * @return a new row object
+     */
+    abstract R row(int @NotNull [] buffer, int length, long rank);
+
+    //endregion
+
+    /**
+     * @param o a possible row
+     * @return the index of the first row equal to {@code o}, or {@code -1} if there isn't one
+     * @implSpec This is the inverse of {@link #get(long)}, and doesn't need to look at any other rows.
+     */
+    @Contract(pure = true)
+    public abstract long longIndexOf(@Nullable Object o);
+
+    /**
+     * @return the actual number of rows, which might be more than {@link Integer#MAX_VALUE}
+     */
+    @Contract(pure = true)
+    public final long longSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of rows, or {@link Integer#MAX_VALUE} if there are more than that
+     * @see #longSize()
+     */
+    @Contract(pure = true)
+    @Override
+    public final int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public final R get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * @param index the row index, which can be bigger than {@link Integer#MAX_VALUE}
+     * @return the row at {@code index}
+     */
+    public final R get(long index) {
+        Objects.checkIndex(index, size);
+        var buffer = new int[bufferLength()];
+        var length = unrank(index, buffer);
+        return row(buffer, length, index);
+    }
+
+    /**
+     * @return the index of the first row equal to {@code o}, or {@code -1} if there isn't one <i>(or if it's beyond the {@link #size()} of the {@link List})</i>
+     * @see #longIndexOf(Object)
+     */
+    @Override
+    public final int indexOf(@Nullable Object o) {
+        var index = longIndexOf(o);
+        // 📎 `size()` is capped at `Integer.MAX_VALUE`, so that's the first index that isn't part of the `List`.
+        return index < Integer.MAX_VALUE ? (int) index : -1;
+    }
+
+    @Override
+    public final boolean contains(@Nullable Object o) {
+        return longIndexOf(o) >= 0;
+    }
+
+    //region Sampling
+
+    /**
+     * Picks {@code n} different rows uniformly at random, without looking at any of the others.
+     * <p>
+     * This costs {@code O(n log n)} plus the cost of {@link #get(long)}ting each row, no matter how many rows there are,
+     * so it works on lists far too big to enumerate <i>(where a reservoir sample of the {@link #stream()} would never finish)</i>.
+     *
+     * @param n      the number of rows to pick
+     * @param random the source of randomness
+     * @return an immutable {@link List} of {@code n} different rows, in the same order as they appear in this list
+     * @throws IllegalArgumentException if {@code n} is negative or bigger than {@link #longSize()}
+     */
+    @Contract(pure = true)
+    public final @NotNull List<R> sample(int n, @NotNull RandomGenerator random) {
+        Preconditions.checkArgument(n >= 0 && n <= size, "Can't sample %s rows out of %s!", n, size);
+
+        var ranks = floyd(size, n, random);
+        Arrays.sort(ranks);
+
+        var buffer = new int[bufferLength()];
+        var rows   = new Object[n];
+        for (int i = 0; i < n; i++) {
+            var length = unrank(ranks[i], buffer);
+            rows[i] = row(buffer, length, ranks[i]);
+        }
+
+        return Unchecked.cast(Collections.unmodifiableList(Arrays.asList(rows)));
+    }
+
+    /**
+     * Picks {@code n} different numbers from {@code [0, bound)} with <a href="https://doi.org/10.1145/30401.315746">Robert Floyd's algorithm</a>,
+     * which only needs {@code n} random numbers and never has to retry.
+     *
+     * @return the chosen numbers, in no particular order
+     */
+    static long @NotNull [] floyd(long bound, int n, @NotNull RandomGenerator random) {
+        var chosen = new HashSet<Long>(Math.max(16, (int) (n / .75f) + 1));
+        var result = new long[n];
+        int count  = 0;
+        for (long j = bound - n; j < bound; j++) {
+            var candidate = random.nextLong(j + 1);
+            if (!chosen.add(candidate)) {
+                // 📎 `j` can't have been chosen yet, since it's bigger than every number we've looked at so far.
+                chosen.add(j);
+                candidate = j;
+            }
+
+            result[count++] = candidate;
+        }
+
+        return result;
+    }
+
+    //endregion
+
+    //region Iteration
+
+    /**
+     * @return a {@link Spliterator} over <i>all</i> of the rows, which splits by index range
+     */
+    @Contract(pure = true)
+    @Override
+    public final @NotNull Spliterator<R> spliterator() {
+        return new RowSpliterator(0, size);
+    }
+
+    @Override
+    public final @NotNull Iterator<R> iterator() {
+        return new Iterator<>() {
+            private long  index;
+            private int[] buffer;
+            private int   length;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public R next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                if (buffer == null) {
+                    buffer = new int[bufferLength()];
+                    length = unrank(index, buffer);
+                } else {
+                    length = CombinatorialList.this.next(buffer, length, index - 1);
+                }
+
+                return row(buffer, length, index++);
+            }
+        };
+    }
+
+    @Override
+    public final void forEach(@NotNull Consumer<? super R> action) {
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * @implNote Only the first row of each split is {@link #unrank(long, int[])}ed; after that, the buffer is stepped with {@link #next(int[], int, long)}.
+     */
+    private final class RowSpliterator implements Spliterator<R> {
+        private       long  index;
+        private final long  fence;
+        /**
+         * Describes row {@code index - 1}, or is {@code null} if we haven't started yet.
+         */
+        private       int[] buffer;
+        private       int   length;
+
+        private RowSpliterator(long origin, long fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private void advance() {
+            if (buffer == null) {
+                buffer = new int[bufferLength()];
+                length = unrank(index, buffer);
+            } else {
+                length = next(buffer, length, index - 1);
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super R> action) {
+            if (index >= fence) {
+                return false;
+            }
+
+            advance();
+            action.accept(row(buffer, length, index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull Consumer<? super R> action) {
+            var end = fence;
+            for (; index < end; index++) {
+                advance();
+                action.accept(row(buffer, length, index));
+            }
+        }
+
+        @Override
+        public @Nullable Spliterator<R> trySplit() {
+            long origin = index;
+            long mid    = origin + (fence - origin) / 2;
+            if (origin >= mid) {
+                return null;
+            }
+
+            // The prefix carries on from wherever we've gotten to, and we'll unrank a fresh starting point
+            var prefix = new RowSpliterator(origin, mid);
+            prefix.buffer = buffer;
+            prefix.length = length;
+            buffer        = null;
+            index         = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+        }
+    }
+
+    //endregion
+
+    //region Cursors
+
+    /**
+     * Visits every row without creating any row objects: the same {@link Cursor} is moved from one row to the next.
+     * <p>
+     * This is the cheapest way to walk through the rows, but it's sequential; use {@link #parallelStream()} to spread the work out.
+     *
+     * @param action called with a {@link Cursor} positioned on each row in turn
+     * @apiNote The {@link Cursor} is only valid during the call to {@code action}; {@link Cursor#snapshot()} it if you need to keep a row.
+     */
+    public final void forEachCursor(@NotNull Consumer<? super Cursor> action) {
+        if (size == 0) {
+            return;
+        }
+
+        var cursor = new Cursor(this, new int[bufferLength()]);
+        cursor.length = unrank(0, cursor.buffer);
+        action.accept(cursor);
+        for (long i = 1; i < size; i++) {
+            cursor.length = next(cursor.buffer, cursor.length, i - 1);
+            cursor.index  = i;
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * A re-usable, read-only view of the current row during {@link #forEachCursor(Consumer)}.
+     *
+     * @apiNote Like the row it's looking at, {@link #equals(Object)} and {@link #hashCode()} change as the cursor moves.
+     */
+    public static final class Cursor implements ListBase<Object>, RandomAccess {
+        private final CombinatorialList<?> list;
+        private final int[]                buffer;
+        private       int                  length;
+        private       long                 index;
+
+        private Cursor(@NotNull CombinatorialList<?> list, int @NotNull [] buffer) {
+            this.list   = list;
+            this.buffer = buffer;
+        }
+
+        /**
+         * @return the index of the current row
+         */
+        @Contract(pure = true)
+        public long index() {
+            return index;
+        }
+
+        /**
+         * @param position a position in the current row
+         * @return the index that the element at {@code position} was chosen from, e.g. the index into the source list of a {@link Combinatorial#combinations(List, int)}
+         * or the index into that position's domain of a {@link CartesianList}
+         */
+        @Contract(pure = true)
+        public int sourceIndex(int position) {
+            Objects.checkIndex(position, length);
+            return buffer[position];
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public Object get(int position) {
+            Objects.checkIndex(position, length);
+            return list.element(position, buffer[position]);
+        }
+
+        /**
+         * @return an immutable copy of the current row
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleN snapshot() {
+            return TupleN.of(toArray());
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj == this || obj instanceof List<?> other && length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            return listHash(this);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return Iterables.toString(this);
+        }
+    }
+
+    //endregion
+
+    static int listHash(@NotNull List<?> row) {
+        int hash = 1;
+        for (int i = 0; i < row.size(); i++) {
+            hash = 31 * hash + Objects.hashCode(row.get(i));
+        }
+
+        return hash;
+    }
+
+    //region Equality
+
+    /**
+     * @implSpec Follows the {@link List#equals(Object)} contract.
+     */
+    @Contract(pure = true, value = "null -> false")
+    @Override
+    public final boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (!(obj instanceof List<?> other) || size != other.size()) {
+            return false;
+        }
+
+        var mine   = iterator();
+        var theirs = other.iterator();
+        while (mine.hasNext()) {
+            if (!Objects.equals(mine.next(), theirs.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @implSpec Follows the {@link List#hashCode()} contract.
+     */
+    @Contract(pure = true)
+    @Override
+    public final int hashCode() {
+        int[] hash = { 1 };
+        forEach(row -> hash[0] = 31 * hash[0] + Objects.hashCode(row));
+        return hash[0];
+    }
+
+    //endregion
+}
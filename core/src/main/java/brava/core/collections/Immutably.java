@@ -13,14 +13,25 @@ import com.google.common.collect.Streams;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Methods for "updating" {@link ImmutableCollection}s.
+ * <p>
+ * Updating an {@link ImmutableCollection} means copying the whole thing.
+ * If you update the same collection over and over, use a {@link PersistentVector} instead: the methods here have overloads for it
+ * that only copy {@code O(log n)} nodes.
+ * The same goes for {@link Map}s and {@link PersistentMap}.
+ * <p>
+ * To make several changes at once, use {@link #edit(List, Consumer)} or {@link #edit(Map, Consumer)}, which only copy the collection once.
  */
 public final class Immutably {
     public static <T> ImmutableList<T> add(Iterable<T> list, T element) {
@@ -34,6 +45,15 @@ public final class Immutably {
         ).collect(ImmutableList.toImmutableList());
     }
 
+    /**
+     * @return a new {@link PersistentVector} with {@code element} added to the end, sharing most of its structure with {@code list}
+     * @see PersistentVector#plus(Object)
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <T> @NotNull PersistentVector<T> add(@NotNull PersistentVector<T> list, T element) {
+        return list.plus(element);
+    }
+
     public static <T> ImmutableList<T> insert(List<T> list, T element, int index) {
         Preconditions.checkPositionIndex(index, list.size());
 
@@ -51,6 +71,15 @@ public final class Immutably {
         return result;
     }
 
+    /**
+     * @return a new {@link PersistentVector} with {@code element} inserted at {@code index}, sharing most of its structure with {@code list}
+     * @see PersistentVector#plus(int, Object)
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public static <T> @NotNull PersistentVector<T> insert(@NotNull PersistentVector<T> list, T element, int index) {
+        return list.plus(index, element);
+    }
+
     @Contract(pure = true, value = "_,_,_->new")
     public static <K, V> @NotNull ImmutableMap<K, V> put(
         @NotNull Map<@NotNull K, @NotNull V> map,
@@ -67,6 +96,19 @@ public final class Immutably {
             .buildKeepingLast();
     }
 
+    /**
+     * @return a new {@link PersistentMap} where {@code key} is associated with {@code value}, sharing most of its structure with {@code map}
+     * @see PersistentMap#plus(Object, Object)
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull PersistentMap<K, V> put(
+        @NotNull PersistentMap<K, V> map,
+        @NotNull K key,
+        @NotNull V value
+    ) {
+        return map.plus(key, value);
+    }
+
     @SuppressWarnings("java:S2583")
     public static <K, V> Tuple2<ImmutableMap<K, V>, V> remove(
         @NotNull Map<@NotNull K, @NotNull V> map,
@@ -89,6 +131,25 @@ public final class Immutably {
         return Tuple.of(newMap, oldValue);
     }
 
+    /**
+     * @return a new {@link PersistentMap} without {@code key}, sharing most of its structure with {@code map}, and the removed value
+     * @throws IllegalArgumentException if {@code key} isn't in {@code map}
+     * @see PersistentMap#minus(Object)
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <K, V> @NotNull Tuple2<PersistentMap<K, V>, V> remove(
+        @NotNull PersistentMap<K, V> map,
+        @NotNull K key
+    ) {
+        var oldValue = map.get(key);
+        if (oldValue == null) {
+            throw new IllegalArgumentException(
+                "Can't remove the key %s because is isn't present in %s!".formatted(key, map));
+        }
+
+        return Tuple.of(map.minus(key), oldValue);
+    }
+
     public static <K, V> ImmutableMap<K, V> merge(
         Map<K, V> a,
         Map<K, V> b,
@@ -122,4 +183,340 @@ public final class Immutably {
                 Map.Entry::getValue
             ));
     }
+
+    /**
+     * @return a {@link PersistentMap} containing the entries of both maps, which re-uses any structure that they share
+     * @apiNote Unlike {@link #merge(Map, Map, TriFunction)}, the {@code arbiter} isn't called when both maps have the exact same ({@code ==}) value for a key.
+     * @see PersistentMap#merge(PersistentMap, TriFunction)
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull PersistentMap<K, V> merge(
+        @NotNull PersistentMap<K, V> a,
+        @NotNull PersistentMap<K, V> b,
+        @NotNull TriFunction<? super K, ? super V, ? super V, ? extends V> arbiter
+    ) {
+        return a.merge(b, arbiter);
+    }
+
+    //region Batch edits
+
+    /**
+     * Makes several changes to a {@link List} at once.
+     * <p>
+     * The {@code editor} is only valid inside of the {@code edits} function.
+     *
+     * @param <T> the element type
+     */
+    public interface ListEditor<T> {
+        int size();
+
+        T get(int index);
+
+        /**
+         * @see Immutably#add(Iterable, Object)
+         */
+        void add(T element);
+
+        /**
+         * @see Immutably#insert(List, Object, int)
+         */
+        void insert(T element, int index);
+
+        /**
+         * @return the element that was previously at {@code index}
+         * @see List#set(int, Object)
+         */
+        T set(int index, T element);
+
+        /**
+         * @return the element that was removed
+         * @see List#remove(int)
+         */
+        T removeAt(int index);
+    }
+
+    /**
+     * Makes several changes to a {@link Map} at once.
+     * <p>
+     * The {@code editor} is only valid inside of the {@code edits} function.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public interface MapEditor<K, V> {
+        int size();
+
+        V get(@NotNull K key);
+
+        boolean containsKey(@NotNull K key);
+
+        /**
+         * @return the previous value associated with {@code key}, if any
+         * @see Immutably#put(Map, Object, Object)
+         */
+        V put(@NotNull K key, @NotNull V value);
+
+        /**
+         * @return the removed value
+         * @throws IllegalArgumentException if {@code key} isn't present
+         * @see Immutably#remove(Map, Object)
+         */
+        V remove(@NotNull K key);
+    }
+
+    /**
+     * Applies a batch of {@code edits} to a copy of {@code list}.
+     * <p>
+     * Calling {@link #add(Iterable, Object)} and friends {@code k} times copies the whole list {@code k} times;
+     * this copies it once into a mutable buffer, applies all of the {@code edits} to the buffer, and then freezes the result.
+     *
+     * @return a new {@link ImmutableList} with the {@code edits} applied
+     */
+    @Contract(pure = true)
+    public static <T> @NotNull ImmutableList<T> edit(@NotNull List<T> list, @NotNull Consumer<? super ListEditor<T>> edits) {
+        var buffer = new ArrayList<>(list);
+        var editor = new ListBufferEditor<>(buffer);
+        edits.accept(editor);
+        editor.close();
+        return ImmutableList.copyOf(buffer);
+    }
+
+    /**
+     * Applies a batch of {@code edits} to {@code list}.
+     * <p>
+     * Each edit only copies the {@code O(log n)} nodes that it touches, so there's no up-front copy of the whole list.
+     *
+     * @return a {@link PersistentVector} with the {@code edits} applied, sharing most of its structure with {@code list}
+     */
+    @Contract(pure = true)
+    public static <T> @NotNull PersistentVector<T> edit(@NotNull PersistentVector<T> list, @NotNull Consumer<? super ListEditor<T>> edits) {
+        var editor = new PersistentVectorEditor<>(list);
+        edits.accept(editor);
+        editor.close();
+        return editor.vector;
+    }
+
+    /**
+     * Applies a batch of {@code edits} to a copy of {@code map}.
+     *
+     * @return a new {@link ImmutableMap} with the {@code edits} applied
+     * @see #edit(List, Consumer)
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull ImmutableMap<K, V> edit(@NotNull Map<@NotNull K, @NotNull V> map, @NotNull Consumer<? super MapEditor<K, V>> edits) {
+        var buffer = new LinkedHashMap<>(map);
+        var editor = new MapBufferEditor<>(buffer);
+        edits.accept(editor);
+        editor.close();
+        return ImmutableMap.copyOf(buffer);
+    }
+
+    /**
+     * Applies a batch of {@code edits} to {@code map}.
+     *
+     * @return a {@link PersistentMap} with the {@code edits} applied, sharing most of its structure with {@code map}
+     * @see #edit(PersistentVector, Consumer)
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull PersistentMap<K, V> edit(@NotNull PersistentMap<K, V> map, @NotNull Consumer<? super MapEditor<K, V>> edits) {
+        var editor = new PersistentMapEditor<>(map);
+        edits.accept(editor);
+        editor.close();
+        return editor.map;
+    }
+
+    /**
+     * Stops an editor from being used after its {@code edits} function has returned, which would otherwise "modify" the frozen result.
+     */
+    private abstract static class Editor {
+        private boolean closed;
+
+        final void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("This editor can only be used inside of its `edits` function!");
+            }
+        }
+
+        final void close() {
+            closed = true;
+        }
+    }
+
+    private static final class ListBufferEditor<T> extends Editor implements ListEditor<T> {
+        private final List<T> buffer;
+
+        private ListBufferEditor(@NotNull List<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int size() {
+            checkOpen();
+            return buffer.size();
+        }
+
+        @Override
+        public T get(int index) {
+            checkOpen();
+            return buffer.get(index);
+        }
+
+        @Override
+        public void add(T element) {
+            checkOpen();
+            buffer.add(element);
+        }
+
+        @Override
+        public void insert(T element, int index) {
+            checkOpen();
+            Preconditions.checkPositionIndex(index, buffer.size());
+            buffer.add(index, element);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkOpen();
+            return buffer.set(index, element);
+        }
+
+        @Override
+        public T removeAt(int index) {
+            checkOpen();
+            return buffer.remove(index);
+        }
+    }
+
+    private static final class PersistentVectorEditor<T> extends Editor implements ListEditor<T> {
+        private PersistentVector<T> vector;
+
+        private PersistentVectorEditor(@NotNull PersistentVector<T> vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public int size() {
+            checkOpen();
+            return vector.size();
+        }
+
+        @Override
+        public T get(int index) {
+            checkOpen();
+            return vector.get(index);
+        }
+
+        @Override
+        public void add(T element) {
+            checkOpen();
+            vector = vector.plus(element);
+        }
+
+        @Override
+        public void insert(T element, int index) {
+            checkOpen();
+            vector = vector.plus(index, element);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            checkOpen();
+            var old = vector.get(index);
+            vector = vector.with(index, element);
+            return old;
+        }
+
+        @Override
+        public T removeAt(int index) {
+            checkOpen();
+            var old = vector.get(index);
+            vector = vector.minus(index);
+            return old;
+        }
+    }
+
+    private static final class MapBufferEditor<K, V> extends Editor implements MapEditor<K, V> {
+        private final Map<K, V> buffer;
+
+        private MapBufferEditor(@NotNull Map<K, V> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int size() {
+            checkOpen();
+            return buffer.size();
+        }
+
+        @Override
+        public V get(@NotNull K key) {
+            checkOpen();
+            return buffer.get(key);
+        }
+
+        @Override
+        public boolean containsKey(@NotNull K key) {
+            checkOpen();
+            return buffer.containsKey(key);
+        }
+
+        @Override
+        public V put(@NotNull K key, @NotNull V value) {
+            checkOpen();
+            return buffer.put(Objects.requireNonNull(key, "key"), Objects.requireNonNull(value, "value"));
+        }
+
+        @Override
+        public V remove(@NotNull K key) {
+            checkOpen();
+            var oldValue = buffer.remove(key);
+            Preconditions.checkArgument(oldValue != null, "Can't remove the key %s because is isn't present!", key);
+            return oldValue;
+        }
+    }
+
+    private static final class PersistentMapEditor<K, V> extends Editor implements MapEditor<K, V> {
+        private PersistentMap<K, V> map;
+
+        private PersistentMapEditor(@NotNull PersistentMap<K, V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            checkOpen();
+            return map.size();
+        }
+
+        @Override
+        public V get(@NotNull K key) {
+            checkOpen();
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(@NotNull K key) {
+            checkOpen();
+            return map.containsKey(key);
+        }
+
+        @Override
+        public V put(@NotNull K key, @NotNull V value) {
+            checkOpen();
+            var oldValue = map.get(key);
+            map = map.plus(key, value);
+            return oldValue;
+        }
+
+        @Override
+        public V remove(@NotNull K key) {
+            checkOpen();
+            var oldValue = map.get(key);
+            Preconditions.checkArgument(oldValue != null, "Can't remove the key %s because is isn't present!", key);
+            map = map.minus(key);
+            return oldValue;
+        }
+    }
+
+    //endregion
 }
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * A skeletal implementation of {@link List} using {@code default} interface methods.
@@ -75,8 +76,7 @@ public interface ListBase<T> extends CollectionBase<T>, List<T> {
     @NotNull
     @Override
     default List<T> subList(int fromIndex, int toIndex) {
-        Preconditions.checkPositionIndex(fromIndex, this.size(), "fromIndex");
-        Preconditions.checkPositionIndex(toIndex, this.size(), "toIndex");
+        Preconditions.checkPositionIndexes(fromIndex, toIndex, this.size());
         return new CollectionHelpers.SubList<>(this, fromIndex, toIndex - fromIndex);
     }
 
@@ -87,14 +87,37 @@ public interface ListBase<T> extends CollectionBase<T>, List<T> {
 
     @Override
     default boolean contains(Object o) {
-        return CollectionBase.super.contains(o);
+        return indexOf(o) >= 0;
     }
 
     @SuppressWarnings("NullableProblems")
     @Override
     @NotNull
     default Object[] toArray() {
-        return CollectionBase.super.toArray();
+        var size  = size();
+        var array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    @Override
+    default void forEach(@NotNull Consumer<? super T> action) {
+        var size = size();
+        for (int i = 0; i < size; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    /**
+     * @return a {@link Spliterator} that splits by index range, so that {@link #parallelStream()}s divide the work evenly
+     * @implSpec Reports {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+     */
+    @NotNull
+    @Override
+    default Spliterator<T> spliterator() {
+        return new CollectionHelpers.RandomAccessSpliterator<>(this, 0, size(), Spliterator.IMMUTABLE);
     }
 
     @SuppressWarnings("NullableProblems")
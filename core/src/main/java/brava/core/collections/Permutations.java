@@ -0,0 +1,168 @@
+package brava.core.collections;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Every {@code k}-element <a href="https://en.wikipedia.org/wiki/Permutation#k-permutations_of_n">permutation</a> of a source {@link List}
+ * <i>(all of them, if {@code k} is the size of the source)</i>, in lexicographic order of their source indices.
+ * <p>
+ * Each buffer holds the {@code k} chosen indices, followed by the unused indices in ascending order.
+ * That way, stepping to the next row is the classic in-place <a href="https://en.wikipedia.org/wiki/Permutation#Generation_in_lexicographic_order">next permutation</a>
+ * algorithm, and rows are ranked and unranked with a <a href="https://en.wikipedia.org/wiki/Factorial_number_system">factorial number system</a>.
+ *
+ * @param <T> the source element type
+ * @param <R> the row type
+ * @see Combinatorial#permutations(List, int)
+ */
+final class Permutations<T, R> extends SelectionList<T, R> {
+    private final int    k;
+    /**
+     * {@code blocks[i]} is the number of rows you skip by choosing the next-larger index at position {@code i}.
+     */
+    private final long[] blocks;
+
+    /**
+     * @throws IllegalArgumentException if {@code k} is negative or the number of permutations doesn't fit in a {@code long}
+     */
+    Permutations(@NotNull List<T> source, int k, @NotNull Picker<T, R> picker) {
+        this(source, k, blocks(source.size(), k), picker);
+    }
+
+    private Permutations(@NotNull List<T> source, int k, long @NotNull [] blocks, @NotNull Picker<T, R> picker) {
+        super(source, k > source.size() ? 0 : k == 0 ? 1 : blocks[0] * source.size(), picker);
+        this.k      = k;
+        this.blocks = blocks;
+    }
+
+    private static long @NotNull [] blocks(int n, int k) {
+        Preconditions.checkArgument(k >= 0, "k (%s) must be non-negative", k);
+        if (k > n) {
+            return new long[0];
+        }
+
+        var  blocks = new long[k];
+        long block  = 1;
+        for (int i = k - 1; i >= 0; i--) {
+            blocks[i] = block;
+            block     = multiplySizes(block, n - i, "%s-permutations of %s elements".formatted(k, n));
+        }
+
+        return blocks;
+    }
+
+    @Override
+    int bufferLength() {
+        return n;
+    }
+
+    @Override
+    int unrank(long rank, int @NotNull [] indices) {
+        for (int i = 0; i < n; i++) {
+            indices[i] = i;
+        }
+
+        // `indices[i..]` are the unused indices, in order, so "the digit-th unused index" is at `i + digit`
+        for (int i = 0; i < k; i++) {
+            var digit  = (int) (rank / blocks[i]);
+            rank -= digit * blocks[i];
+            var chosen = indices[i + digit];
+            System.arraycopy(indices, i, indices, i + 1, digit);
+            indices[i] = chosen;
+        }
+
+        return k;
+    }
+
+    @Override
+    int next(int @NotNull [] indices, int length, long rank) {
+        // 📎 The usual case is that the last position can just swap places with the next-larger unused index, which keeps the unused indices in order.
+        //    The last position's digit says how many of the unused indices are smaller than it, so we know exactly where that is.
+        //    This matters when k is much smaller than n, since the general case below is O(n).
+        var larger = k + (int) (rank % (n - k + 1));
+        if (larger < n) {
+            var last = indices[k - 1];
+            indices[k - 1]  = indices[larger];
+            indices[larger] = last;
+            return k;
+        }
+
+        // Reversing the (ascending) unused indices makes this the *last* full permutation that starts with our k-permutation,
+        // so the next full permutation starts with the next k-permutation, followed by the unused indices in order again.
+        reverse(indices, k, n);
+
+        int i = n - 2;
+        while (indices[i] > indices[i + 1]) {
+            i--;
+        }
+
+        int j = n - 1;
+        while (indices[j] < indices[i]) {
+            j--;
+        }
+
+        swap(indices, i, j);
+        reverse(indices, i + 1, n);
+        return k;
+    }
+
+    private static void reverse(int @NotNull [] array, int from, int to) {
+        for (to--; from < to; from++, to--) {
+            swap(array, from, to);
+        }
+    }
+
+    private static void swap(int @NotNull [] array, int i, int j) {
+        var temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /**
+     * @implNote Where the source contains duplicates, the row could have come from more than one permutation of indices;
+     * the earliest of those is always the one that picks each element as early as possible.
+     */
+    @Contract(pure = true)
+    @Override
+    public long longIndexOf(@Nullable Object o) {
+        if (!(o instanceof List<?> row) || row.size() != k || isEmpty()) {
+            return -1;
+        }
+
+        var  used = new boolean[n];
+        long rank = 0;
+        for (int i = 0; i < k; i++) {
+            int index = indexAfter(-1, row.get(i));
+            while (index >= 0 && used[index]) {
+                index = indexAfter(index, row.get(i));
+            }
+
+            if (index < 0) {
+                return -1;
+            }
+
+            // The digit is the number of unused indices smaller than this one
+            int digit = index;
+            for (int j = 0; j < index; j++) {
+                if (used[j]) {
+                    digit--;
+                }
+            }
+
+            used[index] = true;
+            rank += digit * blocks[i];
+        }
+
+        return rank;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "Permutations[%s of %s]".formatted(k, source);
+    }
+}
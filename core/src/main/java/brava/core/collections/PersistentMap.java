@@ -0,0 +1,687 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import brava.core.functional.TriFunction;
+import brava.core.tuples.TupleHashing;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable {@link Map} whose "modified" copies share most of their structure with the original.
+ * <p>
+ * Where {@link Immutably#put(Map, Object, Object)} has to rebuild an entire {@link com.google.common.collect.ImmutableMap},
+ * {@link #plus(Object, Object)} and {@link #minus(Object)} only copy the {@code O(log32 n)} nodes on the path to the affected key.
+ * {@link #merge(PersistentMap, TriFunction)} goes further and re-uses any subtree that the two maps already share.
+ * <p>
+ * {@link Immutably}'s methods have overloads that accept {@link PersistentMap}s, so once a map is persistent, it stays persistent.
+ * Like {@link com.google.common.collect.ImmutableMap}, a {@link PersistentMap} doesn't allow {@code null} keys or values.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @implNote This is a <a href="https://en.wikipedia.org/wiki/Hash_array_mapped_trie">hash array mapped trie</a>,
+ * using the "CHAMP" layout from <a href="https://doi.org/10.1145/2814270.2814312">Steindorfer &amp; Vinju (2015)</a>:
+ * each node has one bitmap for the entries stored inline and another for its sub-nodes, which keeps the trie in a canonical, compact shape.
+ * Keys whose hashes are completely identical end up in a "collision" node at the bottom of the trie.
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final int                           BITS        = 5;
+    private static final int                           MASK        = (1 << BITS) - 1;
+    private static final int                           HASH_LENGTH = 32;
+    /**
+     * The deepest a trie can get: 7 {@link BitmapNode} levels + 1 {@link CollisionNode} level.
+     */
+    private static final int                           MAX_DEPTH   = (HASH_LENGTH + BITS - 1) / BITS + 1;
+    private static final PersistentMap<Object, Object> EMPTY       = new PersistentMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    /**
+     * The number of entries, or {@code -1} if it hasn't been counted yet <i>(see {@link #merge(PersistentMap, TriFunction)})</i>.
+     *
+     * @implNote Racing threads will just count the same answer, so this doesn't need to be {@code volatile}.
+     */
+    private       int  size;
+
+    private PersistentMap(@NotNull Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    //region Factories
+
+    /**
+     * @return an empty {@link PersistentMap}
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull PersistentMap<K, V> empty() {
+        return Unchecked.cast(EMPTY);
+    }
+
+    /**
+     * @param map the entries
+     * @return a {@link PersistentMap} containing the same entries as {@code map}
+     * @apiNote If {@code map} is already a {@link PersistentMap}, it is returned as-is.
+     */
+    @Contract(pure = true)
+    public static <K, V> @NotNull PersistentMap<K, V> copyOf(@NotNull Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap<? extends K, ? extends V> persistent) {
+            return Unchecked.cast(persistent);
+        }
+
+        PersistentMap<K, V> result = empty();
+        for (var entry : map.entrySet()) {
+            result = result.plus(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    //endregion
+
+    private static int hash(@NotNull Object key) {
+        return TupleHashing.spread(key.hashCode());
+    }
+
+    private static int mask(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static int bit(int mask) {
+        return 1 << mask;
+    }
+
+    //region Map
+
+    @Override
+    public int size() {
+        if (size < 0) {
+            size = count(root);
+        }
+        return size;
+    }
+
+    private static int count(@NotNull Node node) {
+        int total = node.dataCount();
+        for (int i = 0; i < node.nodeCount(); i++) {
+            total += count(node.nodeAt(i));
+        }
+        return total;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.dataCount() == 0 && root.nodeCount() == 0;
+    }
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+        return key == null ? null : Unchecked.cast(root.find(key, hash(key), 0));
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return PersistentMap.this.size();
+            }
+        };
+    }
+
+    //endregion
+
+    //region "Modification"
+
+    /**
+     * Holds the side effects of a {@link Node#put}/{@link Node#remove}.
+     */
+    private static final class Change {
+        private @Nullable Object oldValue;
+    }
+
+    /**
+     * @param key   the key
+     * @param value the new value
+     * @return a {@link PersistentMap} where {@code key} is associated with {@code value}
+     */
+    @Contract(pure = true)
+    public @NotNull PersistentMap<K, V> plus(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+
+        var change  = new Change();
+        var newRoot = root.put(key, value, hash(key), 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+
+        return new PersistentMap<>(newRoot, size < 0 || change.oldValue != null ? size : size + 1);
+    }
+
+    /**
+     * @param key the key to remove
+     * @return a {@link PersistentMap} without {@code key}
+     */
+    @Contract(pure = true)
+    public @NotNull PersistentMap<K, V> minus(@NotNull Object key) {
+        Objects.requireNonNull(key, "key");
+
+        var newRoot = root.remove(key, hash(key), 0, new Change());
+        if (newRoot == root) {
+            return this;
+        }
+
+        return new PersistentMap<>(newRoot, size < 0 ? size : size - 1);
+    }
+
+    /**
+     * Combines two {@link PersistentMap}s.
+     *
+     * @param other   the other {@link PersistentMap}
+     * @param arbiter decides the value for keys that are in both maps: {@code (key, myValue, otherValue) -> newValue}
+     * @return a {@link PersistentMap} containing the entries of both maps
+     * @apiNote The {@code arbiter} is <b>not</b> called when both maps have the exact same ({@code ==}) value for a key,
+     * which is what lets subtrees that the two maps share be re-used without looking inside them.
+     */
+    @Contract(pure = true)
+    public @NotNull PersistentMap<K, V> merge(
+          @NotNull PersistentMap<K, V> other,
+          @NotNull TriFunction<? super K, ? super V, ? super V, ? extends V> arbiter
+    ) {
+        if (other.isEmpty() || other.root == root) {
+            return this;
+        }
+
+        if (isEmpty()) {
+            return other;
+        }
+
+        TriFunction<Object, Object, Object, Object> untyped = (k, a, b) -> a == b ? a : Objects.requireNonNull(arbiter.apply(Unchecked.cast(k), Unchecked.cast(a), Unchecked.cast(b)), "arbiter result");
+        return new PersistentMap<>(merge(root, other.root, 0, untyped), -1);
+    }
+
+    private static @NotNull Node merge(@NotNull Node left, @NotNull Node right, int shift, @NotNull TriFunction<Object, Object, Object, Object> arbiter) {
+        if (left == right) {
+            return left;
+        }
+
+        if (!(left instanceof BitmapNode x) || !(right instanceof BitmapNode y)) {
+            // Collision nodes: just fold the right entries into the left node
+            var result = left;
+            for (int i = 0; i < right.dataCount(); i++) {
+                result = putResolving(result, right.keyAt(i), right.valueAt(i), shift, arbiter, true);
+            }
+            return result;
+        }
+
+        int      dataMap   = 0;
+        int      nodeMap   = 0;
+        Object[] data      = new Object[2 * Integer.bitCount(x.dataMap | y.dataMap)];
+        Node[]   nodes     = new Node[Integer.bitCount(x.dataMap | x.nodeMap | y.dataMap | y.nodeMap)];
+        int      dataCount = 0;
+        int      nodeCount = 0;
+
+        for (int remaining = x.dataMap | x.nodeMap | y.dataMap | y.nodeMap; remaining != 0; remaining &= remaining - 1) {
+            int    bit  = remaining & -remaining;
+            Node   node = null;
+            Object key  = null;
+            Object value = null;
+
+            if ((x.dataMap & bit) != 0) {
+                key   = x.content[2 * x.dataIndex(bit)];
+                value = x.content[2 * x.dataIndex(bit) + 1];
+                if ((y.dataMap & bit) != 0) {
+                    var otherKey   = y.content[2 * y.dataIndex(bit)];
+                    var otherValue = y.content[2 * y.dataIndex(bit) + 1];
+                    if (key.equals(otherKey)) {
+                        value = arbiter.apply(key, value, otherValue);
+                    } else {
+                        node = mergeTwo(key, value, hash(key), otherKey, otherValue, hash(otherKey), shift + BITS);
+                    }
+                } else if ((y.nodeMap & bit) != 0) {
+                    node = putResolving(y.subNode(bit), key, value, shift + BITS, arbiter, false);
+                }
+            } else if ((x.nodeMap & bit) != 0) {
+                if ((y.dataMap & bit) != 0) {
+                    node = putResolving(x.subNode(bit), y.content[2 * y.dataIndex(bit)], y.content[2 * y.dataIndex(bit) + 1], shift + BITS, arbiter, true);
+                } else if ((y.nodeMap & bit) != 0) {
+                    node = merge(x.subNode(bit), y.subNode(bit), shift + BITS, arbiter);
+                } else {
+                    node = x.subNode(bit);
+                }
+            } else if ((y.dataMap & bit) != 0) {
+                key   = y.content[2 * y.dataIndex(bit)];
+                value = y.content[2 * y.dataIndex(bit) + 1];
+            } else {
+                node = y.subNode(bit);
+            }
+
+            if (node != null) {
+                nodeMap |= bit;
+                nodes[nodeCount++] = node;
+            } else {
+                dataMap |= bit;
+                data[2 * dataCount]     = key;
+                data[2 * dataCount + 1] = value;
+                dataCount++;
+            }
+        }
+
+        var content = new Object[2 * dataCount + nodeCount];
+        System.arraycopy(data, 0, content, 0, 2 * dataCount);
+        for (int i = 0; i < nodeCount; i++) {
+            content[content.length - 1 - i] = nodes[i];
+        }
+        return new BitmapNode(dataMap, nodeMap, content);
+    }
+
+    /**
+     * Adds an entry to a {@link Node}, consulting the {@code arbiter} if the key is already there.
+     *
+     * @param newIsRight whether the new value came from the "other" map, i.e. whether it should be the {@code arbiter}'s 3rd argument
+     */
+    private static @NotNull Node putResolving(@NotNull Node node, @NotNull Object key, @NotNull Object value, int shift, @NotNull TriFunction<Object, Object, Object, Object> arbiter, boolean newIsRight) {
+        var hash     = hash(key);
+        var existing = node.find(key, hash, shift);
+        if (existing != null) {
+            value = newIsRight ? arbiter.apply(key, existing, value) : arbiter.apply(key, value, existing);
+        }
+        return node.put(key, value, hash, shift, new Change());
+    }
+
+    private static @NotNull Node mergeTwo(@NotNull Object key0, @NotNull Object value0, int hash0, @NotNull Object key1, @NotNull Object value1, int hash1, int shift) {
+        if (shift >= HASH_LENGTH) {
+            return new CollisionNode(hash0, new Object[]{ key0, value0, key1, value1 });
+        }
+
+        int mask0 = mask(hash0, shift);
+        int mask1 = mask(hash1, shift);
+        if (mask0 != mask1) {
+            var dataMap = bit(mask0) | bit(mask1);
+            return mask0 < mask1
+                  ? new BitmapNode(dataMap, 0, new Object[]{ key0, value0, key1, value1 })
+                  : new BitmapNode(dataMap, 0, new Object[]{ key1, value1, key0, value0 });
+        }
+
+        return new BitmapNode(0, bit(mask0), new Object[]{ mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS) });
+    }
+
+    //endregion
+
+    //region Nodes
+
+    private abstract static class Node {
+        abstract @Nullable Object find(@NotNull Object key, int hash, int shift);
+
+        /**
+         * @return the new {@link Node}, or {@code this} if nothing changed
+         */
+        abstract @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull Change change);
+
+        /**
+         * @return the new {@link Node}, or {@code this} if nothing changed
+         */
+        abstract @NotNull Node remove(@NotNull Object key, int hash, int shift, @NotNull Change change);
+
+        abstract int dataCount();
+
+        abstract @NotNull Object keyAt(int index);
+
+        abstract @NotNull Object valueAt(int index);
+
+        abstract int nodeCount();
+
+        abstract @NotNull Node nodeAt(int index);
+
+        final boolean hasSingleEntry() {
+            return dataCount() == 1 && nodeCount() == 0;
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int      dataMap;
+        private final int      nodeMap;
+        /**
+         * The inline entries as {@code key, value} pairs from the front, followed by the sub-nodes <b>in reverse order</b> from the back.
+         */
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, @NotNull Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        private @NotNull Node subNode(int bit) {
+            return (Node) content[nodeIndex(bit)];
+        }
+
+        @Override
+        @Nullable Object find(@NotNull Object key, int hash, int shift) {
+            var bit = bit(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                var index = 2 * dataIndex(bit);
+                return key.equals(content[index]) ? content[index + 1] : null;
+            }
+
+            if ((nodeMap & bit) != 0) {
+                return subNode(bit).find(key, hash, shift + BITS);
+            }
+
+            return null;
+        }
+
+        @Override
+        @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull Change change) {
+            var bit = bit(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                var index    = 2 * dataIndex(bit);
+                var existing = content[index];
+                if (key.equals(existing)) {
+                    change.oldValue = content[index + 1];
+                    if (change.oldValue == value) {
+                        return this;
+                    }
+
+                    var copy = content.clone();
+                    copy[index + 1] = value;
+                    return new BitmapNode(dataMap, nodeMap, copy);
+                }
+
+                var subNode = mergeTwo(existing, content[index + 1], hash(existing), key, value, hash, shift + BITS);
+                return migrateInlineToNode(bit, subNode);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                var index   = nodeIndex(bit);
+                var subNode = (Node) content[index];
+                var updated = subNode.put(key, value, hash, shift + BITS, change);
+                if (updated == subNode) {
+                    return this;
+                }
+
+                var copy = content.clone();
+                copy[index] = updated;
+                return new BitmapNode(dataMap, nodeMap, copy);
+            }
+
+            var index = 2 * dataIndex(bit);
+            var copy  = new Object[content.length + 2];
+            System.arraycopy(content, 0, copy, 0, index);
+            copy[index]     = key;
+            copy[index + 1] = value;
+            System.arraycopy(content, index, copy, index + 2, content.length - index);
+            return new BitmapNode(dataMap | bit, nodeMap, copy);
+        }
+
+        @Override
+        @NotNull Node remove(@NotNull Object key, int hash, int shift, @NotNull Change change) {
+            var bit = bit(mask(hash, shift));
+            if ((dataMap & bit) != 0) {
+                var index = 2 * dataIndex(bit);
+                if (!key.equals(content[index])) {
+                    return this;
+                }
+
+                change.oldValue = content[index + 1];
+                if (Integer.bitCount(dataMap) == 2 && nodeMap == 0) {
+                    // 📎 The remaining entry will be inlined by our parent, unless we're the root, where the level-0 position is what matters.
+                    var newDataMap = shift == 0 ? dataMap ^ bit : bit(mask(hash, 0));
+                    return index == 0
+                          ? new BitmapNode(newDataMap, 0, new Object[]{ content[2], content[3] })
+                          : new BitmapNode(newDataMap, 0, new Object[]{ content[0], content[1] });
+                }
+
+                var copy = new Object[content.length - 2];
+                System.arraycopy(content, 0, copy, 0, index);
+                System.arraycopy(content, index + 2, copy, index, content.length - index - 2);
+                return new BitmapNode(dataMap ^ bit, nodeMap, copy);
+            }
+
+            if ((nodeMap & bit) != 0) {
+                var index   = nodeIndex(bit);
+                var subNode = (Node) content[index];
+                var updated = subNode.remove(key, hash, shift + BITS, change);
+                if (updated == subNode) {
+                    return this;
+                }
+
+                if (updated.hasSingleEntry()) {
+                    if (dataMap == 0 && Integer.bitCount(nodeMap) == 1) {
+                        // We'd be left with nothing but a single entry, so let our parent inline it instead
+                        return updated;
+                    }
+
+                    return migrateNodeToInline(bit, updated);
+                }
+
+                var copy = content.clone();
+                copy[index] = updated;
+                return new BitmapNode(dataMap, nodeMap, copy);
+            }
+
+            return this;
+        }
+
+        private @NotNull BitmapNode migrateInlineToNode(int bit, @NotNull Node node) {
+            var oldIndex = 2 * dataIndex(bit);
+            var newIndex = content.length - 2 - Integer.bitCount(nodeMap & (bit - 1));
+            var copy     = new Object[content.length - 1];
+            System.arraycopy(content, 0, copy, 0, oldIndex);
+            System.arraycopy(content, oldIndex + 2, copy, oldIndex, newIndex - oldIndex);
+            copy[newIndex] = node;
+            System.arraycopy(content, newIndex + 2, copy, newIndex + 1, content.length - newIndex - 2);
+            return new BitmapNode(dataMap ^ bit, nodeMap | bit, copy);
+        }
+
+        private @NotNull BitmapNode migrateNodeToInline(int bit, @NotNull Node node) {
+            var oldIndex = nodeIndex(bit);
+            var newIndex = 2 * dataIndex(bit);
+            var copy     = new Object[content.length + 1];
+            System.arraycopy(content, 0, copy, 0, newIndex);
+            copy[newIndex]     = node.keyAt(0);
+            copy[newIndex + 1] = node.valueAt(0);
+            System.arraycopy(content, newIndex, copy, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(content, oldIndex + 1, copy, oldIndex + 2, content.length - oldIndex - 1);
+            return new BitmapNode(dataMap | bit, nodeMap ^ bit, copy);
+        }
+
+        @Override
+        int dataCount() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        @NotNull Object keyAt(int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        @NotNull Object valueAt(int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        @NotNull Node nodeAt(int index) {
+            return (Node) content[content.length - 1 - index];
+        }
+    }
+
+    /**
+     * Holds the entries whose keys have exactly the same {@link #hash}.
+     */
+    private static final class CollisionNode extends Node {
+        private final int      hash;
+        /**
+         * {@code key, value} pairs.
+         */
+        private final Object[] content;
+
+        private CollisionNode(int hash, @NotNull Object[] content) {
+            this.hash    = hash;
+            this.content = content;
+        }
+
+        private int indexOf(@NotNull Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (key.equals(content[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        @Nullable Object find(@NotNull Object key, int hash, int shift) {
+            var index = indexOf(key);
+            return index < 0 ? null : content[index + 1];
+        }
+
+        @Override
+        @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift, @NotNull Change change) {
+            var index = indexOf(key);
+            if (index >= 0) {
+                change.oldValue = content[index + 1];
+                if (change.oldValue == value) {
+                    return this;
+                }
+
+                var copy = content.clone();
+                copy[index + 1] = value;
+                return new CollisionNode(hash, copy);
+            }
+
+            var copy = Arrays.copyOf(content, content.length + 2);
+            copy[content.length]     = key;
+            copy[content.length + 1] = value;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        @NotNull Node remove(@NotNull Object key, int hash, int shift, @NotNull Change change) {
+            var index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+
+            change.oldValue = content[index + 1];
+            if (content.length == 4) {
+                // The last remaining entry will be inlined by our parent
+                var other = index == 0 ? 2 : 0;
+                return new BitmapNode(bit(mask(hash, 0)), 0, new Object[]{ content[other], content[other + 1] });
+            }
+
+            var copy = new Object[content.length - 2];
+            System.arraycopy(content, 0, copy, 0, index);
+            System.arraycopy(content, index + 2, copy, index, content.length - index - 2);
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        int dataCount() {
+            return content.length / 2;
+        }
+
+        @Override
+        @NotNull Object keyAt(int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        @NotNull Object valueAt(int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int nodeCount() {
+            return 0;
+        }
+
+        @Override
+        @NotNull Node nodeAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    //endregion
+
+    /**
+     * Walks the trie depth-first, visiting each node's inline entries before its sub-nodes.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+        private final Node[] stack     = new Node[MAX_DEPTH];
+        private final int[]  nextEntry = new int[MAX_DEPTH];
+        private final int[]  nextNode  = new int[MAX_DEPTH];
+        private       int    depth     = 0;
+
+        private EntryIterator(@NotNull Node root) {
+            stack[0] = root;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (true) {
+                var node = stack[depth];
+                if (nextEntry[depth] < node.dataCount()) {
+                    return true;
+                }
+
+                if (nextNode[depth] < node.nodeCount()) {
+                    var child = node.nodeAt(nextNode[depth]++);
+                    depth++;
+                    stack[depth]     = child;
+                    nextEntry[depth] = 0;
+                    nextNode[depth]  = 0;
+                } else if (depth > 0) {
+                    stack[depth--] = null;
+                } else {
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var node  = stack[depth];
+            var index = nextEntry[depth]++;
+            return new SimpleImmutableEntry<>(Unchecked.cast(node.keyAt(index)), Unchecked.cast(node.valueAt(index)));
+        }
+    }
+}
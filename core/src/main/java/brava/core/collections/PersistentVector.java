@@ -0,0 +1,431 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link List} whose "modified" copies share most of their structure with the original.
+ * <p>
+ * Where {@link Immutably#add(Iterable, Object)} has to copy an entire {@link com.google.common.collect.ImmutableList},
+ * {@link #plus(Object)}, {@link #plus(int, Object)}, {@link #with(int, Object)} and {@link #minus(int)} only copy the {@code O(log32 n)} nodes
+ * on the path to the affected element; everything else is shared.
+ * <p>
+ * {@link Immutably}'s methods have overloads that accept {@link PersistentVector}s, so once a list is persistent, it stays persistent.
+ *
+ * @param <T> the element type
+ * @implNote This is a <a href="https://en.wikipedia.org/wiki/B%2B_tree">B+ tree</a> with a branching factor of 32, where each branch
+ * stores the cumulative sizes of its children <i>(like the "relaxed" nodes of an <a href="https://infoscience.epfl.ch/record/169879">RRB-tree</a>)</i>.
+ * The size tables are what make {@link #plus(int, Object)} and {@link #minus(int)} {@code O(log n)}, rather than {@code O(n)} like in a strict bit-partitioned trie.
+ * <ul>
+ *     <li>Leaves hold between 16 and 32 elements; branches hold between 16 and 32 children <i>(except at the root)</i>.</li>
+ *     <li>A node that overflows is split in half; a node that underflows is merged with a neighbor <i>(and re-split, if the result is too big)</i>.</li>
+ * </ul>
+ */
+public final class PersistentVector<T> implements ListBase<T>, RandomAccess {
+    private static final int                      MAX   = 32;
+    private static final int                      MIN   = MAX / 2;
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(new Leaf(new Object[0]));
+
+    private final Node root;
+
+    private PersistentVector(@NotNull Node root) {
+        this.root = root;
+    }
+
+    //region Factories
+
+    /**
+     * @return an empty {@link PersistentVector}
+     */
+    @Contract(pure = true)
+    public static <T> @NotNull PersistentVector<T> empty() {
+        return Unchecked.cast(EMPTY);
+    }
+
+    /**
+     * @param elements the elements
+     * @return a new {@link PersistentVector} containing {@code elements}
+     */
+    @SafeVarargs
+    @Contract(pure = true)
+    public static <T> @NotNull PersistentVector<T> of(T @NotNull ... elements) {
+        return copyOf(Arrays.asList(elements));
+    }
+
+    /**
+     * @param elements the elements
+     * @return a {@link PersistentVector} containing {@code elements}, in order
+     * @apiNote If {@code elements} is already a {@link PersistentVector}, it is returned as-is.
+     * @implNote The tree is built bottom-up, so this is {@code O(n)}.
+     */
+    @Contract(pure = true)
+    public static <T> @NotNull PersistentVector<T> copyOf(@NotNull Iterable<? extends T> elements) {
+        if (elements instanceof PersistentVector<? extends T> vector) {
+            return Unchecked.cast(vector);
+        }
+
+        var array = Iterables.toArray(elements, Object.class);
+        if (array.length == 0) {
+            return empty();
+        }
+
+        var level = new ArrayList<Node>((array.length + MAX - 1) / MAX);
+        for (var start : chunkStarts(array.length)) {
+            level.add(new Leaf(Arrays.copyOfRange(array, start[0], start[1])));
+        }
+
+        while (level.size() > 1) {
+            var parents = new ArrayList<Node>((level.size() + MAX - 1) / MAX);
+            for (var start : chunkStarts(level.size())) {
+                parents.add(Branch.of(level.subList(start[0], start[1]).toArray(Node[]::new)));
+            }
+            level = parents;
+        }
+
+        return new PersistentVector<>(level.get(0));
+    }
+
+    /**
+     * Divides {@code count} items into chunks of at most {@link #MAX}, making sure that none of the chunks (except a lone one) are smaller than {@link #MIN}.
+     */
+    private static int @NotNull [][] chunkStarts(int count) {
+        var chunks = (count + MAX - 1) / MAX;
+        var result = new int[chunks][];
+        for (int i = 0; i < chunks; i++) {
+            // 📎 Spreading the items evenly guarantees every chunk has at least `count / chunks` ≥ MIN items when there are 2+ chunks.
+            result[i] = new int[]{ (int) ((long) count * i / chunks), (int) ((long) count * (i + 1) / chunks) };
+        }
+        return result;
+    }
+
+    //endregion
+
+    //region Nodes
+
+    private abstract static class Node {
+        abstract int size();
+
+        /**
+         * @return the number of elements <i>(for a {@link Leaf})</i> or children <i>(for a {@link Branch})</i>
+         */
+        abstract int width();
+    }
+
+    private static final class Leaf extends Node {
+        private final Object[] elements;
+
+        private Leaf(@NotNull Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        int size() {
+            return elements.length;
+        }
+
+        @Override
+        int width() {
+            return elements.length;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        /**
+         * {@code ends[i]} is the total size of {@code children[0..i]}.
+         */
+        private final int[]  ends;
+
+        private Branch(@NotNull Node[] children, int @NotNull [] ends) {
+            this.children = children;
+            this.ends     = ends;
+        }
+
+        private static @NotNull Branch of(@NotNull Node @NotNull [] children) {
+            var ends  = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += children[i].size();
+                ends[i] = total;
+            }
+            return new Branch(children, ends);
+        }
+
+        @Override
+        int size() {
+            return ends[ends.length - 1];
+        }
+
+        @Override
+        int width() {
+            return children.length;
+        }
+
+        /**
+         * @return the index of the child that contains the element at {@code index}
+         */
+        private int childFor(int index) {
+            int child = 0;
+            while (ends[child] <= index) {
+                child++;
+            }
+            return child;
+        }
+
+        private int offsetOf(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+    }
+
+    //endregion
+
+    @Contract(pure = true)
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    @Contract(pure = true)
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        var node = root;
+        while (node instanceof Branch branch) {
+            var child = branch.childFor(index);
+            index -= branch.offsetOf(child);
+            node = branch.children[child];
+        }
+        return Unchecked.cast(((Leaf) node).elements[index]);
+    }
+
+    //region "Modification"
+
+    /**
+     * @param element the new last element
+     * @return a new {@link PersistentVector} with {@code element} added to the end
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public @NotNull PersistentVector<T> plus(T element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * @param index   where the new element will go
+     * @param element the new element
+     * @return a new {@link PersistentVector} with {@code element} inserted at {@code index}
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public @NotNull PersistentVector<T> plus(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        var nodes = insert(root, index, element);
+        return new PersistentVector<>(nodes.length == 1 ? nodes[0] : Branch.of(nodes));
+    }
+
+    /**
+     * @param index   the index of the element to replace
+     * @param element the new element
+     * @return a new {@link PersistentVector} with {@code element} at {@code index}
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public @NotNull PersistentVector<T> with(int index, T element) {
+        Objects.checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    /**
+     * @param index the index of the element to remove
+     * @return a {@link PersistentVector} without the element at {@code index}
+     */
+    @Contract(pure = true)
+    public @NotNull PersistentVector<T> minus(int index) {
+        Objects.checkIndex(index, size());
+        var node = delete(root, index);
+        while (node instanceof Branch branch && branch.children.length == 1) {
+            node = branch.children[0];
+        }
+        return node.size() == 0 ? empty() : new PersistentVector<>(node);
+    }
+
+    private static @NotNull Node replace(@NotNull Node node, int index, Object element) {
+        if (node instanceof Leaf leaf) {
+            var elements = leaf.elements.clone();
+            elements[index] = element;
+            return new Leaf(elements);
+        }
+
+        var branch   = (Branch) node;
+        var child    = branch.childFor(index);
+        var children = branch.children.clone();
+        children[child] = replace(children[child], index - branch.offsetOf(child), element);
+        return new Branch(children, branch.ends);
+    }
+
+    /**
+     * @return the replacement for {@code node}: either 1 node, or 2 if it had to be split
+     */
+    private static @NotNull Node @NotNull [] insert(@NotNull Node node, int index, Object element) {
+        if (node instanceof Leaf leaf) {
+            var old      = leaf.elements;
+            var elements = new Object[old.length + 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            elements[index] = element;
+            System.arraycopy(old, index, elements, index + 1, old.length - index);
+            return split(elements);
+        }
+
+        var branch = (Branch) node;
+        // 📎 An index on the boundary between 2 children goes at the end of the left one.
+        var child = 0;
+        while (branch.ends[child] < index) {
+            child++;
+        }
+
+        var replacement = insert(branch.children[child], index - branch.offsetOf(child), element);
+        return split(splice(branch.children, child, 1, replacement));
+    }
+
+    private static @NotNull Node delete(@NotNull Node node, int index) {
+        if (node instanceof Leaf leaf) {
+            var old      = leaf.elements;
+            var elements = new Object[old.length - 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            System.arraycopy(old, index + 1, elements, index, old.length - index - 1);
+            return new Leaf(elements);
+        }
+
+        var branch      = (Branch) node;
+        var child       = branch.childFor(index);
+        var replacement = delete(branch.children[child], index - branch.offsetOf(child));
+
+        if (replacement.width() >= MIN || branch.children.length == 1) {
+            var children = branch.children.clone();
+            children[child] = replacement;
+            return Branch.of(children);
+        }
+
+        // The child is too small, so merge it with a neighbor (and re-split it if the result is too big)
+        var left  = child > 0 ? child - 1 : child;
+        var pair  = left == child ? new Node[]{ replacement, branch.children[child + 1] } : new Node[]{ branch.children[left], replacement };
+        var glued = pair[0] instanceof Leaf a
+              ? split(concat(a.elements, ((Leaf) pair[1]).elements))
+              : split(concat(((Branch) pair[0]).children, ((Branch) pair[1]).children));
+        return Branch.of(splice(branch.children, left, 2, glued));
+    }
+
+    /**
+     * @return {@code elements} as 1 {@link Leaf}, or 2 if there are too many of them
+     */
+    private static @NotNull Node @NotNull [] split(@NotNull Object @NotNull [] elements) {
+        if (elements.length <= MAX) {
+            return new Node[]{ new Leaf(elements) };
+        }
+
+        var half = elements.length / 2;
+        return new Node[]{
+              new Leaf(Arrays.copyOfRange(elements, 0, half)),
+              new Leaf(Arrays.copyOfRange(elements, half, elements.length))
+        };
+    }
+
+    /**
+     * @return {@code children} as 1 {@link Branch}, or 2 if there are too many of them
+     */
+    private static @NotNull Node @NotNull [] split(@NotNull Node @NotNull [] children) {
+        if (children.length <= MAX) {
+            return new Node[]{ Branch.of(children) };
+        }
+
+        var half = children.length / 2;
+        return new Node[]{
+              Branch.of(Arrays.copyOfRange(children, 0, half)),
+              Branch.of(Arrays.copyOfRange(children, half, children.length))
+        };
+    }
+
+    private static <E> E @NotNull [] concat(E @NotNull [] a, E @NotNull [] b) {
+        var result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+
+    /**
+     * @return a copy of {@code nodes} with {@code removeCount} nodes starting at {@code start} replaced by {@code replacement}
+     */
+    private static @NotNull Node @NotNull [] splice(@NotNull Node @NotNull [] nodes, int start, int removeCount, @NotNull Node @NotNull [] replacement) {
+        var result = new Node[nodes.length - removeCount + replacement.length];
+        System.arraycopy(nodes, 0, result, 0, start);
+        System.arraycopy(replacement, 0, result, start, replacement.length);
+        System.arraycopy(nodes, start + removeCount, result, start + replacement.length, nodes.length - start - removeCount);
+        return result;
+    }
+
+    //endregion
+
+    /**
+     * @implNote Walks the leaves directly, rather than descending from the {@link #root} for every element.
+     */
+    @Override
+    public void forEach(@NotNull Consumer<? super T> action) {
+        forEach(root, action);
+    }
+
+    private static <T> void forEach(@NotNull Node node, @NotNull Consumer<? super T> action) {
+        if (node instanceof Leaf leaf) {
+            for (var element : leaf.elements) {
+                action.accept(Unchecked.cast(element));
+            }
+        } else {
+            for (var child : ((Branch) node).children) {
+                forEach(child, action);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Object[] toArray() {
+        var array = new Object[size()];
+        var index = new int[1];
+        forEach(it -> array[index[0]++] = it);
+        return array;
+    }
+
+    /**
+     * @implSpec Follows the {@link List#equals(Object)} contract.
+     */
+    @Contract(pure = true, value = "null -> false")
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        return obj instanceof List<?> other && size() == other.size() && Iterables.elementsEqual(this, other);
+    }
+
+    /**
+     * @implSpec Follows the {@link List#hashCode()} contract.
+     */
+    @Contract(pure = true)
+    @Override
+    public int hashCode() {
+        var hash = new int[]{ 1 };
+        forEach(it -> hash[0] = 31 * hash[0] + Objects.hashCode(it));
+        return hash[0];
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return Iterables.toString(this);
+    }
+}
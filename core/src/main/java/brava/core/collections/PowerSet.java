@@ -0,0 +1,97 @@
+package brava.core.collections;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Every sub-list of a source {@link List} <i>(its <a href="https://en.wikipedia.org/wiki/Power_set">power set</a>)</i>,
+ * in the same order as Guava's {@link com.google.common.collect.Sets#powerSet(java.util.Set)}:
+ * the rank of each row is a bitmask of which source elements it includes.
+ *
+ * @param <T> the source element type
+ * @param <R> the row type
+ * @see Combinatorial#powerSet(List)
+ */
+final class PowerSet<T, R> extends SelectionList<T, R> {
+    /**
+     * The biggest source whose power set can be counted with a {@code long}.
+     */
+    static final int MAX_SIZE = Long.SIZE - 2;
+
+    /**
+     * @throws IllegalArgumentException if the source has more than {@link #MAX_SIZE} elements
+     */
+    PowerSet(@NotNull List<T> source, @NotNull Picker<T, R> picker) {
+        super(source, 1L << checkSize(source.size()), picker);
+    }
+
+    private static int checkSize(int n) {
+        Preconditions.checkArgument(n <= MAX_SIZE, "The power set of %s elements is too big to count with a long! (max source size: %s)", n, MAX_SIZE);
+        return n;
+    }
+
+    @Override
+    int bufferLength() {
+        return n;
+    }
+
+    @Override
+    int unrank(long rank, int @NotNull [] indices) {
+        int length = 0;
+        for (long bits = rank; bits != 0; bits &= bits - 1) {
+            indices[length++] = Long.numberOfTrailingZeros(bits);
+        }
+
+        return length;
+    }
+
+    @Override
+    int next(int @NotNull [] indices, int length, long rank) {
+        // 📎 Adding 1 to the mask clears the trailing run of 1s and sets the bit after it, so only that prefix of `indices` changes.
+        int carried = Long.numberOfTrailingZeros(~rank);
+        int cleared = 0;
+        while (cleared < length && indices[cleared] < carried) {
+            cleared++;
+        }
+
+        // Every index below `carried` was set, so they're all at the front
+        System.arraycopy(indices, cleared, indices, 1, length - cleared);
+        indices[0] = carried;
+        return length - cleared + 1;
+    }
+
+    /**
+     * @implNote Where the source contains duplicates, the row could have come from more than one bitmask;
+     * the smallest of those is always the one that picks each element as early as possible.
+     */
+    @Contract(pure = true)
+    @Override
+    public long longIndexOf(@Nullable Object o) {
+        if (!(o instanceof List<?> row) || row.size() > n) {
+            return -1;
+        }
+
+        long mask     = 0;
+        int  previous = -1;
+        for (var element : row) {
+            previous = indexAfter(previous, element);
+            if (previous < 0) {
+                return -1;
+            }
+
+            mask |= 1L << previous;
+        }
+
+        return mask;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "PowerSet" + source;
+    }
+}
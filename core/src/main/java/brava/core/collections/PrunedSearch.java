@@ -0,0 +1,213 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A depth-first walk through the rows of a {@link CartesianList}, which skips every row that starts with a prefix that fails a {@link Predicate}.
+ * <p>
+ * Each spliterator covers a subtree: a fixed prefix of {@link #base} digits <i>(which has already passed)</i>, followed by a range of digits at the next level.
+ * {@link #trySplit()} halves that range, or, once it's down to a single digit, checks that digit and moves down a level,
+ * until it reaches the {@link #forkDepth}.
+ *
+ * @param <T> the element type
+ * @see Combinatorial#search(List, Predicate, int)
+ */
+final class PrunedSearch<T> implements Spliterator<ListBase<T>> {
+    private final CartesianList<ListBase<T>>     product;
+    private final Predicate<? super ListBase<T>> prefixPredicate;
+    private final int                            forkDepth;
+    private final int                            arity;
+    /**
+     * The digits of the current path. {@code digits[0..base)} are fixed, and {@code digits[depth]} is the next candidate at the current level.
+     */
+    private final int[]                          digits;
+    private final Prefix                         prefix;
+    private       int                            base;
+    /**
+     * The end of the range of digits at the {@link #base} level.
+     */
+    private       int                            fence;
+    private       int                            depth;
+    private       boolean                        started;
+    /**
+     * Whether a spliterator whose prefix covers a whole row has emitted it.
+     */
+    private       boolean                        leafDone;
+
+    PrunedSearch(@NotNull CartesianList<ListBase<T>> product, @NotNull Predicate<? super ListBase<T>> prefixPredicate, int forkDepth) {
+        this(product, prefixPredicate, forkDepth, new int[product.arity()], 0, product.arity() == 0 ? 0 : product.radix(0));
+    }
+
+    private PrunedSearch(@NotNull CartesianList<ListBase<T>> product, @NotNull Predicate<? super ListBase<T>> prefixPredicate, int forkDepth, int @NotNull [] digits, int base, int fence) {
+        this.product         = product;
+        this.prefixPredicate = prefixPredicate;
+        this.forkDepth       = forkDepth;
+        this.arity           = digits.length;
+        this.digits          = digits;
+        this.prefix          = new Prefix();
+        this.base            = base;
+        this.fence           = fence;
+        this.depth           = base;
+    }
+
+    /**
+     * Tests the first {@code length} digits of the current path.
+     */
+    private boolean passes(int length) {
+        prefix.length = length;
+        return prefixPredicate.test(prefix);
+    }
+
+    private @NotNull ListBase<T> emit() {
+        long rank = 0;
+        for (int i = 0; i < arity; i++) {
+            rank = rank * product.radix(i) + digits[i];
+        }
+
+        return product.row(digits, arity, rank);
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super ListBase<T>> action) {
+        started = true;
+
+        if (base == arity) {
+            if (leafDone) {
+                return false;
+            }
+
+            leafDone = true;
+            action.accept(emit());
+            return true;
+        }
+
+        while (depth >= base) {
+            var limit = depth == base ? fence : product.radix(depth);
+            if (digits[depth] >= limit) {
+                // This level is used up, so back up to the previous one
+                if (--depth >= base) {
+                    digits[depth]++;
+                }
+
+                continue;
+            }
+
+            if (!passes(depth + 1)) {
+                // 📎 This is the whole point: none of the rows under this prefix are ever looked at.
+                digits[depth]++;
+                continue;
+            }
+
+            if (depth == arity - 1) {
+                var row = emit();
+                digits[depth]++;
+                action.accept(row);
+                return true;
+            }
+
+            digits[++depth] = 0;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @Nullable Spliterator<ListBase<T>> trySplit() {
+        while (!started && base < forkDepth && base < arity) {
+            var from = digits[base];
+            if (fence - from >= 2) {
+                var mid   = (from + fence) >>> 1;
+                var split = new PrunedSearch<>(product, prefixPredicate, forkDepth, Arrays.copyOf(digits, arity), base, mid);
+                digits[base] = mid;
+                return split;
+            }
+
+            if (fence - from < 1 || !passes(base + 1)) {
+                fence = from;
+                return null;
+            }
+
+            // There's only one choice left at this level, which has passed, so move down to the next one
+            base++;
+            depth = base;
+            if (base < arity) {
+                digits[base] = 0;
+                fence        = product.radix(base);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the number of rows left if nothing gets pruned
+     */
+    @Override
+    public long estimateSize() {
+        if (base == arity) {
+            return leafDone ? 0 : 1;
+        }
+
+        long size = Math.max(0, fence - digits[base]);
+        for (int i = base + 1; i < arity && size > 0; i++) {
+            size = Math.multiplyExact(size, product.radix(i));
+        }
+
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | IMMUTABLE;
+    }
+
+    /**
+     * A re-usable view of the first {@link #length} elements of the current path.
+     */
+    private final class Prefix implements ListBase<T>, RandomAccess {
+        private int length;
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public T get(int position) {
+            Objects.checkIndex(position, length);
+            return Unchecked.cast(product.element(position, digits[position]));
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj == this || obj instanceof List<?> other && length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            return CombinatorialList.listHash(this);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return Iterables.toString(this);
+        }
+    }
+}
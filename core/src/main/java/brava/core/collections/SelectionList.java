@@ -0,0 +1,145 @@
+package brava.core.collections;
+
+import brava.core.tuples.Tuple;
+import brava.core.tuples.Tuple2;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@link CombinatorialList} whose rows are made of elements picked out of a single source {@link List}, like {@link Combinations}, {@link Permutations}
+ * and {@link PowerSet}s.
+ * <p>
+ * Elements are picked by <i>position</i>, so if the source contains duplicates, so will the rows <i>(just like {@link Combinatorial#orderedPairs(Iterable)} always has)</i>.
+ *
+ * @param <T> the source element type
+ * @param <R> the row type
+ */
+abstract class SelectionList<T, R> extends CombinatorialList<R> {
+    /**
+     * Builds a row out of the chosen elements of the source.
+     *
+     * @param <T> the source element type
+     * @param <R> the row type
+     */
+    @FunctionalInterface
+    interface Picker<T, R> {
+        /**
+         * @param source  the source {@link List}
+         * @param indices the index into {@code source} of each element in the row
+         * @param length  the number of elements in the row
+         * @return the new row
+         * @implSpec {@code indices} is re-used for the next row, so don't hold on to it.
+         */
+        R pick(@NotNull List<T> source, int @NotNull [] indices, int length);
+    }
+
+    final List<T>      source;
+    final int          n;
+    final Picker<T, R> picker;
+
+    SelectionList(@NotNull List<T> source, long size, @NotNull Picker<T, R> picker) {
+        super(size);
+        this.source = randomAccess(source);
+        this.n      = source.size();
+        this.picker = picker;
+    }
+
+    @Override
+    final Object element(int position, int index) {
+        return source.get(index);
+    }
+
+    @Override
+    final R row(int @NotNull [] indices, int length, long rank) {
+        return picker.pick(source, indices, length);
+    }
+
+    /**
+     * @return the smallest index after {@code after} of an element equal to {@code element}, or {@code -1} if there isn't one
+     */
+    final int indexAfter(int after, @Nullable Object element) {
+        for (int i = after + 1; i < n; i++) {
+            if (Objects.equals(source.get(i), element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    //region Pickers
+
+    /**
+     * @return a {@link Picker} that creates immutable {@link ListBase} views of each row
+     */
+    static <T> @NotNull Picker<T, ListBase<T>> views() {
+        return (source, indices, length) -> new Selection<>(source, Arrays.copyOf(indices, length));
+    }
+
+    /**
+     * @return a {@link Picker} that turns rows of length 2 into {@link Tuple2}s
+     */
+    static <T> @NotNull Picker<T, Tuple2<T, T>> pairs() {
+        return (source, indices, length) -> Tuple.of(source.get(indices[0]), source.get(indices[1]));
+    }
+
+    /**
+     * An immutable row, which remembers the source index of each of its elements.
+     */
+    private static final class Selection<T> implements ListBase<T>, RandomAccess {
+        private final List<T> source;
+        private final int[]   indices;
+
+        private Selection(@NotNull List<T> source, int @NotNull [] indices) {
+            this.source  = source;
+            this.indices = indices;
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
+
+        @Override
+        public T get(int index) {
+            return source.get(indices[index]);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof Selection<?> other && other.source == source && Arrays.equals(indices, other.indices)) {
+                return true;
+            }
+
+            return obj instanceof List<?> other && indices.length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Override
+        public int hashCode() {
+            return listHash(this);
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return Iterables.toString(this);
+        }
+    }
+
+    //endregion
+}
@@ -2,6 +2,7 @@ package brava.core.functional;
 
 import brava.core.tuples.Tuple6;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Function;
@@ -35,4 +36,40 @@ public interface HexaFunction<A, B, C, D, E, F, OUT> extends Function<Tuple6<A,
     default OUT apply(@NotNull Tuple6<A, B, C, D, E, F> args) {
         return apply(args.a(), args.b(), args.c(), args.d(), args.e(), args.f());
     }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @return a {@link Memoized} version of me that caches up to {@link Memoization#DEFAULT_MAXIMUM_SIZE} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "-> new")
+    default @NotNull Memoized<A, B, C, D, E, F, OUT> memoize() {
+        return memoize(Memoization.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @param maximumSize the largest number of results that will be cached at once
+     * @return a {@link Memoized} version of me that caches up to {@code maximumSize} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "_ -> new")
+    default @NotNull Memoized<A, B, C, D, E, F, OUT> memoize(int maximumSize) {
+        return Memoization.memoize(this, maximumSize);
+    }
+
+    /**
+     * A {@link HexaFunction} whose results are cached by {@link #memoize(int)}.
+     */
+    interface Memoized<A, B, C, D, E, F, OUT> extends HexaFunction<A, B, C, D, E, F, OUT> {
+        /**
+         * @return how well my cache is doing
+         */
+        @Contract(pure = true)
+        @NotNull MemoStats stats();
+    }
 }
@@ -0,0 +1,31 @@
+package brava.core.functional;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * A snapshot of how well a memoized function's cache is doing.
+ *
+ * @param hits      the number of calls answered from the cache
+ * @param misses    the number of calls that had to invoke the original function
+ * @param evictions the number of cached results that were pushed out to make room for new ones
+ * @see Memoization
+ */
+public record MemoStats(long hits, long misses, long evictions) {
+    /**
+     * @return the total number of calls
+     */
+    @Contract(pure = true)
+    public long requests() {
+        return hits + misses;
+    }
+
+    /**
+     * @return the fraction of calls that were answered from the cache, or {@code 1} if there haven't been any calls
+     * @implNote The "no calls ⇒ 1" convention is borrowed from Guava's {@link com.google.common.cache.CacheStats#hitRate()}.
+     */
+    @Contract(pure = true)
+    public double hitRate() {
+        var requests = requests();
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,292 @@
+package brava.core.functional;
+
+import brava.core.tuples.Tuple;
+import brava.core.tuples.Tuple2;
+import brava.core.tuples.Tuple3;
+import brava.core.tuples.Tuple4;
+import brava.core.tuples.Tuple5;
+import brava.core.tuples.Tuple6;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Caches the results of pure, multi-argument functions, keyed by the {@link Tuple} of their arguments.
+ * <p>
+ * You'll usually get here via {@link TriFunction#memoize()}, {@link QuadFunction#memoize()}, etc.;
+ * vanilla {@link BiFunction}s can use {@link #memoize(BiFunction)}.
+ *
+ * @implNote Each memoized function gets its own bounded, <a href="https://en.wikipedia.org/wiki/CPU_cache#Direct-mapped_cache">direct-mapped</a> cache:
+ * <ul>
+ *     <li>The arguments are hashed directly, and compared against the cached key's components, so a cache hit doesn't allocate anything.
+ *     The key {@link Tuple} is only created when a result is stored.</li>
+ *     <li>Entries are immutable and published through an {@link AtomicReferenceArray}, so the cache never locks.
+ *     If two threads miss on the same arguments at the same time, they both invoke the function, and the last one to finish wins.</li>
+ *     <li>When two argument combinations map to the same slot, the newer one evicts the older one.</li>
+ *     <li>The table has {@code maximumSize} slots, rounded down to a power of two, so a {@code maximumSize} of {@code 1000} gives {@code 512} slots.</li>
+ * </ul>
+ * This means that the memoized function <b>must</b> be pure: it might be invoked more than once for the same arguments.
+ */
+public final class Memoization {
+    /**
+     * The maximum number of cached results used by the no-argument {@code memoize()} methods.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 12;
+    /**
+     * The largest cache we're willing to allocate.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int HASH_SEED    = 1;
+
+    private Memoization() {
+        throw new UnsupportedOperationException("🩸🚪");
+    }
+
+    /**
+     * A memoized {@link BiFunction}, keyed by {@link Tuple2}.
+     *
+     * @param <A>   the first parameter type
+     * @param <B>   the second parameter type
+     * @param <OUT> the result type
+     */
+    public interface MemoizedBiFunction<A, B, OUT> extends BiFunction<A, B, OUT> {
+        /**
+         * @return how well my cache is doing
+         */
+        @Contract(pure = true)
+        @NotNull MemoStats stats();
+
+        /**
+         * Applies the function to the components of a {@link Tuple2}.
+         *
+         * @apiNote Unlike {@link TriFunction} & co., this can't extend {@link Function}&lt;{@link Tuple2}, {@link OUT}&gt;,
+         * because {@link BiFunction#andThen(Function)} and {@link Function#andThen(Function)} are incompatible.
+         * Use {@code memoized::apply} if you need one.
+         */
+        default OUT apply(@NotNull Tuple2<A, B> args) {
+            return apply(args.a(), args.b());
+        }
+    }
+
+    /**
+     * @param function a <b>pure</b> {@link BiFunction}
+     * @return a {@link MemoizedBiFunction} that caches up to {@link #DEFAULT_MAXIMUM_SIZE} results
+     * @see #memoize(BiFunction, int)
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A, B, OUT> @NotNull MemoizedBiFunction<A, B, OUT> memoize(@NotNull BiFunction<A, B, OUT> function) {
+        return memoize(function, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param function    a <b>pure</b> {@link BiFunction}
+     * @param maximumSize the largest number of results that will be cached at once
+     * @return a {@link MemoizedBiFunction} that caches up to {@code maximumSize} results
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <A, B, OUT> @NotNull MemoizedBiFunction<A, B, OUT> memoize(@NotNull BiFunction<A, B, OUT> function, int maximumSize) {
+        Objects.requireNonNull(function, "function");
+        var cache = new Cache<Tuple2<A, B>, OUT>(maximumSize);
+
+        return new MemoizedBiFunction<>() {
+            @Override
+            public OUT apply(A a, B b) {
+                var hash  = hash(hash(HASH_SEED, a), b);
+                var entry = cache.probe(hash);
+                if (entry != null && entry.hash == hash && Objects.equals(entry.key.a(), a) && Objects.equals(entry.key.b(), b)) {
+                    return cache.hit(entry);
+                }
+
+                return cache.store(hash, Tuple.of(a, b), function.apply(a, b));
+            }
+
+            @Override
+            public @NotNull MemoStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    static <A, B, C, OUT> TriFunction.@NotNull Memoized<A, B, C, OUT> memoize(@NotNull TriFunction<A, B, C, OUT> function, int maximumSize) {
+        var cache = new Cache<Tuple3<A, B, C>, OUT>(maximumSize);
+
+        return new TriFunction.Memoized<>() {
+            @Override
+            public OUT apply(A a, B b, C c) {
+                var hash  = hash(hash(hash(HASH_SEED, a), b), c);
+                var entry = cache.probe(hash);
+                if (entry != null && entry.hash == hash
+                    && Objects.equals(entry.key.a(), a)
+                    && Objects.equals(entry.key.b(), b)
+                    && Objects.equals(entry.key.c(), c)) {
+                    return cache.hit(entry);
+                }
+
+                return cache.store(hash, Tuple.of(a, b, c), function.apply(a, b, c));
+            }
+
+            @Override
+            public @NotNull MemoStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    static <A, B, C, D, OUT> QuadFunction.@NotNull Memoized<A, B, C, D, OUT> memoize(@NotNull QuadFunction<A, B, C, D, OUT> function, int maximumSize) {
+        var cache = new Cache<Tuple4<A, B, C, D>, OUT>(maximumSize);
+
+        return new QuadFunction.Memoized<>() {
+            @Override
+            public OUT apply(A a, B b, C c, D d) {
+                var hash  = hash(hash(hash(hash(HASH_SEED, a), b), c), d);
+                var entry = cache.probe(hash);
+                if (entry != null && entry.hash == hash
+                    && Objects.equals(entry.key.a(), a)
+                    && Objects.equals(entry.key.b(), b)
+                    && Objects.equals(entry.key.c(), c)
+                    && Objects.equals(entry.key.d(), d)) {
+                    return cache.hit(entry);
+                }
+
+                return cache.store(hash, Tuple.of(a, b, c, d), function.apply(a, b, c, d));
+            }
+
+            @Override
+            public @NotNull MemoStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    static <A, B, C, D, E, OUT> PentaFunction.@NotNull Memoized<A, B, C, D, E, OUT> memoize(@NotNull PentaFunction<A, B, C, D, E, OUT> function, int maximumSize) {
+        var cache = new Cache<Tuple5<A, B, C, D, E>, OUT>(maximumSize);
+
+        return new PentaFunction.Memoized<>() {
+            @Override
+            public OUT apply(A a, B b, C c, D d, E e) {
+                var hash  = hash(hash(hash(hash(hash(HASH_SEED, a), b), c), d), e);
+                var entry = cache.probe(hash);
+                if (entry != null && entry.hash == hash
+                    && Objects.equals(entry.key.a(), a)
+                    && Objects.equals(entry.key.b(), b)
+                    && Objects.equals(entry.key.c(), c)
+                    && Objects.equals(entry.key.d(), d)
+                    && Objects.equals(entry.key.e(), e)) {
+                    return cache.hit(entry);
+                }
+
+                return cache.store(hash, Tuple.of(a, b, c, d, e), function.apply(a, b, c, d, e));
+            }
+
+            @Override
+            public @NotNull MemoStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    @SuppressWarnings("DuplicatedCode")
+    static <A, B, C, D, E, F, OUT> HexaFunction.@NotNull Memoized<A, B, C, D, E, F, OUT> memoize(@NotNull HexaFunction<A, B, C, D, E, F, OUT> function, int maximumSize) {
+        var cache = new Cache<Tuple6<A, B, C, D, E, F>, OUT>(maximumSize);
+
+        return new HexaFunction.Memoized<>() {
+            @Override
+            public OUT apply(A a, B b, C c, D d, E e, F f) {
+                var hash  = hash(hash(hash(hash(hash(hash(HASH_SEED, a), b), c), d), e), f);
+                var entry = cache.probe(hash);
+                if (entry != null && entry.hash == hash
+                    && Objects.equals(entry.key.a(), a)
+                    && Objects.equals(entry.key.b(), b)
+                    && Objects.equals(entry.key.c(), c)
+                    && Objects.equals(entry.key.d(), d)
+                    && Objects.equals(entry.key.e(), e)
+                    && Objects.equals(entry.key.f(), f)) {
+                    return cache.hit(entry);
+                }
+
+                return cache.store(hash, Tuple.of(a, b, c, d, e, f), function.apply(a, b, c, d, e, f));
+            }
+
+            @Override
+            public @NotNull MemoStats stats() {
+                return cache.stats();
+            }
+        };
+    }
+
+    /**
+     * Folds one more argument into a running hash, the same way as {@link java.util.Arrays#hashCode(Object[])}.
+     */
+    @Contract(pure = true)
+    private static int hash(int hash, @Nullable Object argument) {
+        return 31 * hash + Objects.hashCode(argument);
+    }
+
+    /**
+     * A cached result.
+     *
+     * @param hash  the combined hash of the {@link #key}'s components
+     * @param key   the arguments
+     * @param value the function's result
+     */
+    private record Entry<K extends Tuple<K>, OUT>(int hash, @NotNull K key, OUT value) { }
+
+    private static final class Cache<K extends Tuple<K>, OUT> {
+        private final AtomicReferenceArray<Entry<K, OUT>> table;
+        /**
+         * How far to shift a (scrambled) hash to get a {@link #table} index.
+         */
+        private final int                                 shift;
+        private final LongAdder                           hits      = new LongAdder();
+        private final LongAdder                           misses    = new LongAdder();
+        private final LongAdder                           evictions = new LongAdder();
+
+        private Cache(int maximumSize) {
+            Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive, but was %s", maximumSize);
+            // Round down to a power of two, so that we never hold more than `maximumSize` results
+            var bits = 31 - Integer.numberOfLeadingZeros(Math.min(maximumSize, MAX_CAPACITY));
+            this.table = new AtomicReferenceArray<>(1 << bits);
+            this.shift = 32 - bits;
+        }
+
+        /**
+         * @implNote Uses <a href="https://en.wikipedia.org/wiki/Hash_function#Fibonacci_hashing">Fibonacci hashing</a> so that poorly-distributed {@link Object#hashCode()}s
+         * (like those of small {@link Integer}s) still spread across the whole table.
+         */
+        private int indexOf(int hash) {
+            // 📎 `>>> 32` is a no-op in Java, so a single-slot table needs special treatment.
+            return shift == 32 ? 0 : (hash * 0x9E3779B9) >>> shift;
+        }
+
+        private @Nullable Entry<K, OUT> probe(int hash) {
+            return table.getAcquire(indexOf(hash));
+        }
+
+        private OUT hit(@NotNull Entry<K, OUT> entry) {
+            hits.increment();
+            return entry.value;
+        }
+
+        private OUT store(int hash, @NotNull K key, OUT value) {
+            misses.increment();
+            var previous = table.getAndSet(indexOf(hash), new Entry<>(hash, key, value));
+            if (previous != null) {
+                evictions.increment();
+            }
+
+            return value;
+        }
+
+        private @NotNull MemoStats stats() {
+            return new MemoStats(hits.sum(), misses.sum(), evictions.sum());
+        }
+    }
+}
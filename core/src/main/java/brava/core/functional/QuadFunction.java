@@ -1,6 +1,8 @@
 package brava.core.functional;
 
 import brava.core.tuples.Tuple4;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Function;
 
@@ -30,4 +32,40 @@ public interface QuadFunction<A, B, C, D, OUT> extends Function<Tuple4<A, B, C,
     default OUT apply(Tuple4<A, B, C, D> args) {
         return apply(args.a(), args.b(), args.c(), args.d());
     }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @return a {@link Memoized} version of me that caches up to {@link Memoization#DEFAULT_MAXIMUM_SIZE} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "-> new")
+    default @NotNull Memoized<A, B, C, D, OUT> memoize() {
+        return memoize(Memoization.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @param maximumSize the largest number of results that will be cached at once
+     * @return a {@link Memoized} version of me that caches up to {@code maximumSize} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "_ -> new")
+    default @NotNull Memoized<A, B, C, D, OUT> memoize(int maximumSize) {
+        return Memoization.memoize(this, maximumSize);
+    }
+
+    /**
+     * A {@link QuadFunction} whose results are cached by {@link #memoize(int)}.
+     */
+    interface Memoized<A, B, C, D, OUT> extends QuadFunction<A, B, C, D, OUT> {
+        /**
+         * @return how well my cache is doing
+         */
+        @Contract(pure = true)
+        @NotNull MemoStats stats();
+    }
 }
@@ -2,6 +2,7 @@ package brava.core.functional;
 
 import brava.core.tuples.Tuple3;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Function;
@@ -26,4 +27,40 @@ public interface TriFunction<A, B, C, OUT> extends Function<Tuple3<A, B, C>, OUT
     default OUT apply(@NotNull Tuple3<A, B, C> args) {
         return apply(args.a(), args.b(), args.c());
     }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @return a {@link Memoized} version of me that caches up to {@link Memoization#DEFAULT_MAXIMUM_SIZE} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "-> new")
+    default @NotNull Memoized<A, B, C, OUT> memoize() {
+        return memoize(Memoization.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Caches my results, keyed by my arguments.
+     *
+     * @param maximumSize the largest number of results that will be cached at once
+     * @return a {@link Memoized} version of me that caches up to {@code maximumSize} results
+     * @apiNote I <b>must</b> be pure, because there's no guarantee that I'll only be invoked once for the same arguments.
+     * @see Memoization
+     */
+    @Contract(pure = true, value = "_ -> new")
+    default @NotNull Memoized<A, B, C, OUT> memoize(int maximumSize) {
+        return Memoization.memoize(this, maximumSize);
+    }
+
+    /**
+     * A {@link TriFunction} whose results are cached by {@link #memoize(int)}.
+     */
+    interface Memoized<A, B, C, OUT> extends TriFunction<A, B, C, OUT> {
+        /**
+         * @return how well my cache is doing
+         */
+        @Contract(pure = true)
+        @NotNull MemoStats stats();
+    }
 }
@@ -0,0 +1,488 @@
+package brava.core.tuples;
+
+import brava.core.Unchecked;
+import brava.core.collections.ListBase;
+import com.google.common.collect.Iterables;
+import com.google.common.primitives.Primitives;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * An immutable, array-backed {@link java.util.List} holding one component of a {@link TupleColumns}.
+ * <p>
+ * {@link Integer}, {@link Long} and {@link Double} columns are stored in primitive arrays <i>(see {@link OfInt}, {@link OfLong} and {@link OfDouble})</i>,
+ * which can be scanned without boxing through methods like {@link OfInt#getInt(int)} and {@link OfInt#ints()}.
+ * Everything else is stored in an {@link Object}{@code []} <i>(see {@link OfObject})</i>.
+ *
+ * @param <T> the element type
+ */
+public interface Column<T> extends ListBase<T> {
+    /**
+     * @return the (boxed) type of my elements
+     */
+    @Contract(pure = true)
+    @NotNull Class<T> type();
+
+    /**
+     * @param type the element type
+     * @param <T>  the element type
+     * @return a new, empty {@link Builder} that will use a primitive array if {@code type} is {@link Integer}, {@link Long} or {@link Double}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    static <T> @NotNull Builder<T> builder(@NotNull Class<T> type) {
+        return new Builder<>(type, 16);
+    }
+
+    /**
+     * @param type   the element type
+     * @param values the elements
+     * @param <T>    the element type
+     * @return a new {@link Column} containing a copy of {@code values}
+     * @throws NullPointerException if the {@code type} is primitive and one of the {@code values} is {@code null}
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    static <T> @NotNull Column<T> copyOf(@NotNull Class<T> type, @NotNull Iterable<? extends T> values) {
+        var builder = builder(type);
+        values.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Accumulates the elements of a {@link Column}.
+     *
+     * @param <T> the element type
+     */
+    final class Builder<T> {
+        private final Class<T> type;
+        private       Object   array;
+        private       int      capacity;
+        private       int      size;
+
+        private Builder(@NotNull Class<T> type, int initialCapacity) {
+            this.type = Primitives.wrap(type);
+            if (this.type == Integer.class) {
+                array = new int[initialCapacity];
+            } else if (this.type == Long.class) {
+                array = new long[initialCapacity];
+            } else if (this.type == Double.class) {
+                array = new double[initialCapacity];
+            } else {
+                array = new Object[initialCapacity];
+            }
+            this.capacity = initialCapacity;
+        }
+
+        /**
+         * @param value the next element
+         * @return this {@link Builder}
+         * @throws NullPointerException if my type is primitive and {@code value} is {@code null}
+         */
+        @Contract("_ -> this")
+        public @NotNull Builder<T> add(T value) {
+            if (size == capacity) {
+                grow();
+            }
+
+            if (array instanceof int[] ints) {
+                ints[size] = (Integer) value;
+            } else if (array instanceof long[] longs) {
+                longs[size] = (Long) value;
+            } else if (array instanceof double[] doubles) {
+                doubles[size] = (Double) value;
+            } else {
+                ((Object[]) array)[size] = value;
+            }
+
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            var newCapacity = Math.max(16, size + (size >> 1));
+            if (array instanceof int[] ints) {
+                array = Arrays.copyOf(ints, newCapacity);
+            } else if (array instanceof long[] longs) {
+                array = Arrays.copyOf(longs, newCapacity);
+            } else if (array instanceof double[] doubles) {
+                array = Arrays.copyOf(doubles, newCapacity);
+            } else {
+                array = Arrays.copyOf((Object[]) array, newCapacity);
+            }
+            capacity = newCapacity;
+        }
+
+        /**
+         * @return the number of elements that have been {@link #add(Object)}ed
+         */
+        @Contract(pure = true)
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return a new {@link Column} containing everything that has been {@link #add(Object)}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull Column<T> build() {
+            if (array instanceof int[] ints) {
+                return Unchecked.cast(new OfInt(Arrays.copyOf(ints, size)));
+            } else if (array instanceof long[] longs) {
+                return Unchecked.cast(new OfLong(Arrays.copyOf(longs, size)));
+            } else if (array instanceof double[] doubles) {
+                return Unchecked.cast(new OfDouble(Arrays.copyOf(doubles, size)));
+            } else {
+                return new OfObject<>(type, Arrays.copyOf((Object[]) array, size));
+            }
+        }
+    }
+
+    /**
+     * A {@link Column} of arbitrary {@link T}s.
+     *
+     * @param <T> the element type
+     */
+    final class OfObject<T> implements Column<T> {
+        private final Class<T> type;
+        private final Object[] values;
+
+        private OfObject(@NotNull Class<T> type, @NotNull Object[] values) {
+            this.type   = type;
+            this.values = values;
+        }
+
+        @Override
+        public @NotNull Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public T get(int index) {
+            return Unchecked.cast(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public @NotNull Object[] toArray() {
+            return values.clone();
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Contract(pure = true, value = "null -> false")
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof OfObject<?> other) {
+                return Arrays.equals(values, other.values);
+            }
+
+            return obj instanceof List<?> other && values.length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    /**
+     * A {@link Column} of {@code int}s, stored in an {@code int[]}.
+     */
+    final class OfInt implements Column<Integer> {
+        private final int[] values;
+
+        private OfInt(int @NotNull [] values) {
+            this.values = values;
+        }
+
+        /**
+         * @param values the elements
+         * @return a new {@link OfInt} containing a copy of {@code values}
+         */
+        @Contract(pure = true, value = "_ -> new")
+        public static @NotNull OfInt copyOf(int @NotNull ... values) {
+            return new OfInt(values.clone());
+        }
+
+        @Override
+        public @NotNull Class<Integer> type() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        /**
+         * @param index the element index
+         * @return the element, without boxing it
+         */
+        @Contract(pure = true)
+        public int getInt(int index) {
+            return values[index];
+        }
+
+        /**
+         * @return a sequential {@link IntStream} over my elements
+         */
+        @Contract(pure = true)
+        public @NotNull IntStream ints() {
+            return Arrays.stream(values);
+        }
+
+        /**
+         * @return a copy of my elements
+         */
+        @Contract(pure = true)
+        public int @NotNull [] toIntArray() {
+            return values.clone();
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Contract(pure = true, value = "null -> false")
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof OfInt other) {
+                return Arrays.equals(values, other.values);
+            }
+
+            return obj instanceof List<?> other && values.length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    /**
+     * A {@link Column} of {@code long}s, stored in a {@code long[]}.
+     */
+    final class OfLong implements Column<Long> {
+        private final long[] values;
+
+        private OfLong(long @NotNull [] values) {
+            this.values = values;
+        }
+
+        /**
+         * @param values the elements
+         * @return a new {@link OfLong} containing a copy of {@code values}
+         */
+        @Contract(pure = true, value = "_ -> new")
+        public static @NotNull OfLong copyOf(long @NotNull ... values) {
+            return new OfLong(values.clone());
+        }
+
+        @Override
+        public @NotNull Class<Long> type() {
+            return Long.class;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        /**
+         * @param index the element index
+         * @return the element, without boxing it
+         */
+        @Contract(pure = true)
+        public long getLong(int index) {
+            return values[index];
+        }
+
+        /**
+         * @return a sequential {@link LongStream} over my elements
+         */
+        @Contract(pure = true)
+        public @NotNull LongStream longs() {
+            return Arrays.stream(values);
+        }
+
+        /**
+         * @return a copy of my elements
+         */
+        @Contract(pure = true)
+        public long @NotNull [] toLongArray() {
+            return values.clone();
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Contract(pure = true, value = "null -> false")
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof OfLong other) {
+                return Arrays.equals(values, other.values);
+            }
+
+            return obj instanceof List<?> other && values.length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    /**
+     * A {@link Column} of {@code double}s, stored in a {@code double[]}.
+     */
+    final class OfDouble implements Column<Double> {
+        private final double[] values;
+
+        private OfDouble(double @NotNull [] values) {
+            this.values = values;
+        }
+
+        /**
+         * @param values the elements
+         * @return a new {@link OfDouble} containing a copy of {@code values}
+         */
+        @Contract(pure = true, value = "_ -> new")
+        public static @NotNull OfDouble copyOf(double @NotNull ... values) {
+            return new OfDouble(values.clone());
+        }
+
+        @Override
+        public @NotNull Class<Double> type() {
+            return Double.class;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        /**
+         * @param index the element index
+         * @return the element, without boxing it
+         */
+        @Contract(pure = true)
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        /**
+         * @return a sequential {@link DoubleStream} over my elements
+         */
+        @Contract(pure = true)
+        public @NotNull DoubleStream doubles() {
+            return Arrays.stream(values);
+        }
+
+        /**
+         * @return a copy of my elements
+         */
+        @Contract(pure = true)
+        public double @NotNull [] toDoubleArray() {
+            return values.clone();
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * @implSpec Follows the {@link List#equals(Object)} contract.
+         */
+        @Contract(pure = true, value = "null -> false")
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (obj instanceof OfDouble other) {
+                return Arrays.equals(values, other.values);
+            }
+
+            return obj instanceof List<?> other && values.length == other.size() && Iterables.elementsEqual(this, other);
+        }
+
+        /**
+         * @implSpec Follows the {@link List#hashCode()} contract.
+         */
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull String toString() {
+            return Arrays.toString(values);
+        }
+    }
+}
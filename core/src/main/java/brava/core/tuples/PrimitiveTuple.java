@@ -0,0 +1,1056 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * {@link Tuple}s that store their elements as unboxed primitives.
+ * <p>
+ * A {@link Tuple2}&lt;{@link Integer}, {@link Long}&gt; costs 3 objects <i>(the tuple and 2 boxes)</i>;
+ * the equivalent {@link IntLong} costs 1, and its elements can be read without chasing any pointers.
+ *
+ * <h1>Common operations between {@link PrimitiveTuple}s</h1>
+ * <ul>
+ *     <li>{@link IntLong#map(IntUnaryOperator, LongUnaryOperator)}: Transforms each element without boxing it.</li>
+ *     <li>{@link IntLong#reduce(IntLong.Reducer)}: Combines the elements into a single result without boxing them.</li>
+ *     <li>{@link IntLong#toBoxed()} / {@link IntLong#fromBoxed(Tuple2)}: Converts to and from the equivalent regular {@link Tuple}.</li>
+ * </ul>
+ *
+ * @param <SELF> the implementing type
+ * @apiNote These are still full-fledged {@link Tuple}s, so they can be used anywhere a {@link Tuple} is expected.
+ * However, the {@link Tuple} methods that deal in {@link Object}s, like {@link #get(int)} and {@link #iterator()}, have to box the elements.
+ */
+public interface PrimitiveTuple<SELF extends PrimitiveTuple<SELF>> extends Tuple<SELF> {
+    /**
+     * @return an equivalent {@link Tuple} with boxed elements
+     */
+    @Contract("-> new")
+    @NotNull Tuple<?> toBoxed();
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link Integer}, {@link Integer}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     */
+    record IntInt(int a, int b) implements PrimitiveTuple<IntInt> {
+        /**
+         * Combines the elements of {@link IntInt} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(int a, int b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link IntInt}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull IntInt fromBoxed(@NotNull Tuple2<Integer, Integer> boxed) {
+            return new IntInt(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull IntInt getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<Integer, Integer> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @return a new {@link IntInt}
+         */
+        @Contract("_, _ -> new")
+        public @NotNull IntInt map(
+              @NotNull IntUnaryOperator aFunction,
+              @NotNull IntUnaryOperator bFunction
+        ) {
+            return new IntInt(
+                  aFunction.applyAsInt(a),
+                  bFunction.applyAsInt(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b);
+        }
+
+        /**
+         * Combines my elements into a single {@code int}.
+         *
+         * @param operator the {@link IntBinaryOperator} that combines my elements
+         * @return the resulting {@code int}
+         */
+        public int reduceToInt(@NotNull IntBinaryOperator operator) {
+            return operator.applyAsInt(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link Integer}, {@link Long}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     */
+    record IntLong(int a, long b) implements PrimitiveTuple<IntLong> {
+        /**
+         * Combines the elements of {@link IntLong} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(int a, long b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link IntLong}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull IntLong fromBoxed(@NotNull Tuple2<Integer, Long> boxed) {
+            return new IntLong(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull IntLong getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<Integer, Long> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @return a new {@link IntLong}
+         */
+        @Contract("_, _ -> new")
+        public @NotNull IntLong map(
+              @NotNull IntUnaryOperator aFunction,
+              @NotNull LongUnaryOperator bFunction
+        ) {
+            return new IntLong(
+                  aFunction.applyAsInt(a),
+                  bFunction.applyAsLong(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link Long}, {@link Long}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     */
+    record LongLong(long a, long b) implements PrimitiveTuple<LongLong> {
+        /**
+         * Combines the elements of {@link LongLong} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(long a, long b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link LongLong}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull LongLong fromBoxed(@NotNull Tuple2<Long, Long> boxed) {
+            return new LongLong(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull LongLong getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<Long, Long> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @return a new {@link LongLong}
+         */
+        @Contract("_, _ -> new")
+        public @NotNull LongLong map(
+              @NotNull LongUnaryOperator aFunction,
+              @NotNull LongUnaryOperator bFunction
+        ) {
+            return new LongLong(
+                  aFunction.applyAsLong(a),
+                  bFunction.applyAsLong(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b);
+        }
+
+        /**
+         * Combines my elements into a single {@code long}.
+         *
+         * @param operator the {@link LongBinaryOperator} that combines my elements
+         * @return the resulting {@code long}
+         */
+        public long reduceToLong(@NotNull LongBinaryOperator operator) {
+            return operator.applyAsLong(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link Long}, {@link Double}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     */
+    record LongDouble(long a, double b) implements PrimitiveTuple<LongDouble> {
+        /**
+         * Combines the elements of {@link LongDouble} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(long a, double b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link LongDouble}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull LongDouble fromBoxed(@NotNull Tuple2<Long, Double> boxed) {
+            return new LongDouble(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull LongDouble getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<Long, Double> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @return a new {@link LongDouble}
+         */
+        @Contract("_, _ -> new")
+        public @NotNull LongDouble map(
+              @NotNull LongUnaryOperator aFunction,
+              @NotNull DoubleUnaryOperator bFunction
+        ) {
+            return new LongDouble(
+                  aFunction.applyAsLong(a),
+                  bFunction.applyAsDouble(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link Double}, {@link Double}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     */
+    record DoubleDouble(double a, double b) implements PrimitiveTuple<DoubleDouble> {
+        /**
+         * Combines the elements of {@link DoubleDouble} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(double a, double b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link DoubleDouble}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull DoubleDouble fromBoxed(@NotNull Tuple2<Double, Double> boxed) {
+            return new DoubleDouble(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull DoubleDouble getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<Double, Double> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @return a new {@link DoubleDouble}
+         */
+        @Contract("_, _ -> new")
+        public @NotNull DoubleDouble map(
+              @NotNull DoubleUnaryOperator aFunction,
+              @NotNull DoubleUnaryOperator bFunction
+        ) {
+            return new DoubleDouble(
+                  aFunction.applyAsDouble(a),
+                  bFunction.applyAsDouble(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b);
+        }
+
+        /**
+         * Combines my elements into a single {@code double}.
+         *
+         * @param operator the {@link DoubleBinaryOperator} that combines my elements
+         * @return the resulting {@code double}
+         */
+        public double reduceToDouble(@NotNull DoubleBinaryOperator operator) {
+            return operator.applyAsDouble(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link A}, {@link Integer}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param <A> the type of {@link #a()}
+     */
+    record ObjInt<A>(A a, int b) implements PrimitiveTuple<ObjInt<A>> {
+        /**
+         * Combines the elements of {@link ObjInt} into a single {@link OUT}, without boxing them.
+         *
+         * @param <A>   the type of {@link #a()}
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<A, OUT> {
+            OUT apply(A a, int b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link ObjInt}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static <A> @NotNull ObjInt<A> fromBoxed(@NotNull Tuple2<A, Integer> boxed) {
+            return new ObjInt<>(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull ObjInt<A> getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<A, Integer> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param <A2>      the new {@link #a()} type
+         * @return a new {@link ObjInt}
+         */
+        @Contract("_, _ -> new")
+        public <A2> @NotNull ObjInt<A2> map(
+              @NotNull Function<? super A, ? extends A2> aFunction,
+              @NotNull IntUnaryOperator bFunction
+        ) {
+            return new ObjInt<>(
+                  aFunction.apply(a),
+                  bFunction.applyAsInt(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<A, OUT> function) {
+            return function.apply(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link A}, {@link Long}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param <A> the type of {@link #a()}
+     */
+    record ObjLong<A>(A a, long b) implements PrimitiveTuple<ObjLong<A>> {
+        /**
+         * Combines the elements of {@link ObjLong} into a single {@link OUT}, without boxing them.
+         *
+         * @param <A>   the type of {@link #a()}
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<A, OUT> {
+            OUT apply(A a, long b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link ObjLong}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static <A> @NotNull ObjLong<A> fromBoxed(@NotNull Tuple2<A, Long> boxed) {
+            return new ObjLong<>(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull ObjLong<A> getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<A, Long> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param <A2>      the new {@link #a()} type
+         * @return a new {@link ObjLong}
+         */
+        @Contract("_, _ -> new")
+        public <A2> @NotNull ObjLong<A2> map(
+              @NotNull Function<? super A, ? extends A2> aFunction,
+              @NotNull LongUnaryOperator bFunction
+        ) {
+            return new ObjLong<>(
+                  aFunction.apply(a),
+                  bFunction.applyAsLong(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<A, OUT> function) {
+            return function.apply(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple2}&lt;{@link A}, {@link Double}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param <A> the type of {@link #a()}
+     */
+    record ObjDouble<A>(A a, double b) implements PrimitiveTuple<ObjDouble<A>> {
+        /**
+         * Combines the elements of {@link ObjDouble} into a single {@link OUT}, without boxing them.
+         *
+         * @param <A>   the type of {@link #a()}
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<A, OUT> {
+            OUT apply(A a, double b);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple2}
+         * @return a new {@link ObjDouble}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static <A> @NotNull ObjDouble<A> fromBoxed(@NotNull Tuple2<A, Double> boxed) {
+            return new ObjDouble<>(boxed.a(), boxed.b());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull ObjDouble<A> getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple2<A, Double> toBoxed() {
+            return new Tuple2<>(a, b);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param <A2>      the new {@link #a()} type
+         * @return a new {@link ObjDouble}
+         */
+        @Contract("_, _ -> new")
+        public <A2> @NotNull ObjDouble<A2> map(
+              @NotNull Function<? super A, ? extends A2> aFunction,
+              @NotNull DoubleUnaryOperator bFunction
+        ) {
+            return new ObjDouble<>(
+                  aFunction.apply(a),
+                  bFunction.applyAsDouble(b)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<A, OUT> function) {
+            return function.apply(a, b);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple3}&lt;{@link Integer}, {@link Integer}, {@link Integer}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param c the third element
+     */
+    record IntIntInt(int a, int b, int c) implements PrimitiveTuple<IntIntInt> {
+        /**
+         * Combines the elements of {@link IntIntInt} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(int a, int b, int c);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple3}
+         * @return a new {@link IntIntInt}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull IntIntInt fromBoxed(@NotNull Tuple3<Integer, Integer, Integer> boxed) {
+            return new IntIntInt(boxed.a(), boxed.b(), boxed.c());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                case 2 -> c;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 3;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull IntIntInt getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple3<Integer, Integer, Integer> toBoxed() {
+            return new Tuple3<>(a, b, c);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param cFunction the transformation applied to {@link #c()}
+         * @return a new {@link IntIntInt}
+         */
+        @Contract("_, _, _ -> new")
+        public @NotNull IntIntInt map(
+              @NotNull IntUnaryOperator aFunction,
+              @NotNull IntUnaryOperator bFunction,
+              @NotNull IntUnaryOperator cFunction
+        ) {
+            return new IntIntInt(
+                  aFunction.applyAsInt(a),
+                  bFunction.applyAsInt(b),
+                  cFunction.applyAsInt(c)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b, c);
+        }
+
+        /**
+         * Combines my elements into a single {@code int}, from left to right.
+         *
+         * @param operator the {@link IntBinaryOperator} that combines my elements
+         * @return the resulting {@code int}
+         */
+        public int reduceToInt(@NotNull IntBinaryOperator operator) {
+            return operator.applyAsInt(operator.applyAsInt(a, b), c);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple3}&lt;{@link Long}, {@link Long}, {@link Long}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param c the third element
+     */
+    record LongLongLong(long a, long b, long c) implements PrimitiveTuple<LongLongLong> {
+        /**
+         * Combines the elements of {@link LongLongLong} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(long a, long b, long c);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple3}
+         * @return a new {@link LongLongLong}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull LongLongLong fromBoxed(@NotNull Tuple3<Long, Long, Long> boxed) {
+            return new LongLongLong(boxed.a(), boxed.b(), boxed.c());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                case 2 -> c;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 3;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull LongLongLong getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple3<Long, Long, Long> toBoxed() {
+            return new Tuple3<>(a, b, c);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param cFunction the transformation applied to {@link #c()}
+         * @return a new {@link LongLongLong}
+         */
+        @Contract("_, _, _ -> new")
+        public @NotNull LongLongLong map(
+              @NotNull LongUnaryOperator aFunction,
+              @NotNull LongUnaryOperator bFunction,
+              @NotNull LongUnaryOperator cFunction
+        ) {
+            return new LongLongLong(
+                  aFunction.applyAsLong(a),
+                  bFunction.applyAsLong(b),
+                  cFunction.applyAsLong(c)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b, c);
+        }
+
+        /**
+         * Combines my elements into a single {@code long}, from left to right.
+         *
+         * @param operator the {@link LongBinaryOperator} that combines my elements
+         * @return the resulting {@code long}
+         */
+        public long reduceToLong(@NotNull LongBinaryOperator operator) {
+            return operator.applyAsLong(operator.applyAsLong(a, b), c);
+        }
+    }
+
+    /**
+     * The unboxed equivalent of {@link Tuple3}&lt;{@link Double}, {@link Double}, {@link Double}&gt;.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @param c the third element
+     */
+    record DoubleDoubleDouble(double a, double b, double c) implements PrimitiveTuple<DoubleDoubleDouble> {
+        /**
+         * Combines the elements of {@link DoubleDoubleDouble} into a single {@link OUT}, without boxing them.
+         *
+         * @param <OUT> the result type
+         */
+        @FunctionalInterface
+        public interface Reducer<OUT> {
+            OUT apply(double a, double b, double c);
+        }
+
+        /**
+         * @param boxed the equivalent {@link Tuple3}
+         * @return a new {@link DoubleDoubleDouble}
+         * @throws NullPointerException if any of the primitive elements are {@code null}
+         */
+        @Contract("_ -> new")
+        public static @NotNull DoubleDoubleDouble fromBoxed(@NotNull Tuple3<Double, Double, Double> boxed) {
+            return new DoubleDoubleDouble(boxed.a(), boxed.b(), boxed.c());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public Object get(int index) {
+            return switch (index) {
+                case 0 -> a;
+                case 1 -> b;
+                case 2 -> c;
+                default -> throw new IndexOutOfBoundsException(index);
+            };
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int size() {
+            return 3;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public @NotNull DoubleDoubleDouble getSelf() {
+            return this;
+        }
+
+        @Contract("-> new")
+        @Override
+        public @NotNull Tuple3<Double, Double, Double> toBoxed() {
+            return new Tuple3<>(a, b, c);
+        }
+
+        /**
+         * Applies transformation functions to each of my elements individually, without boxing them.
+         *
+         * @param aFunction the transformation applied to {@link #a()}
+         * @param bFunction the transformation applied to {@link #b()}
+         * @param cFunction the transformation applied to {@link #c()}
+         * @return a new {@link DoubleDoubleDouble}
+         */
+        @Contract("_, _, _ -> new")
+        public @NotNull DoubleDoubleDouble map(
+              @NotNull DoubleUnaryOperator aFunction,
+              @NotNull DoubleUnaryOperator bFunction,
+              @NotNull DoubleUnaryOperator cFunction
+        ) {
+            return new DoubleDoubleDouble(
+                  aFunction.applyAsDouble(a),
+                  bFunction.applyAsDouble(b),
+                  cFunction.applyAsDouble(c)
+            );
+        }
+
+        /**
+         * Combines my elements into a single {@link OUT}, without boxing them.
+         *
+         * @param function the {@link Reducer} that combines my elements
+         * @param <OUT>    the function output type
+         * @return the resulting {@link OUT}
+         */
+        public <OUT> OUT reduce(@NotNull Reducer<OUT> function) {
+            return function.apply(a, b, c);
+        }
+
+        /**
+         * Combines my elements into a single {@code double}, from left to right.
+         *
+         * @param operator the {@link DoubleBinaryOperator} that combines my elements
+         * @return the resulting {@code double}
+         */
+        public double reduceToDouble(@NotNull DoubleBinaryOperator operator) {
+            return operator.applyAsDouble(operator.applyAsDouble(a, b), c);
+        }
+    }
+}
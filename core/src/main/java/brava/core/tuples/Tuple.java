@@ -1,6 +1,7 @@
 package brava.core.tuples;
 
 import brava.core.collections.CollectionBase;
+import brava.core.collections.CollectionHelpers;
 import brava.core.functional.TriFunction;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -8,6 +9,9 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nonnull;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -126,6 +130,45 @@ public interface Tuple<SELF extends Tuple<SELF>> extends CollectionBase<Object>
         };
     }
 
+    @Override
+    default void forEach(@NotNull Consumer<? super Object> action) {
+        var size = size();
+        for (int i = 0; i < size; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    @Override
+    default boolean contains(Object o) {
+        var size = size();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(get(i), o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("NullableProblems")
+    @Override
+    default @NotNull Object[] toArray() {
+        var size  = size();
+        var array = new Object[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    /**
+     * @return a {@link Spliterator} that splits by index range
+     * @implSpec Reports {@link Spliterator#IMMUTABLE}, {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+     */
+    @Override
+    default @NotNull Spliterator<Object> spliterator() {
+        return new CollectionHelpers.RandomAccessSpliterator<>(this::get, 0, size(), Spliterator.IMMUTABLE);
+    }
+
     /**
      * Combines my elements into a single {@link OUT}.
      *
@@ -0,0 +1,148 @@
+package brava.core.tuples;
+
+import brava.core.collections.CollectionHelpers;
+import brava.core.collections.ListBase;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * The base class for immutable lists of {@link Tuple}s that are stored <a href="https://en.wikipedia.org/wiki/AoS_and_SoA">"struct-of-arrays"</a> style:
+ * each of the tuples' components is stored in its own {@link Column}, and the tuples themselves are only created when you {@link #get(int)} them.
+ * <p>
+ * Compared to a {@code List<Tuple2<Integer, Long>>}, which costs 3 objects per element <i>(the tuple and 2 boxes)</i>,
+ * a {@link TupleColumns2}{@code <Integer, Long>} costs an {@code int} and a {@code long}.
+ * Scanning a single {@link #column(int)} is a sequential walk through one array, which the JIT can vectorize.
+ *
+ * @param <T> the {@link Tuple} type
+ * @see TupleColumns2
+ * @see TupleColumns3
+ * @see TupleColumns4
+ * @see TupleColumns5
+ * @see TupleColumns6
+ */
+public abstract class TupleColumns<T extends Tuple<T>> implements ListBase<T>, RandomAccess {
+    private final Column<?>[] columns;
+    private final int         size;
+
+    TupleColumns(@NotNull Column<?>... columns) {
+        this.size    = requireSameSize(columns);
+        this.columns = columns;
+    }
+
+    private static int requireSameSize(@NotNull Column<?>[] columns) {
+        var size = Objects.requireNonNull(columns[0], "column 0").size();
+        for (int i = 1; i < columns.length; i++) {
+            var other = Objects.requireNonNull(columns[i], "column " + i);
+            Preconditions.checkArgument(other.size() == size, "column %s has %s elements, but column 0 has %s!", i, other.size(), size);
+        }
+
+        return size;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * @param index the component index, e.g. {@code 0} for {@link Tuple2#a()}
+     * @return the {@link Column} that stores that component
+     */
+    @Contract(pure = true)
+    public final @NotNull Column<?> column(int index) {
+        return columns[index];
+    }
+
+    /**
+     * @param index the component index, e.g. {@code 0} for {@link Tuple2#a()}
+     * @return the {@link Column.OfInt} that stores that component
+     * @throws IllegalStateException if that component isn't stored as {@code int}s
+     */
+    @Contract(pure = true)
+    public final @NotNull Column.OfInt intColumn(int index) {
+        if (columns[index] instanceof Column.OfInt ints) {
+            return ints;
+        }
+
+        throw new IllegalStateException("Column %s holds %s, not ints!".formatted(index, columns[index].type()));
+    }
+
+    /**
+     * @param index the component index, e.g. {@code 0} for {@link Tuple2#a()}
+     * @return the {@link Column.OfLong} that stores that component
+     * @throws IllegalStateException if that component isn't stored as {@code long}s
+     */
+    @Contract(pure = true)
+    public final @NotNull Column.OfLong longColumn(int index) {
+        if (columns[index] instanceof Column.OfLong longs) {
+            return longs;
+        }
+
+        throw new IllegalStateException("Column %s holds %s, not longs!".formatted(index, columns[index].type()));
+    }
+
+    /**
+     * @param index the component index, e.g. {@code 0} for {@link Tuple2#a()}
+     * @return the {@link Column.OfDouble} that stores that component
+     * @throws IllegalStateException if that component isn't stored as {@code double}s
+     */
+    @Contract(pure = true)
+    public final @NotNull Column.OfDouble doubleColumn(int index) {
+        if (columns[index] instanceof Column.OfDouble doubles) {
+            return doubles;
+        }
+
+        throw new IllegalStateException("Column %s holds %s, not doubles!".formatted(index, columns[index].type()));
+    }
+
+    /**
+     * @return a {@link Spliterator} that splits by index range, so that {@link #parallelStream()}s divide the work evenly
+     */
+    @Contract(pure = true)
+    @Override
+    public final @NotNull Spliterator<T> spliterator() {
+        return new CollectionHelpers.RandomAccessSpliterator<>(this, 0, size, Spliterator.IMMUTABLE | Spliterator.NONNULL);
+    }
+
+    /**
+     * @implSpec Follows the {@link List#equals(Object)} contract.
+     */
+    @Contract(pure = true, value = "null -> false")
+    @Override
+    public final boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        return obj instanceof List<?> other && size == other.size() && Iterables.elementsEqual(this, other);
+    }
+
+    /**
+     * @implSpec Follows the {@link List#hashCode()} contract.
+     */
+    @Contract(pure = true)
+    @Override
+    public final int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + get(i).hashCode();
+        }
+
+        return hash;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return Iterables.toString(this);
+    }
+}
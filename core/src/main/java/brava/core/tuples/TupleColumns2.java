@@ -0,0 +1,122 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable list of {@link Tuple2}s, stored as 2 separate {@link Column}s.
+ *
+ * @param <A> the type of {@link Tuple2#a()}
+ * @param <B> the type of {@link Tuple2#b()}
+ * @see TupleColumns
+ */
+public final class TupleColumns2<A, B> extends TupleColumns<Tuple2<A, B>> {
+    private final Column<A> a;
+    private final Column<B> b;
+
+    private TupleColumns2(@NotNull Column<A> a, @NotNull Column<B> b) {
+        super(a, b);
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * @return a new {@link TupleColumns2} made up of existing {@link Column}s
+     * @throws IllegalArgumentException if the {@link Column}s aren't all the same size
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <A, B> @NotNull TupleColumns2<A, B> ofColumns(@NotNull Column<A> a, @NotNull Column<B> b) {
+        return new TupleColumns2<>(a, b);
+    }
+
+    /**
+     * @param aType the type of {@link Tuple2#a()}
+     * @param bType the type of {@link Tuple2#b()}
+     * @param tuples the {@link Tuple2}s to copy
+     * @return a new {@link TupleColumns2} containing the same elements as {@code tuples}
+     * @throws NullPointerException if a primitive component is {@code null}
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public static <A, B> @NotNull TupleColumns2<A, B> copyOf(
+        @NotNull Class<A> aType,
+        @NotNull Class<B> bType,
+        @NotNull Iterable<? extends Tuple2<? extends A, ? extends B>> tuples
+    ) {
+        var builder = TupleColumns2.builder(aType, bType);
+        for (var tuple : tuples) {
+            builder.add(tuple.a(), tuple.b());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param aType the type of {@link Tuple2#a()}
+     * @param bType the type of {@link Tuple2#b()}
+     * @return a new, empty {@link Builder}
+     * @apiNote {@link Integer}, {@link Long} and {@link Double} components will be stored in primitive arrays.
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <A, B> @NotNull Builder<A, B> builder(@NotNull Class<A> aType, @NotNull Class<B> bType) {
+        return new Builder<>(aType, bType);
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple2#a()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<A> a() {
+        return a;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple2#b()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<B> b() {
+        return b;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    @Override
+    public @NotNull Tuple2<A, B> get(int index) {
+        return new Tuple2<>(
+            a.get(index),
+            b.get(index)
+        );
+    }
+
+    /**
+     * Accumulates the elements of a {@link TupleColumns2}.
+     */
+    public static final class Builder<A, B> {
+        private final Column.Builder<A> a;
+        private final Column.Builder<B> b;
+
+        private Builder(@NotNull Class<A> aType, @NotNull Class<B> bType) {
+            this.a = Column.builder(aType);
+            this.b = Column.builder(bType);
+        }
+
+        /**
+         * @param a the new {@link Tuple2#a()}
+         * @param b the new {@link Tuple2#b()}
+         * @return this {@link Builder}
+         * @throws NullPointerException if a primitive component is {@code null}
+         */
+        @Contract("_, _ -> this")
+        public @NotNull Builder<A, B> add(A a, B b) {
+            this.a.add(a);
+            this.b.add(b);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TupleColumns2} containing everything that has been {@link #add}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleColumns2<A, B> build() {
+            return new TupleColumns2<>(a.build(), b.build());
+        }
+    }
+}
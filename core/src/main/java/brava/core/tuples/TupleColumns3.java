@@ -0,0 +1,141 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable list of {@link Tuple3}s, stored as 3 separate {@link Column}s.
+ *
+ * @param <A> the type of {@link Tuple3#a()}
+ * @param <B> the type of {@link Tuple3#b()}
+ * @param <C> the type of {@link Tuple3#c()}
+ * @see TupleColumns
+ */
+public final class TupleColumns3<A, B, C> extends TupleColumns<Tuple3<A, B, C>> {
+    private final Column<A> a;
+    private final Column<B> b;
+    private final Column<C> c;
+
+    private TupleColumns3(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c) {
+        super(a, b, c);
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    /**
+     * @return a new {@link TupleColumns3} made up of existing {@link Column}s
+     * @throws IllegalArgumentException if the {@link Column}s aren't all the same size
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public static <A, B, C> @NotNull TupleColumns3<A, B, C> ofColumns(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c) {
+        return new TupleColumns3<>(a, b, c);
+    }
+
+    /**
+     * @param aType the type of {@link Tuple3#a()}
+     * @param bType the type of {@link Tuple3#b()}
+     * @param cType the type of {@link Tuple3#c()}
+     * @param tuples the {@link Tuple3}s to copy
+     * @return a new {@link TupleColumns3} containing the same elements as {@code tuples}
+     * @throws NullPointerException if a primitive component is {@code null}
+     */
+    @Contract(pure = true, value = "_, _, _, _ -> new")
+    public static <A, B, C> @NotNull TupleColumns3<A, B, C> copyOf(
+        @NotNull Class<A> aType,
+        @NotNull Class<B> bType,
+        @NotNull Class<C> cType,
+        @NotNull Iterable<? extends Tuple3<? extends A, ? extends B, ? extends C>> tuples
+    ) {
+        var builder = TupleColumns3.builder(aType, bType, cType);
+        for (var tuple : tuples) {
+            builder.add(tuple.a(), tuple.b(), tuple.c());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param aType the type of {@link Tuple3#a()}
+     * @param bType the type of {@link Tuple3#b()}
+     * @param cType the type of {@link Tuple3#c()}
+     * @return a new, empty {@link Builder}
+     * @apiNote {@link Integer}, {@link Long} and {@link Double} components will be stored in primitive arrays.
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public static <A, B, C> @NotNull Builder<A, B, C> builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType) {
+        return new Builder<>(aType, bType, cType);
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple3#a()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<A> a() {
+        return a;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple3#b()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<B> b() {
+        return b;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple3#c()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<C> c() {
+        return c;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    @Override
+    public @NotNull Tuple3<A, B, C> get(int index) {
+        return new Tuple3<>(
+            a.get(index),
+            b.get(index),
+            c.get(index)
+        );
+    }
+
+    /**
+     * Accumulates the elements of a {@link TupleColumns3}.
+     */
+    public static final class Builder<A, B, C> {
+        private final Column.Builder<A> a;
+        private final Column.Builder<B> b;
+        private final Column.Builder<C> c;
+
+        private Builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType) {
+            this.a = Column.builder(aType);
+            this.b = Column.builder(bType);
+            this.c = Column.builder(cType);
+        }
+
+        /**
+         * @param a the new {@link Tuple3#a()}
+         * @param b the new {@link Tuple3#b()}
+         * @param c the new {@link Tuple3#c()}
+         * @return this {@link Builder}
+         * @throws NullPointerException if a primitive component is {@code null}
+         */
+        @Contract("_, _, _ -> this")
+        public @NotNull Builder<A, B, C> add(A a, B b, C c) {
+            this.a.add(a);
+            this.b.add(b);
+            this.c.add(c);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TupleColumns3} containing everything that has been {@link #add}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleColumns3<A, B, C> build() {
+            return new TupleColumns3<>(a.build(), b.build(), c.build());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable list of {@link Tuple4}s, stored as 4 separate {@link Column}s.
+ *
+ * @param <A> the type of {@link Tuple4#a()}
+ * @param <B> the type of {@link Tuple4#b()}
+ * @param <C> the type of {@link Tuple4#c()}
+ * @param <D> the type of {@link Tuple4#d()}
+ * @see TupleColumns
+ */
+public final class TupleColumns4<A, B, C, D> extends TupleColumns<Tuple4<A, B, C, D>> {
+    private final Column<A> a;
+    private final Column<B> b;
+    private final Column<C> c;
+    private final Column<D> d;
+
+    private TupleColumns4(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d) {
+        super(a, b, c, d);
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    /**
+     * @return a new {@link TupleColumns4} made up of existing {@link Column}s
+     * @throws IllegalArgumentException if the {@link Column}s aren't all the same size
+     */
+    @Contract(pure = true, value = "_, _, _, _ -> new")
+    public static <A, B, C, D> @NotNull TupleColumns4<A, B, C, D> ofColumns(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d) {
+        return new TupleColumns4<>(a, b, c, d);
+    }
+
+    /**
+     * @param aType the type of {@link Tuple4#a()}
+     * @param bType the type of {@link Tuple4#b()}
+     * @param cType the type of {@link Tuple4#c()}
+     * @param dType the type of {@link Tuple4#d()}
+     * @param tuples the {@link Tuple4}s to copy
+     * @return a new {@link TupleColumns4} containing the same elements as {@code tuples}
+     * @throws NullPointerException if a primitive component is {@code null}
+     */
+    @Contract(pure = true, value = "_, _, _, _, _ -> new")
+    public static <A, B, C, D> @NotNull TupleColumns4<A, B, C, D> copyOf(
+        @NotNull Class<A> aType,
+        @NotNull Class<B> bType,
+        @NotNull Class<C> cType,
+        @NotNull Class<D> dType,
+        @NotNull Iterable<? extends Tuple4<? extends A, ? extends B, ? extends C, ? extends D>> tuples
+    ) {
+        var builder = TupleColumns4.builder(aType, bType, cType, dType);
+        for (var tuple : tuples) {
+            builder.add(tuple.a(), tuple.b(), tuple.c(), tuple.d());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param aType the type of {@link Tuple4#a()}
+     * @param bType the type of {@link Tuple4#b()}
+     * @param cType the type of {@link Tuple4#c()}
+     * @param dType the type of {@link Tuple4#d()}
+     * @return a new, empty {@link Builder}
+     * @apiNote {@link Integer}, {@link Long} and {@link Double} components will be stored in primitive arrays.
+     */
+    @Contract(pure = true, value = "_, _, _, _ -> new")
+    public static <A, B, C, D> @NotNull Builder<A, B, C, D> builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType) {
+        return new Builder<>(aType, bType, cType, dType);
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple4#a()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<A> a() {
+        return a;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple4#b()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<B> b() {
+        return b;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple4#c()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<C> c() {
+        return c;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple4#d()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<D> d() {
+        return d;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    @Override
+    public @NotNull Tuple4<A, B, C, D> get(int index) {
+        return new Tuple4<>(
+            a.get(index),
+            b.get(index),
+            c.get(index),
+            d.get(index)
+        );
+    }
+
+    /**
+     * Accumulates the elements of a {@link TupleColumns4}.
+     */
+    public static final class Builder<A, B, C, D> {
+        private final Column.Builder<A> a;
+        private final Column.Builder<B> b;
+        private final Column.Builder<C> c;
+        private final Column.Builder<D> d;
+
+        private Builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType) {
+            this.a = Column.builder(aType);
+            this.b = Column.builder(bType);
+            this.c = Column.builder(cType);
+            this.d = Column.builder(dType);
+        }
+
+        /**
+         * @param a the new {@link Tuple4#a()}
+         * @param b the new {@link Tuple4#b()}
+         * @param c the new {@link Tuple4#c()}
+         * @param d the new {@link Tuple4#d()}
+         * @return this {@link Builder}
+         * @throws NullPointerException if a primitive component is {@code null}
+         */
+        @Contract("_, _, _, _ -> this")
+        public @NotNull Builder<A, B, C, D> add(A a, B b, C c, D d) {
+            this.a.add(a);
+            this.b.add(b);
+            this.c.add(c);
+            this.d.add(d);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TupleColumns4} containing everything that has been {@link #add}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleColumns4<A, B, C, D> build() {
+            return new TupleColumns4<>(a.build(), b.build(), c.build(), d.build());
+        }
+    }
+}
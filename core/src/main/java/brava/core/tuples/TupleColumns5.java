@@ -0,0 +1,179 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable list of {@link Tuple5}s, stored as 5 separate {@link Column}s.
+ *
+ * @param <A> the type of {@link Tuple5#a()}
+ * @param <B> the type of {@link Tuple5#b()}
+ * @param <C> the type of {@link Tuple5#c()}
+ * @param <D> the type of {@link Tuple5#d()}
+ * @param <E> the type of {@link Tuple5#e()}
+ * @see TupleColumns
+ */
+public final class TupleColumns5<A, B, C, D, E> extends TupleColumns<Tuple5<A, B, C, D, E>> {
+    private final Column<A> a;
+    private final Column<B> b;
+    private final Column<C> c;
+    private final Column<D> d;
+    private final Column<E> e;
+
+    private TupleColumns5(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d, @NotNull Column<E> e) {
+        super(a, b, c, d, e);
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+    }
+
+    /**
+     * @return a new {@link TupleColumns5} made up of existing {@link Column}s
+     * @throws IllegalArgumentException if the {@link Column}s aren't all the same size
+     */
+    @Contract(pure = true, value = "_, _, _, _, _ -> new")
+    public static <A, B, C, D, E> @NotNull TupleColumns5<A, B, C, D, E> ofColumns(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d, @NotNull Column<E> e) {
+        return new TupleColumns5<>(a, b, c, d, e);
+    }
+
+    /**
+     * @param aType the type of {@link Tuple5#a()}
+     * @param bType the type of {@link Tuple5#b()}
+     * @param cType the type of {@link Tuple5#c()}
+     * @param dType the type of {@link Tuple5#d()}
+     * @param eType the type of {@link Tuple5#e()}
+     * @param tuples the {@link Tuple5}s to copy
+     * @return a new {@link TupleColumns5} containing the same elements as {@code tuples}
+     * @throws NullPointerException if a primitive component is {@code null}
+     */
+    @Contract(pure = true, value = "_, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E> @NotNull TupleColumns5<A, B, C, D, E> copyOf(
+        @NotNull Class<A> aType,
+        @NotNull Class<B> bType,
+        @NotNull Class<C> cType,
+        @NotNull Class<D> dType,
+        @NotNull Class<E> eType,
+        @NotNull Iterable<? extends Tuple5<? extends A, ? extends B, ? extends C, ? extends D, ? extends E>> tuples
+    ) {
+        var builder = TupleColumns5.builder(aType, bType, cType, dType, eType);
+        for (var tuple : tuples) {
+            builder.add(tuple.a(), tuple.b(), tuple.c(), tuple.d(), tuple.e());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param aType the type of {@link Tuple5#a()}
+     * @param bType the type of {@link Tuple5#b()}
+     * @param cType the type of {@link Tuple5#c()}
+     * @param dType the type of {@link Tuple5#d()}
+     * @param eType the type of {@link Tuple5#e()}
+     * @return a new, empty {@link Builder}
+     * @apiNote {@link Integer}, {@link Long} and {@link Double} components will be stored in primitive arrays.
+     */
+    @Contract(pure = true, value = "_, _, _, _, _ -> new")
+    public static <A, B, C, D, E> @NotNull Builder<A, B, C, D, E> builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType, @NotNull Class<E> eType) {
+        return new Builder<>(aType, bType, cType, dType, eType);
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple5#a()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<A> a() {
+        return a;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple5#b()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<B> b() {
+        return b;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple5#c()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<C> c() {
+        return c;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple5#d()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<D> d() {
+        return d;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple5#e()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<E> e() {
+        return e;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    @Override
+    public @NotNull Tuple5<A, B, C, D, E> get(int index) {
+        return new Tuple5<>(
+            a.get(index),
+            b.get(index),
+            c.get(index),
+            d.get(index),
+            e.get(index)
+        );
+    }
+
+    /**
+     * Accumulates the elements of a {@link TupleColumns5}.
+     */
+    public static final class Builder<A, B, C, D, E> {
+        private final Column.Builder<A> a;
+        private final Column.Builder<B> b;
+        private final Column.Builder<C> c;
+        private final Column.Builder<D> d;
+        private final Column.Builder<E> e;
+
+        private Builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType, @NotNull Class<E> eType) {
+            this.a = Column.builder(aType);
+            this.b = Column.builder(bType);
+            this.c = Column.builder(cType);
+            this.d = Column.builder(dType);
+            this.e = Column.builder(eType);
+        }
+
+        /**
+         * @param a the new {@link Tuple5#a()}
+         * @param b the new {@link Tuple5#b()}
+         * @param c the new {@link Tuple5#c()}
+         * @param d the new {@link Tuple5#d()}
+         * @param e the new {@link Tuple5#e()}
+         * @return this {@link Builder}
+         * @throws NullPointerException if a primitive component is {@code null}
+         */
+        @Contract("_, _, _, _, _ -> this")
+        public @NotNull Builder<A, B, C, D, E> add(A a, B b, C c, D d, E e) {
+            this.a.add(a);
+            this.b.add(b);
+            this.c.add(c);
+            this.d.add(d);
+            this.e.add(e);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TupleColumns5} containing everything that has been {@link #add}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleColumns5<A, B, C, D, E> build() {
+            return new TupleColumns5<>(a.build(), b.build(), c.build(), d.build(), e.build());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable list of {@link Tuple6}s, stored as 6 separate {@link Column}s.
+ *
+ * @param <A> the type of {@link Tuple6#a()}
+ * @param <B> the type of {@link Tuple6#b()}
+ * @param <C> the type of {@link Tuple6#c()}
+ * @param <D> the type of {@link Tuple6#d()}
+ * @param <E> the type of {@link Tuple6#e()}
+ * @param <F> the type of {@link Tuple6#f()}
+ * @see TupleColumns
+ */
+public final class TupleColumns6<A, B, C, D, E, F> extends TupleColumns<Tuple6<A, B, C, D, E, F>> {
+    private final Column<A> a;
+    private final Column<B> b;
+    private final Column<C> c;
+    private final Column<D> d;
+    private final Column<E> e;
+    private final Column<F> f;
+
+    private TupleColumns6(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d, @NotNull Column<E> e, @NotNull Column<F> f) {
+        super(a, b, c, d, e, f);
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+        this.e = e;
+        this.f = f;
+    }
+
+    /**
+     * @return a new {@link TupleColumns6} made up of existing {@link Column}s
+     * @throws IllegalArgumentException if the {@link Column}s aren't all the same size
+     */
+    @Contract(pure = true, value = "_, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E, F> @NotNull TupleColumns6<A, B, C, D, E, F> ofColumns(@NotNull Column<A> a, @NotNull Column<B> b, @NotNull Column<C> c, @NotNull Column<D> d, @NotNull Column<E> e, @NotNull Column<F> f) {
+        return new TupleColumns6<>(a, b, c, d, e, f);
+    }
+
+    /**
+     * @param aType the type of {@link Tuple6#a()}
+     * @param bType the type of {@link Tuple6#b()}
+     * @param cType the type of {@link Tuple6#c()}
+     * @param dType the type of {@link Tuple6#d()}
+     * @param eType the type of {@link Tuple6#e()}
+     * @param fType the type of {@link Tuple6#f()}
+     * @param tuples the {@link Tuple6}s to copy
+     * @return a new {@link TupleColumns6} containing the same elements as {@code tuples}
+     * @throws NullPointerException if a primitive component is {@code null}
+     */
+    @Contract(pure = true, value = "_, _, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E, F> @NotNull TupleColumns6<A, B, C, D, E, F> copyOf(
+        @NotNull Class<A> aType,
+        @NotNull Class<B> bType,
+        @NotNull Class<C> cType,
+        @NotNull Class<D> dType,
+        @NotNull Class<E> eType,
+        @NotNull Class<F> fType,
+        @NotNull Iterable<? extends Tuple6<? extends A, ? extends B, ? extends C, ? extends D, ? extends E, ? extends F>> tuples
+    ) {
+        var builder = TupleColumns6.builder(aType, bType, cType, dType, eType, fType);
+        for (var tuple : tuples) {
+            builder.add(tuple.a(), tuple.b(), tuple.c(), tuple.d(), tuple.e(), tuple.f());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param aType the type of {@link Tuple6#a()}
+     * @param bType the type of {@link Tuple6#b()}
+     * @param cType the type of {@link Tuple6#c()}
+     * @param dType the type of {@link Tuple6#d()}
+     * @param eType the type of {@link Tuple6#e()}
+     * @param fType the type of {@link Tuple6#f()}
+     * @return a new, empty {@link Builder}
+     * @apiNote {@link Integer}, {@link Long} and {@link Double} components will be stored in primitive arrays.
+     */
+    @Contract(pure = true, value = "_, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E, F> @NotNull Builder<A, B, C, D, E, F> builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType, @NotNull Class<E> eType, @NotNull Class<F> fType) {
+        return new Builder<>(aType, bType, cType, dType, eType, fType);
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#a()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<A> a() {
+        return a;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#b()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<B> b() {
+        return b;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#c()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<C> c() {
+        return c;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#d()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<D> d() {
+        return d;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#e()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<E> e() {
+        return e;
+    }
+
+    /**
+     * @return the {@link Column} of every {@link Tuple6#f()}
+     */
+    @Contract(pure = true)
+    public @NotNull Column<F> f() {
+        return f;
+    }
+
+    @Contract(value = "_ -> new", pure = true)
+    @Override
+    public @NotNull Tuple6<A, B, C, D, E, F> get(int index) {
+        return new Tuple6<>(
+            a.get(index),
+            b.get(index),
+            c.get(index),
+            d.get(index),
+            e.get(index),
+            f.get(index)
+        );
+    }
+
+    /**
+     * Accumulates the elements of a {@link TupleColumns6}.
+     */
+    public static final class Builder<A, B, C, D, E, F> {
+        private final Column.Builder<A> a;
+        private final Column.Builder<B> b;
+        private final Column.Builder<C> c;
+        private final Column.Builder<D> d;
+        private final Column.Builder<E> e;
+        private final Column.Builder<F> f;
+
+        private Builder(@NotNull Class<A> aType, @NotNull Class<B> bType, @NotNull Class<C> cType, @NotNull Class<D> dType, @NotNull Class<E> eType, @NotNull Class<F> fType) {
+            this.a = Column.builder(aType);
+            this.b = Column.builder(bType);
+            this.c = Column.builder(cType);
+            this.d = Column.builder(dType);
+            this.e = Column.builder(eType);
+            this.f = Column.builder(fType);
+        }
+
+        /**
+         * @param a the new {@link Tuple6#a()}
+         * @param b the new {@link Tuple6#b()}
+         * @param c the new {@link Tuple6#c()}
+         * @param d the new {@link Tuple6#d()}
+         * @param e the new {@link Tuple6#e()}
+         * @param f the new {@link Tuple6#f()}
+         * @return this {@link Builder}
+         * @throws NullPointerException if a primitive component is {@code null}
+         */
+        @Contract("_, _, _, _, _, _ -> this")
+        public @NotNull Builder<A, B, C, D, E, F> add(A a, B b, C c, D d, E e, F f) {
+            this.a.add(a);
+            this.b.add(b);
+            this.c.add(c);
+            this.d.add(d);
+            this.e.add(e);
+            this.f.add(f);
+            return this;
+        }
+
+        /**
+         * @return a new {@link TupleColumns6} containing everything that has been {@link #add}ed
+         */
+        @Contract(pure = true, value = "-> new")
+        public @NotNull TupleColumns6<A, B, C, D, E, F> build() {
+            return new TupleColumns6<>(a.build(), b.build(), c.build(), d.build(), e.build(), f.build());
+        }
+    }
+}
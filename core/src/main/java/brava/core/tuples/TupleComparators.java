@@ -0,0 +1,396 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * {@link Comparator}s that order {@link Tuple}s <a href="https://en.wikipedia.org/wiki/Lexicographic_order">lexicographically</a>:
+ * by their first element, then their second, and so on.
+ *
+ * @implNote {@code Comparator.comparing(Tuple3::a).thenComparing(Tuple3::b).thenComparing(Tuple3::c)} builds a chain of 3 wrapper {@link Comparator}s,
+ * each of which calls an extractor {@link java.util.function.Function} and then the next link, so every comparison goes through several megamorphic calls.
+ * The {@link Comparator}s here read the record components directly and call each element {@link Comparator} exactly once, in a single flat method.
+ * <p>
+ * The {@link PrimitiveTuple} {@link Comparator}s <i>(like {@link #intLong()})</i> go a step further and compare the unboxed elements with
+ * {@link Integer#compare(int, int)} & co.
+ * @see TupleHashing
+ */
+public final class TupleComparators {
+    private TupleComparators() {
+        throw new UnsupportedOperationException("🩸🚪");
+    }
+
+    //region Tuple2..6
+
+    /**
+     * @param aComparator orders {@link Tuple2#a()}
+     * @param bComparator orders {@link Tuple2#b()}
+     * @return a {@link Comparator} that orders {@link Tuple2}s by each element in turn
+     */
+    @Contract(pure = true, value = "_, _ -> new")
+    public static <A, B> @NotNull Comparator<Tuple2<A, B>> lexicographic(
+          @NotNull Comparator<? super A> aComparator,
+          @NotNull Comparator<? super B> bComparator
+    ) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        Objects.requireNonNull(bComparator, "bComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            return bComparator.compare(x.b(), y.b());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link Tuple3#a()}
+     * @param bComparator orders {@link Tuple3#b()}
+     * @param cComparator orders {@link Tuple3#c()}
+     * @return a {@link Comparator} that orders {@link Tuple3}s by each element in turn
+     */
+    @Contract(pure = true, value = "_, _, _ -> new")
+    public static <A, B, C> @NotNull Comparator<Tuple3<A, B, C>> lexicographic(
+          @NotNull Comparator<? super A> aComparator,
+          @NotNull Comparator<? super B> bComparator,
+          @NotNull Comparator<? super C> cComparator
+    ) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        Objects.requireNonNull(bComparator, "bComparator");
+        Objects.requireNonNull(cComparator, "cComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            int b = bComparator.compare(x.b(), y.b());
+            if (b != 0) {
+                return b;
+            }
+            return cComparator.compare(x.c(), y.c());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link Tuple4#a()}
+     * @param bComparator orders {@link Tuple4#b()}
+     * @param cComparator orders {@link Tuple4#c()}
+     * @param dComparator orders {@link Tuple4#d()}
+     * @return a {@link Comparator} that orders {@link Tuple4}s by each element in turn
+     */
+    @Contract(pure = true, value = "_, _, _, _ -> new")
+    public static <A, B, C, D> @NotNull Comparator<Tuple4<A, B, C, D>> lexicographic(
+          @NotNull Comparator<? super A> aComparator,
+          @NotNull Comparator<? super B> bComparator,
+          @NotNull Comparator<? super C> cComparator,
+          @NotNull Comparator<? super D> dComparator
+    ) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        Objects.requireNonNull(bComparator, "bComparator");
+        Objects.requireNonNull(cComparator, "cComparator");
+        Objects.requireNonNull(dComparator, "dComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            int b = bComparator.compare(x.b(), y.b());
+            if (b != 0) {
+                return b;
+            }
+            int c = cComparator.compare(x.c(), y.c());
+            if (c != 0) {
+                return c;
+            }
+            return dComparator.compare(x.d(), y.d());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link Tuple5#a()}
+     * @param bComparator orders {@link Tuple5#b()}
+     * @param cComparator orders {@link Tuple5#c()}
+     * @param dComparator orders {@link Tuple5#d()}
+     * @param eComparator orders {@link Tuple5#e()}
+     * @return a {@link Comparator} that orders {@link Tuple5}s by each element in turn
+     */
+    @Contract(pure = true, value = "_, _, _, _, _ -> new")
+    public static <A, B, C, D, E> @NotNull Comparator<Tuple5<A, B, C, D, E>> lexicographic(
+          @NotNull Comparator<? super A> aComparator,
+          @NotNull Comparator<? super B> bComparator,
+          @NotNull Comparator<? super C> cComparator,
+          @NotNull Comparator<? super D> dComparator,
+          @NotNull Comparator<? super E> eComparator
+    ) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        Objects.requireNonNull(bComparator, "bComparator");
+        Objects.requireNonNull(cComparator, "cComparator");
+        Objects.requireNonNull(dComparator, "dComparator");
+        Objects.requireNonNull(eComparator, "eComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            int b = bComparator.compare(x.b(), y.b());
+            if (b != 0) {
+                return b;
+            }
+            int c = cComparator.compare(x.c(), y.c());
+            if (c != 0) {
+                return c;
+            }
+            int d = dComparator.compare(x.d(), y.d());
+            if (d != 0) {
+                return d;
+            }
+            return eComparator.compare(x.e(), y.e());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link Tuple6#a()}
+     * @param bComparator orders {@link Tuple6#b()}
+     * @param cComparator orders {@link Tuple6#c()}
+     * @param dComparator orders {@link Tuple6#d()}
+     * @param eComparator orders {@link Tuple6#e()}
+     * @param fComparator orders {@link Tuple6#f()}
+     * @return a {@link Comparator} that orders {@link Tuple6}s by each element in turn
+     */
+    @Contract(pure = true, value = "_, _, _, _, _, _ -> new")
+    public static <A, B, C, D, E, F> @NotNull Comparator<Tuple6<A, B, C, D, E, F>> lexicographic(
+          @NotNull Comparator<? super A> aComparator,
+          @NotNull Comparator<? super B> bComparator,
+          @NotNull Comparator<? super C> cComparator,
+          @NotNull Comparator<? super D> dComparator,
+          @NotNull Comparator<? super E> eComparator,
+          @NotNull Comparator<? super F> fComparator
+    ) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        Objects.requireNonNull(bComparator, "bComparator");
+        Objects.requireNonNull(cComparator, "cComparator");
+        Objects.requireNonNull(dComparator, "dComparator");
+        Objects.requireNonNull(eComparator, "eComparator");
+        Objects.requireNonNull(fComparator, "fComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            int b = bComparator.compare(x.b(), y.b());
+            if (b != 0) {
+                return b;
+            }
+            int c = cComparator.compare(x.c(), y.c());
+            if (c != 0) {
+                return c;
+            }
+            int d = dComparator.compare(x.d(), y.d());
+            if (d != 0) {
+                return d;
+            }
+            int e = eComparator.compare(x.e(), y.e());
+            if (e != 0) {
+                return e;
+            }
+            return fComparator.compare(x.f(), y.f());
+        };
+    }
+
+    //endregion
+
+    //region PrimitiveTuples
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.IntInt}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.IntInt> intInt() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.IntLong}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.IntLong> intLong() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.LongLong}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.LongLong> longLong() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.LongDouble}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.LongDouble> longDouble() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.DoubleDouble}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.DoubleDouble> doubleDouble() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.IntIntInt}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.IntIntInt> intIntInt() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.LongLongLong}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.LongLongLong> longLongLong() {
+        return TupleComparators::compare;
+    }
+
+    /**
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.DoubleDoubleDouble}s lexicographically, without boxing
+     */
+    @Contract(pure = true)
+    public static @NotNull Comparator<PrimitiveTuple.DoubleDoubleDouble> doubleDoubleDouble() {
+        return TupleComparators::compare;
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.IntInt x, @NotNull PrimitiveTuple.IntInt y) {
+        int a = Integer.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        return Integer.compare(x.b(), y.b());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.IntLong x, @NotNull PrimitiveTuple.IntLong y) {
+        int a = Integer.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        return Long.compare(x.b(), y.b());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.LongLong x, @NotNull PrimitiveTuple.LongLong y) {
+        int a = Long.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        return Long.compare(x.b(), y.b());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.LongDouble x, @NotNull PrimitiveTuple.LongDouble y) {
+        int a = Long.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        return Double.compare(x.b(), y.b());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.DoubleDouble x, @NotNull PrimitiveTuple.DoubleDouble y) {
+        int a = Double.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        return Double.compare(x.b(), y.b());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.IntIntInt x, @NotNull PrimitiveTuple.IntIntInt y) {
+        int a = Integer.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        int b = Integer.compare(x.b(), y.b());
+        if (b != 0) {
+            return b;
+        }
+        return Integer.compare(x.c(), y.c());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.LongLongLong x, @NotNull PrimitiveTuple.LongLongLong y) {
+        int a = Long.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        int b = Long.compare(x.b(), y.b());
+        if (b != 0) {
+            return b;
+        }
+        return Long.compare(x.c(), y.c());
+    }
+
+    private static int compare(@NotNull PrimitiveTuple.DoubleDoubleDouble x, @NotNull PrimitiveTuple.DoubleDoubleDouble y) {
+        int a = Double.compare(x.a(), y.a());
+        if (a != 0) {
+            return a;
+        }
+        int b = Double.compare(x.b(), y.b());
+        if (b != 0) {
+            return b;
+        }
+        return Double.compare(x.c(), y.c());
+    }
+
+    /**
+     * @param aComparator orders {@link PrimitiveTuple.ObjInt#a()}
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.ObjInt}s lexicographically, without boxing {@link PrimitiveTuple.ObjInt#b()}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A> @NotNull Comparator<PrimitiveTuple.ObjInt<A>> objInt(@NotNull Comparator<? super A> aComparator) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            return Integer.compare(x.b(), y.b());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link PrimitiveTuple.ObjLong#a()}
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.ObjLong}s lexicographically, without boxing {@link PrimitiveTuple.ObjLong#b()}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A> @NotNull Comparator<PrimitiveTuple.ObjLong<A>> objLong(@NotNull Comparator<? super A> aComparator) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            return Long.compare(x.b(), y.b());
+        };
+    }
+
+    /**
+     * @param aComparator orders {@link PrimitiveTuple.ObjDouble#a()}
+     * @return a {@link Comparator} that orders {@link PrimitiveTuple.ObjDouble}s lexicographically, without boxing {@link PrimitiveTuple.ObjDouble#b()}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A> @NotNull Comparator<PrimitiveTuple.ObjDouble<A>> objDouble(@NotNull Comparator<? super A> aComparator) {
+        Objects.requireNonNull(aComparator, "aComparator");
+        return (x, y) -> {
+            int a = aComparator.compare(x.a(), y.a());
+            if (a != 0) {
+                return a;
+            }
+            return Double.compare(x.b(), y.b());
+        };
+    }
+
+    //endregion
+}
@@ -0,0 +1,164 @@
+package brava.core.tuples;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Well-mixed hash codes for {@link Tuple}s and their components, suitable for power-of-two-sized, open-addressing hash tables.
+ * <p>
+ * The {@link Record#hashCode()}s of the {@link Tuple} records combine their components as {@code 31 * h + e}, which is fine for {@link java.util.HashMap}
+ * <i>(which re-spreads the bits itself)</i> but clusters badly when the low bits are used directly: {@code (0, 31)} and {@code (1, 0)} collide, for example.
+ * These methods combine the components' {@link Object#hashCode()}s with the <a href="https://en.wikipedia.org/wiki/MurmurHash#Algorithm">MurmurHash3</a>
+ * mixing steps instead, so every input bit affects every output bit.
+ * <p>
+ * The overloads are consistent with one another: {@code hash(tuple)}, {@code hash(tuple.a(), tuple.b())}
+ * and, for {@link Integer} components, {@code hashInts(tuple.a(), tuple.b())} all return the same value.
+ *
+ * @see TupleComparators
+ */
+public final class TupleHashing {
+    private static final int SEED = 0;
+
+    private TupleHashing() {
+        throw new UnsupportedOperationException("🩸🚪");
+    }
+
+    /**
+     * @param tuple a {@link Tuple} of any size
+     * @return a well-mixed hash of the {@link Tuple}'s elements
+     */
+    @Contract(pure = true)
+    public static int hash(@NotNull Tuple<?> tuple) {
+        var size = tuple.size();
+        int h    = SEED;
+        for (int i = 0; i < size; i++) {
+            h = mix(h, Objects.hashCode(tuple.get(i)));
+        }
+
+        return finish(h, size);
+    }
+
+    /**
+     * @return a well-mixed hash of the 2 components of a {@link Tuple2}
+     */
+    @Contract(pure = true)
+    public static int hash(@Nullable Object a, @Nullable Object b) {
+        return finish(mix(mix(SEED, Objects.hashCode(a)), Objects.hashCode(b)), 2);
+    }
+
+    /**
+     * @return a well-mixed hash of the 3 components of a {@link Tuple3}
+     */
+    @Contract(pure = true)
+    public static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+        return finish(mix(mix(mix(SEED, Objects.hashCode(a)), Objects.hashCode(b)), Objects.hashCode(c)), 3);
+    }
+
+    /**
+     * @return a well-mixed hash of the 4 components of a {@link Tuple4}
+     */
+    @Contract(pure = true)
+    public static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+        return finish(mix(mix(mix(mix(SEED, Objects.hashCode(a)), Objects.hashCode(b)), Objects.hashCode(c)), Objects.hashCode(d)), 4);
+    }
+
+    /**
+     * @return a well-mixed hash of the 5 components of a {@link Tuple5}
+     */
+    @Contract(pure = true)
+    public static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d, @Nullable Object e) {
+        return finish(mix(mix(mix(mix(mix(SEED, Objects.hashCode(a)), Objects.hashCode(b)), Objects.hashCode(c)), Objects.hashCode(d)), Objects.hashCode(e)), 5);
+    }
+
+    /**
+     * @return a well-mixed hash of the 6 components of a {@link Tuple6}
+     */
+    @Contract(pure = true)
+    public static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d, @Nullable Object e, @Nullable Object f) {
+        return finish(mix(mix(mix(mix(mix(mix(SEED, Objects.hashCode(a)), Objects.hashCode(b)), Objects.hashCode(c)), Objects.hashCode(d)), Objects.hashCode(e)), Objects.hashCode(f)), 6);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object)} with boxed {@link Integer}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashInts(int a, int b) {
+        return finish(mix(mix(SEED, a), b), 2);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object, Object)} with boxed {@link Integer}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashInts(int a, int b, int c) {
+        return finish(mix(mix(mix(SEED, a), b), c), 3);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object)} with boxed {@link Long}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashLongs(long a, long b) {
+        return finish(mix(mix(SEED, Long.hashCode(a)), Long.hashCode(b)), 2);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object, Object)} with boxed {@link Long}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashLongs(long a, long b, long c) {
+        return finish(mix(mix(mix(SEED, Long.hashCode(a)), Long.hashCode(b)), Long.hashCode(c)), 3);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object)} with boxed {@link Double}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashDoubles(double a, double b) {
+        return finish(mix(mix(SEED, Double.hashCode(a)), Double.hashCode(b)), 2);
+    }
+
+    /**
+     * @return the same value as {@link #hash(Object, Object, Object)} with boxed {@link Double}s, without boxing them
+     */
+    @Contract(pure = true)
+    public static int hashDoubles(double a, double b, double c) {
+        return finish(mix(mix(mix(SEED, Double.hashCode(a)), Double.hashCode(b)), Double.hashCode(c)), 3);
+    }
+
+    /**
+     * Spreads the bits of an existing hash code.
+     *
+     * @param hash an {@link Object#hashCode()}, which might only vary in its low bits <i>(e.g. a small {@link Integer})</i>
+     * @return a hash with the same entropy, spread across all 32 bits
+     * @implNote This is MurmurHash3's 32-bit finalizer.
+     */
+    @Contract(pure = true)
+    public static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    @Contract(pure = true)
+    private static int mix(int hash, int component) {
+        component *= 0xCC9E2D51;
+        component = Integer.rotateLeft(component, 15);
+        component *= 0x1B873593;
+
+        hash ^= component;
+        hash = Integer.rotateLeft(hash, 13);
+        return hash * 5 + 0xE6546B64;
+    }
+
+    @Contract(pure = true)
+    private static int finish(int hash, int length) {
+        return spread(hash ^ length);
+    }
+}
@@ -0,0 +1,364 @@
+package brava.core.tuples;
+
+import brava.core.Unchecked;
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The base class for mutable {@link java.util.Map}s keyed by {@link Tuple}s, whose keys are passed (and stored) as separate components.
+ * <p>
+ * Looking something up in a {@code Map<Tuple2<A, B>, V>} means creating a {@link Tuple2} just to call {@link java.util.Map#get(Object)}.
+ * {@link TupleKeyedMap2#get(Object, Object)} takes the components directly, so a lookup doesn't allocate anything;
+ * the key {@link Tuple}s are only created when you iterate over the {@link #entrySet()} or {@link #keySet()}.
+ * <p>
+ * These are still regular {@link java.util.Map}s: the {@link Tuple}-based methods, like {@link #get(Object)}, work the way you'd expect.
+ *
+ * @param <K> the {@link Tuple} key type
+ * @param <V> the value type
+ * @implNote This is an <a href="https://en.wikipedia.org/wiki/Open_addressing">open-addressing</a> table with <a href="https://en.wikipedia.org/wiki/Linear_probing">linear probing</a>:
+ * <ul>
+ *     <li>Each key component is stored in its own array <i>(a "struct-of-arrays")</i>, alongside an {@code int[]} of {@link TupleHashing} hashes.
+ *     A probe compares the hashes first, so it only reads the component arrays for likely matches.</li>
+ *     <li>The table is kept at most half full, which keeps the probe sequences short.</li>
+ *     <li>{@link #remove(Object)} uses backward-shift deletion, so there are no tombstones.</li>
+ * </ul>
+ * Like {@link java.util.HashMap}, this isn't thread-safe.
+ * @see TupleKeyedMap2
+ * @see TupleKeyedMap3
+ * @see TupleKeyedMap4
+ */
+public abstract class TupleKeyedMap<K extends Tuple<K>, V> extends AbstractMap<K, V> {
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+    /**
+     * Marks a {@link #hashes} slot as occupied, so that {@code 0} can mean "empty".
+     *
+     * @apiNote The table index comes from the <i>low</i> bits of the hash, so we can spare the high bit.
+     */
+    private static final int OCCUPIED     = Integer.MIN_VALUE;
+
+    /**
+     * {@code keys[component][slot]}
+     */
+    Object[][] keys;
+    int[]      hashes;
+    Object[]   values;
+    int        mask;
+    private int size;
+    private int modCount;
+
+    TupleKeyedMap(int arity, int expectedSize) {
+        Preconditions.checkArgument(expectedSize >= 0, "expectedSize must be non-negative, but was %s", expectedSize);
+        var capacity = capacityFor(expectedSize);
+        this.keys   = new Object[arity][capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask   = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        var needed = (long) expectedSize * 2;
+        if (needed > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) Math.max(1, needed - 1)) << 1);
+    }
+
+    /**
+     * @param hash a {@link TupleHashing} hash
+     * @return the value stored in {@link #hashes}, which is never {@code 0}
+     */
+    @Contract(pure = true)
+    static int occupied(int hash) {
+        return hash | OCCUPIED;
+    }
+
+    /**
+     * @param slot the slot index
+     * @return a new key {@link Tuple} built from the components stored in {@code slot}
+     */
+    abstract @NotNull K keyAt(int slot);
+
+    //region Slot management
+
+    final V valueAt(int slot) {
+        return Unchecked.cast(values[slot]);
+    }
+
+    final V replaceValue(int slot, V value) {
+        V previous = valueAt(slot);
+        values[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Claims an empty slot for a new entry, growing the table if necessary.
+     * The caller is responsible for filling in the {@link #keys}.
+     *
+     * @param emptySlot  the empty slot found by probing for the key
+     * @param storedHash the key's {@link #occupied(int)} hash
+     * @param value      the new value
+     * @return the slot that was actually claimed, which will be different from {@code emptySlot} if the table grew
+     */
+    final int claim(int emptySlot, int storedHash, V value) {
+        if (size >= (mask + 1) >>> 1) {
+            grow();
+            emptySlot = storedHash & mask;
+            while (hashes[emptySlot] != 0) {
+                emptySlot = (emptySlot + 1) & mask;
+            }
+        }
+
+        hashes[emptySlot] = storedHash;
+        values[emptySlot] = value;
+        size++;
+        modCount++;
+        return emptySlot;
+    }
+
+    private void grow() {
+        var oldCapacity = mask + 1;
+        if (oldCapacity == MAX_CAPACITY) {
+            throw new IllegalStateException("A %s can't hold more than %s entries!".formatted(getClass().getSimpleName(), MAX_CAPACITY >>> 1));
+        }
+
+        var capacity  = oldCapacity << 1;
+        var newMask   = capacity - 1;
+        var oldKeys   = keys;
+        var oldHashes = hashes;
+        var oldValues = values;
+        var newKeys   = new Object[oldKeys.length][capacity];
+        var newHashes = new int[capacity];
+        var newValues = new Object[capacity];
+
+        for (int from = 0; from < oldCapacity; from++) {
+            var hash = oldHashes[from];
+            if (hash == 0) {
+                continue;
+            }
+
+            // 📎 Every key is already known to be unique, so we only need to find an empty slot.
+            int to = hash & newMask;
+            while (newHashes[to] != 0) {
+                to = (to + 1) & newMask;
+            }
+
+            newHashes[to] = hash;
+            newValues[to] = oldValues[from];
+            for (int component = 0; component < oldKeys.length; component++) {
+                newKeys[component][to] = oldKeys[component][from];
+            }
+        }
+
+        this.keys   = newKeys;
+        this.hashes = newHashes;
+        this.values = newValues;
+        this.mask   = newMask;
+    }
+
+    /**
+     * Removes the entry in {@code slot}, shifting any later entries in the same probe sequence back to fill the gap.
+     *
+     * @param slot an occupied slot
+     * @return the removed value
+     */
+    final V removeAt(int slot) {
+        V removed = valueAt(slot);
+        int gap = slot;
+        for (int i = (gap + 1) & mask; hashes[i] != 0; i = (i + 1) & mask) {
+            int ideal = hashes[i] & mask;
+            // The entry in `i` can fill the gap unless its ideal slot lies (cyclically) between the gap and `i`.
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                move(i, gap);
+                gap = i;
+            }
+        }
+
+        hashes[gap] = 0;
+        values[gap] = null;
+        for (var component : keys) {
+            component[gap] = null;
+        }
+
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    private void move(int from, int to) {
+        hashes[to] = hashes[from];
+        values[to] = values[from];
+        for (var component : keys) {
+            component[to] = component[from];
+        }
+    }
+
+    //endregion
+
+    @Contract(pure = true)
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final boolean containsValue(@Nullable Object value) {
+        for (int slot = 0; slot <= mask; slot++) {
+            if (hashes[slot] != 0 && Objects.equals(values[slot], value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public final void clear() {
+        if (size == 0) {
+            return;
+        }
+
+        Arrays.fill(hashes, 0);
+        Arrays.fill(values, null);
+        for (var component : keys) {
+            Arrays.fill(component, null);
+        }
+
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * @return a view of my entries, whose keys are created on demand
+     * @apiNote Both {@link Entry#setValue(Object)} and {@link Iterator#remove()} write through to this map,
+     * so the inherited {@link #keySet()} and {@link #values()} views can remove entries too.
+     */
+    @Override
+    public final @NotNull Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                TupleKeyedMap.this.clear();
+            }
+        };
+    }
+
+    private final class SlotEntry extends SimpleEntry<K, V> {
+        private final int slot;
+        private final int expectedModCount;
+
+        private SlotEntry(int slot) {
+            super(keyAt(slot), valueAt(slot));
+            this.slot             = slot;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            values[slot] = value;
+            return super.setValue(value);
+        }
+    }
+
+    /**
+     * Visits the slots in order, starting just after an empty one.
+     *
+     * @implNote Because we start after an empty slot, no probe sequence wraps around past the start of the iteration.
+     * That means the backward shifts in {@link #removeAt(int)} only ever move entries we haven't visited yet,
+     * and only into slots we haven't visited yet <i>(or the one we just emptied)</i>, so {@link #remove()} can't make us skip or repeat an entry.
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final int start            = emptySlot();
+        private       int expectedModCount = modCount;
+        /**
+         * How far after {@link #start} the next occupied slot is, or the capacity if there aren't any more.
+         */
+        private       int next             = advance(1);
+        /**
+         * How far after {@link #start} the last entry returned by {@link #next()} was, or {@code -1} if it's been {@link #remove()}d.
+         */
+        private       int current          = -1;
+
+        private int emptySlot() {
+            // 📎 The table is never more than half full, so this always finds one.
+            int slot = 0;
+            while (hashes[slot] != 0) {
+                slot++;
+            }
+
+            return slot;
+        }
+
+        private int advance(int from) {
+            while (from <= mask && hashes[(start + from) & mask] == 0) {
+                from++;
+            }
+
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next <= mask;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var entry = new SlotEntry((start + next) & mask);
+            current = next;
+            next    = advance(next + 1);
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeAt((start + current) & mask);
+            expectedModCount = modCount;
+            // The backward shift might have moved an entry we haven't visited yet into the slot we just emptied, so look at it again
+            next    = advance(current);
+            current = -1;
+        }
+    }
+}
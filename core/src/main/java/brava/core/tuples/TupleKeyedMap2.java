@@ -0,0 +1,189 @@
+package brava.core.tuples;
+
+import brava.core.Unchecked;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link TupleKeyedMap} keyed by {@link Tuple2}s.
+ * <pre>{@code
+ * var map = TupleKeyedMap2.<A, B, V>create();
+ * map.put(a, b, value);
+ * map.get(a, b);             // no Tuple2 needed
+ * map.get(Tuple.of(a, b));   // ...but it still works as a Map<Tuple2<A, B>, V>
+ * }</pre>
+ *
+ * @param <A> the type of {@link Tuple2#a()}
+ * @param <B> the type of {@link Tuple2#b()}
+ * @param <V> the value type
+ */
+public final class TupleKeyedMap2<A, B, V> extends TupleKeyedMap<Tuple2<A, B>, V> {
+    private TupleKeyedMap2(int expectedSize) {
+        super(2, expectedSize);
+    }
+
+    /**
+     * @return a new, empty {@link TupleKeyedMap2}
+     */
+    @Contract(pure = true, value = "-> new")
+    public static <A, B, V> @NotNull TupleKeyedMap2<A, B, V> create() {
+        return new TupleKeyedMap2<>(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries that can be added before the table has to grow
+     * @return a new, empty {@link TupleKeyedMap2}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A, B, V> @NotNull TupleKeyedMap2<A, B, V> create(int expectedSize) {
+        return new TupleKeyedMap2<>(expectedSize);
+    }
+
+    @Contract(pure = true)
+    private static int hash(@Nullable Object a, @Nullable Object b) {
+        return occupied(TupleHashing.hash(a, b));
+    }
+
+    private int slotOf(@Nullable Object a, @Nullable Object b) {
+        return find(a, b, hash(a, b));
+    }
+
+    /**
+     * @return the slot containing the key, or the {@code ~}complement of the empty slot where it belongs
+     */
+    private int find(@Nullable Object a, @Nullable Object b, int hash) {
+        var hashes = this.hashes;
+        var mask   = this.mask;
+        var as     = keys[0];
+        var bs     = keys[1];
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var candidate = hashes[slot];
+            if (candidate == 0) {
+                return ~slot;
+            }
+
+            if (candidate == hash && Objects.equals(as[slot], a) && Objects.equals(bs[slot], b)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * @param a the key's {@link Tuple2#a()}
+     * @param b the key's {@link Tuple2#b()}
+     * @return the value associated with the key, or {@code null} if there isn't one
+     */
+    @Contract(pure = true)
+    public @Nullable V get(A a, B b) {
+        var slot = slotOf(a, b);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    /**
+     * @param a the key's {@link Tuple2#a()}
+     * @param b the key's {@link Tuple2#b()}
+     * @return {@code true} if there is an entry with that key
+     */
+    @Contract(pure = true)
+    public boolean containsKey(A a, B b) {
+        return slotOf(a, b) >= 0;
+    }
+
+    /**
+     * @param a the key's {@link Tuple2#a()}
+     * @param b the key's {@link Tuple2#b()}
+     * @param value the new value
+     * @return the previous value associated with the key, or {@code null} if there wasn't one
+     */
+    @Contract(mutates = "this")
+    public @Nullable V put(A a, B b, V value) {
+        var hash = hash(a, b);
+        var slot = find(a, b, hash);
+        if (slot >= 0) {
+            return replaceValue(slot, value);
+        }
+
+        slot = claim(~slot, hash, value);
+        keys[0][slot] = a;
+        keys[1][slot] = b;
+        return null;
+    }
+
+    /**
+     * @param a the key's {@link Tuple2#a()}
+     * @param b the key's {@link Tuple2#b()}
+     * @param mappingFunction computes the value if there isn't one already
+     * @return the existing or computed value
+     * @see java.util.Map#computeIfAbsent(Object, java.util.function.Function)
+     */
+    @Contract(mutates = "this")
+    public V computeIfAbsent(A a, B b, @NotNull BiFunction<? super A, ? super B, ? extends V> mappingFunction) {
+        var hash = hash(a, b);
+        var slot = find(a, b, hash);
+        if (slot >= 0 && valueAt(slot) != null) {
+            return valueAt(slot);
+        }
+
+        V value = mappingFunction.apply(a, b);
+        if (value != null) {
+            put(a, b, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * @param a the key's {@link Tuple2#a()}
+     * @param b the key's {@link Tuple2#b()}
+     * @return the value that was associated with the key, or {@code null} if there wasn't one
+     * @apiNote This isn't called {@code remove} because it would clash with {@link java.util.Map#remove(Object, Object)}.
+     */
+    @Contract(mutates = "this")
+    public @Nullable V removeKey(A a, B b) {
+        var slot = slotOf(a, b);
+        return slot < 0 ? null : removeAt(slot);
+    }
+
+    //region Map<Tuple2<A, B>, V>
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+        if (key instanceof Tuple2<?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b());
+            return slot < 0 ? null : valueAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key instanceof Tuple2<?, ?> tuple && slotOf(tuple.a(), tuple.b()) >= 0;
+    }
+
+    @Override
+    public @Nullable V put(@NotNull Tuple2<A, B> key, V value) {
+        return put(key.a(), key.b(), value);
+    }
+
+    @Override
+    public @Nullable V remove(@Nullable Object key) {
+        if (key instanceof Tuple2<?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b());
+            return slot < 0 ? null : removeAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    @NotNull Tuple2<A, B> keyAt(int slot) {
+        return new Tuple2<>(Unchecked.cast(keys[0][slot]), Unchecked.cast(keys[1][slot]));
+    }
+
+    //endregion
+}
@@ -0,0 +1,197 @@
+package brava.core.tuples;
+
+import brava.core.Unchecked;
+import brava.core.functional.TriFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link TupleKeyedMap} keyed by {@link Tuple3}s.
+ * <pre>{@code
+ * var map = TupleKeyedMap3.<A, B, C, V>create();
+ * map.put(a, b, c, value);
+ * map.get(a, b, c);             // no Tuple3 needed
+ * map.get(Tuple.of(a, b, c));   // ...but it still works as a Map<Tuple3<A, B, C>, V>
+ * }</pre>
+ *
+ * @param <A> the type of {@link Tuple3#a()}
+ * @param <B> the type of {@link Tuple3#b()}
+ * @param <C> the type of {@link Tuple3#c()}
+ * @param <V> the value type
+ */
+public final class TupleKeyedMap3<A, B, C, V> extends TupleKeyedMap<Tuple3<A, B, C>, V> {
+    private TupleKeyedMap3(int expectedSize) {
+        super(3, expectedSize);
+    }
+
+    /**
+     * @return a new, empty {@link TupleKeyedMap3}
+     */
+    @Contract(pure = true, value = "-> new")
+    public static <A, B, C, V> @NotNull TupleKeyedMap3<A, B, C, V> create() {
+        return new TupleKeyedMap3<>(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries that can be added before the table has to grow
+     * @return a new, empty {@link TupleKeyedMap3}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A, B, C, V> @NotNull TupleKeyedMap3<A, B, C, V> create(int expectedSize) {
+        return new TupleKeyedMap3<>(expectedSize);
+    }
+
+    @Contract(pure = true)
+    private static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+        return occupied(TupleHashing.hash(a, b, c));
+    }
+
+    private int slotOf(@Nullable Object a, @Nullable Object b, @Nullable Object c) {
+        return find(a, b, c, hash(a, b, c));
+    }
+
+    /**
+     * @return the slot containing the key, or the {@code ~}complement of the empty slot where it belongs
+     */
+    private int find(@Nullable Object a, @Nullable Object b, @Nullable Object c, int hash) {
+        var hashes = this.hashes;
+        var mask   = this.mask;
+        var as     = keys[0];
+        var bs     = keys[1];
+        var cs     = keys[2];
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var candidate = hashes[slot];
+            if (candidate == 0) {
+                return ~slot;
+            }
+
+            if (candidate == hash && Objects.equals(as[slot], a) && Objects.equals(bs[slot], b) && Objects.equals(cs[slot], c)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * @param a the key's {@link Tuple3#a()}
+     * @param b the key's {@link Tuple3#b()}
+     * @param c the key's {@link Tuple3#c()}
+     * @return the value associated with the key, or {@code null} if there isn't one
+     */
+    @Contract(pure = true)
+    public @Nullable V get(A a, B b, C c) {
+        var slot = slotOf(a, b, c);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    /**
+     * @param a the key's {@link Tuple3#a()}
+     * @param b the key's {@link Tuple3#b()}
+     * @param c the key's {@link Tuple3#c()}
+     * @return {@code true} if there is an entry with that key
+     */
+    @Contract(pure = true)
+    public boolean containsKey(A a, B b, C c) {
+        return slotOf(a, b, c) >= 0;
+    }
+
+    /**
+     * @param a the key's {@link Tuple3#a()}
+     * @param b the key's {@link Tuple3#b()}
+     * @param c the key's {@link Tuple3#c()}
+     * @param value the new value
+     * @return the previous value associated with the key, or {@code null} if there wasn't one
+     */
+    @Contract(mutates = "this")
+    public @Nullable V put(A a, B b, C c, V value) {
+        var hash = hash(a, b, c);
+        var slot = find(a, b, c, hash);
+        if (slot >= 0) {
+            return replaceValue(slot, value);
+        }
+
+        slot = claim(~slot, hash, value);
+        keys[0][slot] = a;
+        keys[1][slot] = b;
+        keys[2][slot] = c;
+        return null;
+    }
+
+    /**
+     * @param a the key's {@link Tuple3#a()}
+     * @param b the key's {@link Tuple3#b()}
+     * @param c the key's {@link Tuple3#c()}
+     * @param mappingFunction computes the value if there isn't one already
+     * @return the existing or computed value
+     * @see java.util.Map#computeIfAbsent(Object, java.util.function.Function)
+     */
+    @Contract(mutates = "this")
+    public V computeIfAbsent(A a, B b, C c, @NotNull TriFunction<? super A, ? super B, ? super C, ? extends V> mappingFunction) {
+        var hash = hash(a, b, c);
+        var slot = find(a, b, c, hash);
+        if (slot >= 0 && valueAt(slot) != null) {
+            return valueAt(slot);
+        }
+
+        V value = mappingFunction.apply(a, b, c);
+        if (value != null) {
+            put(a, b, c, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * @param a the key's {@link Tuple3#a()}
+     * @param b the key's {@link Tuple3#b()}
+     * @param c the key's {@link Tuple3#c()}
+     * @return the value that was associated with the key, or {@code null} if there wasn't one
+     * @apiNote This isn't called {@code remove} because it would clash with {@link java.util.Map#remove(Object, Object)}.
+     */
+    @Contract(mutates = "this")
+    public @Nullable V removeKey(A a, B b, C c) {
+        var slot = slotOf(a, b, c);
+        return slot < 0 ? null : removeAt(slot);
+    }
+
+    //region Map<Tuple3<A, B, C>, V>
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+        if (key instanceof Tuple3<?, ?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b(), tuple.c());
+            return slot < 0 ? null : valueAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key instanceof Tuple3<?, ?, ?> tuple && slotOf(tuple.a(), tuple.b(), tuple.c()) >= 0;
+    }
+
+    @Override
+    public @Nullable V put(@NotNull Tuple3<A, B, C> key, V value) {
+        return put(key.a(), key.b(), key.c(), value);
+    }
+
+    @Override
+    public @Nullable V remove(@Nullable Object key) {
+        if (key instanceof Tuple3<?, ?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b(), tuple.c());
+            return slot < 0 ? null : removeAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    @NotNull Tuple3<A, B, C> keyAt(int slot) {
+        return new Tuple3<>(Unchecked.cast(keys[0][slot]), Unchecked.cast(keys[1][slot]), Unchecked.cast(keys[2][slot]));
+    }
+
+    //endregion
+}
@@ -0,0 +1,205 @@
+package brava.core.tuples;
+
+import brava.core.Unchecked;
+import brava.core.functional.QuadFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A {@link TupleKeyedMap} keyed by {@link Tuple4}s.
+ * <pre>{@code
+ * var map = TupleKeyedMap4.<A, B, C, D, V>create();
+ * map.put(a, b, c, d, value);
+ * map.get(a, b, c, d);             // no Tuple4 needed
+ * map.get(Tuple.of(a, b, c, d));   // ...but it still works as a Map<Tuple4<A, B, C, D>, V>
+ * }</pre>
+ *
+ * @param <A> the type of {@link Tuple4#a()}
+ * @param <B> the type of {@link Tuple4#b()}
+ * @param <C> the type of {@link Tuple4#c()}
+ * @param <D> the type of {@link Tuple4#d()}
+ * @param <V> the value type
+ */
+public final class TupleKeyedMap4<A, B, C, D, V> extends TupleKeyedMap<Tuple4<A, B, C, D>, V> {
+    private TupleKeyedMap4(int expectedSize) {
+        super(4, expectedSize);
+    }
+
+    /**
+     * @return a new, empty {@link TupleKeyedMap4}
+     */
+    @Contract(pure = true, value = "-> new")
+    public static <A, B, C, D, V> @NotNull TupleKeyedMap4<A, B, C, D, V> create() {
+        return new TupleKeyedMap4<>(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries that can be added before the table has to grow
+     * @return a new, empty {@link TupleKeyedMap4}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static <A, B, C, D, V> @NotNull TupleKeyedMap4<A, B, C, D, V> create(int expectedSize) {
+        return new TupleKeyedMap4<>(expectedSize);
+    }
+
+    @Contract(pure = true)
+    private static int hash(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+        return occupied(TupleHashing.hash(a, b, c, d));
+    }
+
+    private int slotOf(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d) {
+        return find(a, b, c, d, hash(a, b, c, d));
+    }
+
+    /**
+     * @return the slot containing the key, or the {@code ~}complement of the empty slot where it belongs
+     */
+    private int find(@Nullable Object a, @Nullable Object b, @Nullable Object c, @Nullable Object d, int hash) {
+        var hashes = this.hashes;
+        var mask   = this.mask;
+        var as     = keys[0];
+        var bs     = keys[1];
+        var cs     = keys[2];
+        var ds     = keys[3];
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var candidate = hashes[slot];
+            if (candidate == 0) {
+                return ~slot;
+            }
+
+            if (candidate == hash && Objects.equals(as[slot], a) && Objects.equals(bs[slot], b) && Objects.equals(cs[slot], c) && Objects.equals(ds[slot], d)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * @param a the key's {@link Tuple4#a()}
+     * @param b the key's {@link Tuple4#b()}
+     * @param c the key's {@link Tuple4#c()}
+     * @param d the key's {@link Tuple4#d()}
+     * @return the value associated with the key, or {@code null} if there isn't one
+     */
+    @Contract(pure = true)
+    public @Nullable V get(A a, B b, C c, D d) {
+        var slot = slotOf(a, b, c, d);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    /**
+     * @param a the key's {@link Tuple4#a()}
+     * @param b the key's {@link Tuple4#b()}
+     * @param c the key's {@link Tuple4#c()}
+     * @param d the key's {@link Tuple4#d()}
+     * @return {@code true} if there is an entry with that key
+     */
+    @Contract(pure = true)
+    public boolean containsKey(A a, B b, C c, D d) {
+        return slotOf(a, b, c, d) >= 0;
+    }
+
+    /**
+     * @param a the key's {@link Tuple4#a()}
+     * @param b the key's {@link Tuple4#b()}
+     * @param c the key's {@link Tuple4#c()}
+     * @param d the key's {@link Tuple4#d()}
+     * @param value the new value
+     * @return the previous value associated with the key, or {@code null} if there wasn't one
+     */
+    @Contract(mutates = "this")
+    public @Nullable V put(A a, B b, C c, D d, V value) {
+        var hash = hash(a, b, c, d);
+        var slot = find(a, b, c, d, hash);
+        if (slot >= 0) {
+            return replaceValue(slot, value);
+        }
+
+        slot = claim(~slot, hash, value);
+        keys[0][slot] = a;
+        keys[1][slot] = b;
+        keys[2][slot] = c;
+        keys[3][slot] = d;
+        return null;
+    }
+
+    /**
+     * @param a the key's {@link Tuple4#a()}
+     * @param b the key's {@link Tuple4#b()}
+     * @param c the key's {@link Tuple4#c()}
+     * @param d the key's {@link Tuple4#d()}
+     * @param mappingFunction computes the value if there isn't one already
+     * @return the existing or computed value
+     * @see java.util.Map#computeIfAbsent(Object, java.util.function.Function)
+     */
+    @Contract(mutates = "this")
+    public V computeIfAbsent(A a, B b, C c, D d, @NotNull QuadFunction<? super A, ? super B, ? super C, ? super D, ? extends V> mappingFunction) {
+        var hash = hash(a, b, c, d);
+        var slot = find(a, b, c, d, hash);
+        if (slot >= 0 && valueAt(slot) != null) {
+            return valueAt(slot);
+        }
+
+        V value = mappingFunction.apply(a, b, c, d);
+        if (value != null) {
+            put(a, b, c, d, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * @param a the key's {@link Tuple4#a()}
+     * @param b the key's {@link Tuple4#b()}
+     * @param c the key's {@link Tuple4#c()}
+     * @param d the key's {@link Tuple4#d()}
+     * @return the value that was associated with the key, or {@code null} if there wasn't one
+     * @apiNote This isn't called {@code remove} because it would clash with {@link java.util.Map#remove(Object, Object)}.
+     */
+    @Contract(mutates = "this")
+    public @Nullable V removeKey(A a, B b, C c, D d) {
+        var slot = slotOf(a, b, c, d);
+        return slot < 0 ? null : removeAt(slot);
+    }
+
+    //region Map<Tuple4<A, B, C, D>, V>
+
+    @Override
+    public @Nullable V get(@Nullable Object key) {
+        if (key instanceof Tuple4<?, ?, ?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b(), tuple.c(), tuple.d());
+            return slot < 0 ? null : valueAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return key instanceof Tuple4<?, ?, ?, ?> tuple && slotOf(tuple.a(), tuple.b(), tuple.c(), tuple.d()) >= 0;
+    }
+
+    @Override
+    public @Nullable V put(@NotNull Tuple4<A, B, C, D> key, V value) {
+        return put(key.a(), key.b(), key.c(), key.d(), value);
+    }
+
+    @Override
+    public @Nullable V remove(@Nullable Object key) {
+        if (key instanceof Tuple4<?, ?, ?, ?> tuple) {
+            var slot = slotOf(tuple.a(), tuple.b(), tuple.c(), tuple.d());
+            return slot < 0 ? null : removeAt(slot);
+        }
+
+        return null;
+    }
+
+    @Override
+    @NotNull Tuple4<A, B, C, D> keyAt(int slot) {
+        return new Tuple4<>(Unchecked.cast(keys[0][slot]), Unchecked.cast(keys[1][slot]), Unchecked.cast(keys[2][slot]), Unchecked.cast(keys[3][slot]));
+    }
+
+    //endregion
+}
@@ -0,0 +1,352 @@
+package brava.core.tuples;
+
+import brava.core.collections.ListBase;
+import com.google.common.collect.Iterables;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * An array-backed {@link Tuple} with any number of elements.
+ * <p>
+ * The fixed-arity {@link Tuple}s stop at {@link Tuple6}, and each of them {@code switch}es on the index in {@link #get(int)},
+ * so code that works with lots of different arities ends up making megamorphic calls.
+ * A {@link TupleN} is a single class with a plain array lookup, which is better suited to wide rows <i>(e.g. 10-50 columns)</i>.
+ *
+ * <h1>Structural sharing</h1>
+ * {@link TupleN}s are immutable views over a range of a shared buffer:
+ * <ul>
+ *     <li>{@link #slice(int, int)} creates a new view over the same buffer, so it's {@code O(1)}.</li>
+ *     <li>{@link #append(Object)} and {@link #concat(Collection)} write into the buffer's spare capacity when they can,
+ *     <i>(i.e., when nobody has appended to the same buffer after this view)</i>, so building a {@link TupleN} one element at a time is amortized {@code O(1)} per element.
+ *     Otherwise, they copy the elements into a new, bigger buffer.</li>
+ * </ul>
+ *
+ * <h1>Converting to and from the fixed-arity {@link Tuple}s</h1>
+ * <ul>
+ *     <li>{@link #copyOf(Collection)} accepts any {@link Tuple}, {@link TupleT} or other {@link Collection}.</li>
+ *     <li>{@link #toFixedArity()} returns the equivalent {@link Tuple0} ... {@link Tuple6}.</li>
+ * </ul>
+ *
+ * @apiNote Unlike the fixed-arity {@link Tuple} records, a {@link TupleN} is a {@link List}, so it follows the {@link List#equals(Object)} contract.
+ */
+public final class TupleN implements Tuple<TupleN>, ListBase<Object>, RandomAccess {
+    private static final TupleN EMPTY        = new TupleN(new Buffer(new Object[0], 0), 0, 0);
+    private static final int    MIN_CAPACITY = 4;
+
+    private final Buffer buffer;
+    private final int    offset;
+    private final int    size;
+
+    /**
+     * The array shared by a family of {@link TupleN}s.
+     * <p>
+     * Only the slots below {@link #used} have been written; a {@link TupleN} that ends exactly at {@link #used} can claim more slots by bumping it.
+     */
+    private static final class Buffer {
+        private final Object[]      elements;
+        private final AtomicInteger used;
+
+        private Buffer(@NotNull Object[] elements, int used) {
+            this.elements = elements;
+            this.used     = new AtomicInteger(used);
+        }
+    }
+
+    private TupleN(@NotNull Buffer buffer, int offset, int size) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size   = size;
+    }
+
+    //region Factories
+
+    /**
+     * @return an empty {@link TupleN}
+     */
+    @Contract(pure = true)
+    public static @NotNull TupleN empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param elements the elements
+     * @return a new {@link TupleN} containing a copy of {@code elements}
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public static @NotNull TupleN of(@Nullable Object @NotNull ... elements) {
+        return wrap(elements.clone());
+    }
+
+    /**
+     * @param elements a {@link Tuple}, {@link TupleT} or any other {@link Collection}
+     * @return a {@link TupleN} containing the same elements, in the same order
+     * @apiNote If {@code elements} is already a {@link TupleN}, it is returned as-is.
+     */
+    @Contract(pure = true)
+    public static @NotNull TupleN copyOf(@NotNull Collection<?> elements) {
+        if (elements instanceof TupleN tuple) {
+            return tuple;
+        }
+
+        return wrap(elements.toArray());
+    }
+
+    private static @NotNull TupleN wrap(@NotNull Object[] elements) {
+        if (elements.length == 0) {
+            return EMPTY;
+        }
+
+        return new TupleN(new Buffer(elements, elements.length), 0, elements.length);
+    }
+
+    //endregion
+
+    @Contract(pure = true)
+    @Override
+    public Object get(int index) {
+        Objects.checkIndex(index, size);
+        return buffer.elements[offset + index];
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull TupleN getSelf() {
+        return this;
+    }
+
+    //region Structural sharing
+
+    /**
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     * @return a {@link TupleN} view of that range, which shares my buffer
+     */
+    @Contract(pure = true)
+    public @NotNull TupleN slice(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+
+        if (fromIndex == toIndex) {
+            return EMPTY;
+        }
+
+        return new TupleN(buffer, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * @see #slice(int, int)
+     */
+    @Contract(pure = true)
+    @Override
+    public @NotNull TupleN subList(int fromIndex, int toIndex) {
+        return slice(fromIndex, toIndex);
+    }
+
+    /**
+     * @param element the new last element
+     * @return a new {@link TupleN} with {@code element} added to the end
+     */
+    @Contract(pure = true, value = "_ -> new")
+    public @NotNull TupleN append(@Nullable Object element) {
+        var end = offset + size;
+        if (tryClaim(end, 1)) {
+            buffer.elements[end] = element;
+            return new TupleN(buffer, offset, size + 1);
+        }
+
+        var elements = copyWithCapacity(size + 1);
+        elements[size] = element;
+        return new TupleN(new Buffer(elements, size + 1), 0, size + 1);
+    }
+
+    /**
+     * @param others the elements to add
+     * @return a {@link TupleN} containing my elements followed by {@code others}
+     */
+    @Contract(pure = true)
+    public @NotNull TupleN concat(@NotNull Collection<?> others) {
+        if (others.isEmpty()) {
+            return this;
+        }
+
+        if (size == 0) {
+            return copyOf(others);
+        }
+
+        var extra   = others instanceof TupleN ? null : others.toArray();
+        var count   = extra == null ? others.size() : extra.length;
+        var newSize = Math.addExact(size, count);
+        var end     = offset + size;
+
+        if (tryClaim(end, count)) {
+            copyInto(others, extra, buffer.elements, end);
+            return new TupleN(buffer, offset, newSize);
+        }
+
+        var elements = copyWithCapacity(newSize);
+        copyInto(others, extra, elements, size);
+        return new TupleN(new Buffer(elements, newSize), 0, newSize);
+    }
+
+    private static void copyInto(@NotNull Collection<?> others, @Nullable Object[] extra, @NotNull Object[] destination, int destinationIndex) {
+        if (extra != null) {
+            System.arraycopy(extra, 0, destination, destinationIndex, extra.length);
+        } else {
+            var tuple = (TupleN) others;
+            System.arraycopy(tuple.buffer.elements, tuple.offset, destination, destinationIndex, tuple.size);
+        }
+    }
+
+    /**
+     * Tries to reserve the buffer slots {@code [end, end + count)} for this view.
+     *
+     * @return {@code true} if the slots were reserved, meaning that nobody else will ever write to them
+     */
+    private boolean tryClaim(int end, int count) {
+        return end + count <= buffer.elements.length
+               && buffer.used.get() == end
+               && buffer.used.compareAndSet(end, end + count);
+    }
+
+    private @NotNull Object[] copyWithCapacity(int minCapacity) {
+        var capacity = Math.max(MIN_CAPACITY, Math.max(minCapacity, size + (size >> 1)));
+        var elements = new Object[capacity];
+        System.arraycopy(buffer.elements, offset, elements, 0, size);
+        return elements;
+    }
+
+    //endregion
+
+    //region Conversions
+
+    /**
+     * @return the equivalent {@link Tuple0} ... {@link Tuple6}
+     * @throws IllegalStateException if I have more than 6 elements
+     */
+    @Contract(pure = true)
+    public @NotNull Tuple<?> toFixedArity() {
+        var e = buffer.elements;
+        var o = offset;
+        return switch (size) {
+            case 0 -> Tuple.of();
+            case 1 -> Tuple.of(e[o]);
+            case 2 -> Tuple.of(e[o], e[o + 1]);
+            case 3 -> Tuple.of(e[o], e[o + 1], e[o + 2]);
+            case 4 -> Tuple.of(e[o], e[o + 1], e[o + 2], e[o + 3]);
+            case 5 -> Tuple.of(e[o], e[o + 1], e[o + 2], e[o + 3], e[o + 4]);
+            case 6 -> Tuple.of(e[o], e[o + 1], e[o + 2], e[o + 3], e[o + 4], e[o + 5]);
+            default -> throw new IllegalStateException("There's no fixed-arity Tuple with %s elements!".formatted(size));
+        };
+    }
+
+    @Contract(pure = true, value = "-> new")
+    @Override
+    public @NotNull Object[] toArray() {
+        return Arrays.copyOfRange(buffer.elements, offset, offset + size);
+    }
+
+    @Override
+    public <T1> @NotNull T1[] toArray(@NotNull T1[] a) {
+        return ListBase.super.toArray(a);
+    }
+
+    //endregion
+
+    @Override
+    public @NotNull Iterator<Object> iterator() {
+        return listIterator();
+    }
+
+    @Override
+    public @NotNull Spliterator<Object> spliterator() {
+        return Spliterators.spliterator(buffer.elements, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void forEach(@NotNull Consumer<? super Object> action) {
+        var elements = buffer.elements;
+        for (int i = offset; i < offset + size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public int indexOf(@Nullable Object o) {
+        var elements = buffer.elements;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[offset + i], o)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @implSpec Follows the {@link List#equals(Object)} contract.
+     */
+    @Contract(pure = true, value = "null -> false")
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+
+        if (obj instanceof TupleN other) {
+            return size == other.size && Arrays.equals(buffer.elements, offset, offset + size, other.buffer.elements, other.offset, other.offset + other.size);
+        }
+
+        return obj instanceof List<?> other && size == other.size() && Iterables.elementsEqual(this, other);
+    }
+
+    /**
+     * @implSpec Follows the {@link List#hashCode()} contract.
+     */
+    @Contract(pure = true)
+    @Override
+    public int hashCode() {
+        var elements = buffer.elements;
+        int hash     = 1;
+        for (int i = offset; i < offset + size; i++) {
+            hash = 31 * hash + Objects.hashCode(elements[i]);
+        }
+
+        return hash;
+    }
+
+    @Contract(pure = true)
+    @Override
+    public @NotNull String toString() {
+        return "TupleN" + Iterables.toString(this);
+    }
+}
@@ -0,0 +1,117 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CircuitBreakerTests {
+    private static Unchecked.Supplier<String> flaky(AtomicBoolean failing, AtomicInteger calls) {
+        return () -> {
+            calls.incrementAndGet();
+            if (failing.get()) {
+                throw new IOException();
+            }
+
+            return "yolo";
+        };
+    }
+
+    @Test
+    void givenConsecutiveFailures_whenThresholdReached_thenCallsAreRejected() {
+        var breaker  = CircuitBreaker.of(3, Duration.ofHours(1));
+        var calls    = new AtomicInteger();
+        var supplier = Unchecked.circuitBreaking(flaky(new AtomicBoolean(true), calls), breaker);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(supplier.tryGet().getB())
+                .isInstanceOf(IOException.class);
+        }
+
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.OPEN);
+
+        Assertions.assertThat(supplier.tryGet().getB())
+            .isInstanceOf(CircuitBreaker.OpenException.class);
+
+        Assertions.assertThat(calls)
+            .as("the supplier shouldn't be invoked while the breaker is open")
+            .hasValue(3);
+
+        Assertions.assertThat(breaker.rejections())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givenSuccess_whenBetweenFailures_thenFailuresAreForgotten() {
+        var breaker  = CircuitBreaker.of(2, Duration.ofHours(1));
+        var failing  = new AtomicBoolean(true);
+        var supplier = Unchecked.circuitBreaking(flaky(failing, new AtomicInteger()), breaker);
+
+        supplier.tryGet();
+        failing.set(false);
+        supplier.tryGet();
+        failing.set(true);
+        supplier.tryGet();
+
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenOpenBreaker_whenOpenDurationPasses_thenTrialCallClosesIt() {
+        var breaker  = CircuitBreaker.of(1, Duration.ZERO);
+        var failing  = new AtomicBoolean(true);
+        var supplier = Unchecked.circuitBreaking(flaky(failing, new AtomicInteger()), breaker);
+
+        supplier.tryGet();
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.OPEN);
+
+        failing.set(false);
+        Assertions.assertThat(supplier.tryGet())
+            .isEqualTo(Either.ofA("yolo"));
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void givenOpenBreaker_whenTrialCallFails_thenItReopens() {
+        var breaker  = CircuitBreaker.of(1, Duration.ZERO);
+        var supplier = Unchecked.circuitBreaking(flaky(new AtomicBoolean(true), new AtomicInteger()), breaker);
+
+        supplier.tryGet();
+        supplier.tryGet();
+
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void givenCallFromBeforeItOpened_whenItFinishesDuringTrial_thenOnlyTheTrialDecides() {
+        var breaker = CircuitBreaker.of(1, Duration.ZERO);
+        var late    = breaker.acquire();
+        breaker.onFailure(breaker.acquire());
+
+        var trial = breaker.acquire();
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess(late);
+        Assertions.assertThat(breaker.state())
+            .as("a late success shouldn't close the breaker")
+            .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onFailure(late);
+        Assertions.assertThat(breaker.state())
+            .as("a late failure shouldn't re-open the breaker")
+            .isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess(trial);
+        Assertions.assertThat(breaker.state())
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
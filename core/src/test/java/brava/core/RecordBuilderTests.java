@@ -99,4 +99,29 @@ public class RecordBuilderTests {
         Assertions.assertThatThrownBy(builder::build)
               .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    void givenBuiltBuilder_whenSetAgain_thenPreviousValueIsReturnedAndNextBuildIsIndependent() {
+        var original = new Vinyl("yolo", "swag", 1999);
+        var builder  = RecordBuilder.from(original);
+        var first    = builder.build();
+
+        Assertions.assertThat(builder.set(Vinyl.YEAR, 2001))
+              .isEqualTo(1999);
+        Assertions.assertThat(builder.build())
+              .isEqualTo(new Vinyl("yolo", "swag", 2001));
+        Assertions.assertThat(first)
+              .isEqualTo(original);
+    }
+
+    @Test
+    void givenComponentSetToNull_whenHasComponentValue_thenTrue() {
+        var builder = RecordBuilder.ofType(Vinyl.class);
+        builder.set(Vinyl.TITLE, null);
+
+        Assertions.assertThat(builder.hasComponentValue(Vinyl.TITLE))
+              .isTrue();
+        Assertions.assertThat(builder.hasComponentValue(Vinyl.ARTIST))
+              .isFalse();
+    }
 }
@@ -0,0 +1,83 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.RecordComponent;
+import java.util.List;
+
+class RecordMetadataTests {
+    record Measurement(long amount, double scale) { }
+
+    record Checked(int value) {
+        Checked {
+            if (value < 0) {
+                throw new IllegalStateException("negative!");
+            }
+        }
+    }
+
+    @Test
+    void givenRecordType_whenOf_thenCached() {
+        Assertions.assertThat(RecordMetadata.of(Vinyl.class)).isSameAs(RecordMetadata.of(Vinyl.class));
+    }
+
+    @Test
+    void givenRecordType_whenOf_thenComponentsInCanonicalOrder() {
+        var metadata = RecordMetadata.of(Vinyl.class);
+
+        Assertions.assertThat(metadata.arity()).isEqualTo(3);
+        Assertions.assertThat(metadata.components().stream().map(RecordComponent::getName).toList())
+            .isEqualTo(List.of("artist", "title", "year"));
+        Assertions.assertThat(metadata.canonicalConstructor()).isEqualTo(Records.getCanonicalConstructor(Vinyl.class));
+    }
+
+    @Test
+    void givenComponentFromAnotherLookup_whenIndexOf_thenFound() {
+        var metadata = RecordMetadata.of(Vinyl.class);
+
+        Assertions.assertThat(metadata.indexOf(Vinyl.TITLE)).isEqualTo(1);
+        Assertions.assertThat(metadata.indexOf(Vinyl.class.getRecordComponents()[2])).isEqualTo(2);
+        Assertions.assertThat(metadata.indexOf(Measurement.class.getRecordComponents()[0])).isEqualTo(-1);
+    }
+
+    @Test
+    void givenRecord_whenValues_thenSameAsAccessors() {
+        var vinyl    = new Vinyl("Weird Al", "Fat", 1988);
+        var metadata = RecordMetadata.of(Vinyl.class);
+
+        Assertions.assertThat(metadata.values(vinyl)).containsExactly("Weird Al", "Fat", 1988);
+        Assertions.assertThat(metadata.get(vinyl, 2)).isEqualTo(1988);
+        Assertions.assertThat(metadata.construct(metadata.values(vinyl))).isEqualTo(vinyl);
+    }
+
+    @Test
+    void givenNarrowerPrimitives_whenConstruct_thenWidened() {
+        var measurement = RecordMetadata.of(Measurement.class).construct(1, 2L);
+
+        Assertions.assertThat(measurement).isEqualTo(new Measurement(1, 2));
+    }
+
+    @Test
+    void givenBadArguments_whenConstruct_thenThrows() {
+        var metadata = RecordMetadata.of(Vinyl.class);
+
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> metadata.construct("Weird Al", "Fat"));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> metadata.construct("Weird Al", "Fat", null));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> metadata.construct("Weird Al", "Fat", 1988L));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> metadata.construct(99, "Fat", 1988));
+    }
+
+    @Test
+    void givenThrowingConstructor_whenConstruct_thenExceptionIsNotWrapped() {
+        Assertions.assertThatIllegalStateException()
+            .isThrownBy(() -> RecordMetadata.of(Checked.class).construct(-1));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    void givenNonRecord_whenOf_thenThrows() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> RecordMetadata.of((Class) Record.class));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> RecordMetadata.of((Class) List.class));
+    }
+}
@@ -0,0 +1,132 @@
+package brava.core;
+
+import com.google.common.base.Equivalence;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+class RecordPatchTests {
+    record Label(String name, String country) implements Serializable { }
+
+    record Release(String title, Label label, double price) implements Serializable { }
+
+    private static final Release FAT = new Release("Fat", new Label("Rock 'n Roll", "US"), 9.99);
+
+    @Test
+    void givenChangedComponents_whenDiff_thenOnlyThoseAreInPatch() {
+        var after = new Release("Eat It", FAT.label(), 4.99);
+
+        var patch = Records.diff(FAT, after);
+
+        Assertions.assertThat(patch.changedComponents().stream().map(it -> it.getName()).toList())
+            .isEqualTo(List.of("title", "price"));
+        Assertions.assertThat(Records.patch(FAT, patch)).isEqualTo(after);
+    }
+
+    @Test
+    void givenEqualRecords_whenDiff_thenPatchIsEmpty() {
+        var copy = new Release("Fat", new Label("Rock 'n Roll", "US"), 9.99);
+
+        var patch = Records.diff(FAT, copy);
+
+        Assertions.assertThat(patch.isEmpty()).isTrue();
+        Assertions.assertThat(patch).isEqualTo(RecordPatch.empty(Release.class));
+        Assertions.assertThat(Records.patch(FAT, patch)).isSameAs(FAT);
+    }
+
+    @Test
+    void givenNestedRecordChange_whenDiff_thenPatchIsNested() {
+        var after = new Release("Fat", new Label("Rock 'n Roll", "UK"), 9.99);
+
+        var patch = Records.diff(FAT, after);
+
+        Assertions.assertThat(patch.toString()).isEqualTo("RecordPatch<Release>[label=RecordPatch<Label>[country=UK]]");
+        Assertions.assertThat(Records.patch(FAT, patch)).isEqualTo(after);
+    }
+
+    @Test
+    void givenNestedPatch_whenAppliedToNullComponent_thenThrows() {
+        var patch    = Records.diff(FAT, new Release("Fat", new Label("Rock 'n Roll", "UK"), 9.99));
+        var unsigned = new Release("Fat", null, 9.99);
+
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Records.patch(unsigned, patch));
+    }
+
+    @Test
+    void givenEquivalence_whenDiff_thenEquivalentValuesAreUnchanged() {
+        var differ = RecordDiffer.defaults()
+            .withEquivalence(double.class, Equivalence.equals().onResultOf((Double price) -> Math.round(price)))
+            .withEquivalence(Label.class, Equivalence.equals().onResultOf(Label::name));
+        var after = new Release("Fat", new Label("Rock 'n Roll", "UK"), 10.01);
+
+        Assertions.assertThat(differ.diff(FAT, after).isEmpty()).isTrue();
+        Assertions.assertThat(differ.diff(FAT, new Release("Fat", new Label("Scotti Bros.", "US"), 9.99)).toString())
+            .isEqualTo("RecordPatch<Release>[label=Label[name=Scotti Bros., country=US]]");
+    }
+
+    @Test
+    void givenStreamOfPatches_whenSquashed_thenSameAsApplyingEachInTurn() {
+        var history = List.of(
+            FAT,
+            new Release("Fat", new Label("Rock 'n Roll", "UK"), 9.99),
+            new Release("Fat", null, 9.99),
+            new Release("Fat", new Label("Scotti Bros.", "US"), 9.99),
+            new Release("Even Worse", new Label("Scotti Bros.", "CA"), 9.99),
+            new Release("Even Worse", new Label("Scotti Bros.", "CA"), 12.99)
+        );
+        var patches = new ArrayList<RecordPatch<Release>>();
+        for (int i = 1; i < history.size(); i++) {
+            patches.add(Records.diff(history.get(i - 1), history.get(i)));
+        }
+
+        for (int from = 0; from < history.size(); from++) {
+            for (int to = from; to < history.size(); to++) {
+                var squashed = RecordPatch.squash(Release.class, patches.subList(from, to));
+                Assertions.assertThat(squashed.applyTo(history.get(from)))
+                    .as("%s..%s", from, to)
+                    .isEqualTo(history.get(to));
+            }
+        }
+
+        Assertions.assertThat(patches.stream().reduce(RecordPatch.empty(Release.class), RecordPatch::andThen))
+            .isEqualTo(RecordPatch.squash(Release.class, patches));
+    }
+
+    @Test
+    void givenNestedPatchesOnBothSides_whenChained_thenNestedPatchesAreMerged() {
+        var first  = Records.diff(FAT, new Release("Fat", new Label("Rock 'n Roll", "UK"), 9.99));
+        var second = Records.diff(FAT, new Release("Fat", new Label("Scotti Bros.", "US"), 9.99));
+
+        Assertions.assertThat(first.andThen(second).toString())
+            .isEqualTo("RecordPatch<Release>[label=RecordPatch<Label>[name=Scotti Bros., country=UK]]");
+    }
+
+    @Test
+    void givenPatch_whenSerialized_thenRoundTrips() throws IOException, ClassNotFoundException {
+        var patch = Records.diff(FAT, new Release("Eat It", new Label("Rock 'n Roll", "UK"), 9.99));
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(patch);
+        }
+
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assertions.assertThat(in.readObject()).isEqualTo(patch);
+        }
+    }
+
+    @Test
+    void givenDifferentRecordTypes_whenDiff_thenThrows() {
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> RecordDiffer.defaults().diff((Record) FAT, (Record) FAT.label()));
+    }
+}
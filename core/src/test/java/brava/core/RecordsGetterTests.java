@@ -120,4 +120,25 @@ class RecordsGetterTests {
         Assertions.assertThat(comp.isSameComponentAs(expectedComponent))
               .isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenSameMethodReference_whenCompCreatedRepeatedly_thenSameComponentEveryTime() {
+        var components = Stream.generate(() -> Records.getComponent(Vinyl::title))
+              .limit(3)
+              .map(Records.Comp::getRecordComponent)
+              .toList();
+
+        Assertions.assertThat(components)
+              .allSatisfy(it -> Assertions.assertThat(Records.areSameComponent(it, Vinyl.TITLE)).isTrue());
+        Assertions.assertThat(components.get(1))
+              .isSameAs(components.get(0));
+    }
+
+    @Test
+    void givenLambdaExpression_whenCompCreatedRepeatedly_thenExceptionIsThrownEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThatIllegalArgumentException()
+                  .isThrownBy(() -> Records.getComponent((Vinyl it) -> it.title()));
+        }
+    }
+}
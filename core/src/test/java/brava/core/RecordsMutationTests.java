@@ -0,0 +1,132 @@
+package brava.core;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class RecordsMutationTests {
+    private static final Vinyl FAT = new Vinyl("\"Weird Al\" Yankovic", "Fat", 1988);
+
+    //region with & wither
+
+    @Test
+    void givenGetter_whenWith_thenOnlyThatComponentChanges() {
+        Assertions.assertThat(Records.with(FAT, Vinyl::title, "Eat It"))
+            .isEqualTo(new Vinyl("\"Weird Al\" Yankovic", "Eat It", 1988));
+        Assertions.assertThat(Records.with(FAT, Vinyl::artist, null))
+            .isEqualTo(new Vinyl(null, "Fat", 1988));
+    }
+
+    @Test
+    void givenNullForPrimitive_whenWith_thenThrows() {
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Records.with(FAT, Vinyl::year, null));
+    }
+
+    @Test
+    void givenWither_whenAppliedRepeatedly_thenSameAsWith() {
+        var withYear = Records.wither(Vinyl::year);
+
+        for (int year = 1980; year < 1990; year++) {
+            Assertions.assertThat(withYear.apply(FAT, year))
+                .isEqualTo(Records.with(FAT, Vinyl::year, year));
+        }
+
+        Assertions.assertThat(FAT.year()).isEqualTo(1988);
+    }
+
+    @Test
+    void givenWitherForReferenceComponent_whenApplied_thenOtherComponentsAreCopied() {
+        var withArtist = Records.wither(Vinyl::artist);
+
+        Assertions.assertThat(withArtist.apply(FAT, null))
+            .isEqualTo(new Vinyl(null, "Fat", 1988));
+        Assertions.assertThat(withArtist.toString()).isEqualTo("Wither[Vinyl.artist]");
+    }
+
+    @Test
+    void givenNullForPrimitive_whenWitherApplied_thenThrows() {
+        var withYear = Records.wither(Vinyl::year);
+
+        Assertions.assertThatNullPointerException()
+            .isThrownBy(() -> withYear.apply(FAT, null));
+    }
+
+    @Test
+    void givenLambdaExpression_whenWither_thenThrows() {
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Records.wither((Vinyl it) -> it.title()));
+    }
+
+    //endregion
+
+    //region transformAll
+
+    private static List<Vinyl> discography() {
+        return IntStream.range(0, 100)
+            .mapToObj(i -> new Vinyl("\"Weird Al\" Yankovic", "Album #" + i, 1983 + i))
+            .toList();
+    }
+
+    @Test
+    void givenTransform_whenTransformAll_thenSameAsWithOnEach() {
+        var records   = discography();
+        var transform = RecordTransform.of(Vinyl.class)
+            .set(Vinyl::artist, "Al")
+            .update(Vinyl::year, year -> year + 1);
+
+        var expected = records.stream()
+            .map(it -> new Vinyl("Al", it.title(), it.year() + 1))
+            .toList();
+        Assertions.assertThat(Records.transformAll(records, transform)).isEqualTo(expected);
+        Assertions.assertThat(Records.parallelTransformAll(records, transform)).isEqualTo(expected);
+        Assertions.assertThat(Records.transformAll(new LinkedList<>(records), transform)).isEqualTo(expected);
+        Assertions.assertThat(Records.parallelTransformAll(new LinkedList<>(records), transform)).isEqualTo(expected);
+    }
+
+    @Test
+    void givenSeveralChangesToSameComponent_whenCompiled_thenAppliedInOrder() {
+        var transform = RecordTransform.of(Vinyl.class)
+            .update(Vinyl::year, year -> year * 10)
+            .update(Vinyl::year, year -> year + 1)
+            .set(Vinyl::title, "Dare to Be Stupid")
+            .update(Vinyl::title, String::toUpperCase);
+
+        Assertions.assertThat(transform.compile().apply(FAT))
+            .isEqualTo(new Vinyl("\"Weird Al\" Yankovic", "DARE TO BE STUPID", 19881));
+    }
+
+    @Test
+    void givenCompiledTransform_whenTransformChangedAfterwards_thenCompiledIsUnaffected() {
+        var transform = RecordTransform.of(Vinyl.class).set(Vinyl::title, "Eat It");
+        var compiled  = transform.compile();
+
+        transform.set(Vinyl::title, "Like a Surgeon");
+
+        Assertions.assertThat(compiled.apply(FAT).title()).isEqualTo("Eat It");
+        Assertions.assertThat(transform.compile().apply(FAT).title()).isEqualTo("Like a Surgeon");
+    }
+
+    @Test
+    void givenEmptyTransform_whenTransformAll_thenCopies() {
+        var records = discography();
+
+        var transformed = Records.transformAll(records, RecordTransform.of(Vinyl.class));
+
+        Assertions.assertThat(transformed).isEqualTo(records);
+        Assertions.assertThat(transformed.get(0)).isNotSameAs(records.get(0));
+    }
+
+    @Test
+    void givenNullForPrimitive_whenSet_thenThrows() {
+        var transform = RecordTransform.of(Vinyl.class);
+
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> transform.set(Vinyl::year, null));
+    }
+
+    //endregion
+}
@@ -1,10 +1,14 @@
 package brava.core;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 class UncheckedTests {
@@ -40,4 +44,115 @@ class UncheckedTests {
         Assertions.assertThatCode(() -> function.apply("yolo"))
             .isSameAs(exception);
     }
+
+    //region Supplier decorators
+
+    @Test
+    void givenRetryingSupplier_whenEventuallySucceeds_thenResultIsReturned() {
+        var attempts = new AtomicInteger();
+        var supplier = Unchecked.retrying(
+            () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IOException();
+                }
+
+                return "yolo";
+            },
+            RetryPolicy.attempts(3)
+        );
+
+        Assertions.assertThat(supplier.tryGet())
+            .isEqualTo(Either.ofA("yolo"));
+        Assertions.assertThat(attempts)
+            .hasValue(3);
+    }
+
+    @Test
+    void givenRetryingSupplier_whenAttemptsRunOut_thenLastExceptionIsThrown() {
+        var attempts = new AtomicInteger();
+        var supplier = Unchecked.retrying(
+            () -> {
+                throw new IOException("attempt " + attempts.incrementAndGet());
+            },
+            RetryPolicy.attempts(4)
+        );
+
+        Assertions.assertThatThrownBy(supplier::get)
+            .isInstanceOf(IOException.class)
+            .hasMessage("attempt 4");
+    }
+
+    @Test
+    void givenRetryingSupplier_whenExceptionIsNotRetryable_thenItIsThrownImmediately() {
+        var attempts = new AtomicInteger();
+        var supplier = Unchecked.retrying(
+            () -> {
+                attempts.incrementAndGet();
+                throw new ArithmeticException();
+            },
+            RetryPolicy.attempts(5).retryingOn(IOException.class)
+        );
+
+        Assertions.assertThatThrownBy(supplier::get)
+            .isInstanceOf(ArithmeticException.class);
+        Assertions.assertThat(attempts)
+            .hasValue(1);
+    }
+
+    @Test
+    void givenTimedSupplier_whenTooSlow_thenTimeoutExceptionIsThrown() {
+        var supplier = Unchecked.timed(
+            () -> {
+                Thread.sleep(Duration.ofSeconds(10).toMillis());
+                return "too slow";
+            },
+            Duration.ofMillis(50)
+        );
+
+        Assertions.assertThat(supplier.tryGet().getB())
+            .isInstanceOf(TimeoutException.class);
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptions")
+    void givenTimedSupplier_whenGetThrows_exceptionIsUnmodified(Throwable exception) {
+        var supplier = Unchecked.timed(
+            () -> {
+                throw exception;
+            },
+            Duration.ofSeconds(10)
+        );
+
+        Assertions.assertThatCode(supplier::get)
+            .isSameAs(exception);
+    }
+
+    @Test
+    void givenMeteredSupplier_whenCalled_thenStatsAreRecorded() {
+        var stats    = new CallStats();
+        var counter  = new AtomicInteger();
+        var supplier = Unchecked.metered(
+            () -> {
+                if (counter.incrementAndGet() % 2 == 0) {
+                    throw new IOException();
+                }
+
+                return counter.get();
+            },
+            stats
+        );
+
+        for (int i = 0; i < 5; i++) {
+            supplier.tryGet();
+        }
+
+        Assertions.assertThat(stats)
+            .satisfies(
+                it -> Assertions.assertThat(it.successes()).as("successes").isEqualTo(3),
+                it -> Assertions.assertThat(it.failures()).as("failures").isEqualTo(2),
+                it -> Assertions.assertThat(it.maxLatency()).as("maxLatency").isLessThanOrEqualTo(it.totalLatency())
+            );
+    }
+
+    //endregion
 }
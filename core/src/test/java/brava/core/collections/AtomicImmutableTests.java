@@ -0,0 +1,140 @@
+package brava.core.collections;
+
+import brava.core.Unchecked;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+class AtomicImmutableTests {
+    private static void runConcurrently(int threads, Callable<?> task) throws InterruptedException, ExecutionException {
+        var pool    = Executors.newFixedThreadPool(threads);
+        var futures = new ArrayList<Future<?>>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(task));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void givenConcurrentPuts_whenFinished_thenNoneAreLost() throws Exception {
+        var map  = AtomicImmutable.<Integer, Integer>ofMap(Map.of());
+        var next = new AtomicInteger();
+
+        runConcurrently(16, () -> {
+            for (int i = 0; i < 200; i++) {
+                var key = next.getAndIncrement();
+                map.put(key, -key);
+            }
+            return null;
+        });
+
+        Assertions.assertThat(map.get())
+            .hasSize(16 * 200)
+            .containsEntry(1234, -1234);
+    }
+
+    @Test
+    void givenConcurrentAddsAndUpdates_whenFinished_thenNoneAreLost() throws Exception {
+        var list = AtomicImmutable.<Integer>ofList(List.of());
+        var next = new AtomicInteger();
+
+        runConcurrently(8, () -> {
+            for (int i = 0; i < 200; i++) {
+                if (i % 10 == 0) {
+                    list.update(it -> Immutably.add(it, -1));
+                } else {
+                    list.add(next.getAndIncrement());
+                }
+            }
+            return null;
+        });
+
+        Assertions.assertThat(list.get())
+            .hasSize(8 * 200)
+            .containsAll(IntStream.range(0, next.get()).boxed().toList());
+    }
+
+    @Test
+    void givenFailingUpdate_whenUpdated_thenRethrownAndValueUnchanged() {
+        var holder = AtomicImmutable.of("a");
+
+        Assertions.assertThatThrownBy(() -> holder.update(it -> {
+                throw new IllegalStateException("🧨");
+            }))
+            .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(holder.get()).isEqualTo("a");
+    }
+
+    /**
+     * Makes the first two attempts at {@code operation} lose their compare-and-set <i>(by sneaking in an equal, but not identical, value)</i>,
+     * so that it always ends up queued.
+     */
+    private static UnaryOperator<String> queued(AtomicImmutable<String> holder, CountDownLatch gaveUp, UnaryOperator<String> operation) {
+        var attempts = new AtomicInteger();
+        return current -> {
+            if (attempts.incrementAndGet() > 2) {
+                return operation.apply(current);
+            }
+
+            holder.update(String::new);
+            if (attempts.get() == 2) {
+                gaveUp.countDown();
+            }
+            return current;
+        };
+    }
+
+    @Test
+    void givenFailingUpdateCombinedWithOthers_whenDrained_thenOnlyItsOwnThreadSeesTheFailure() throws Exception {
+        var holder    = AtomicImmutable.of("x");
+        var combining = new CountDownLatch(1);
+        var release   = new CountDownLatch(1);
+        var pool      = Executors.newFixedThreadPool(3);
+        try {
+            // Hold up the combiner, so that the next two updates are queued up into the same batch
+            var first = pool.submit(() -> holder.update(queued(holder, new CountDownLatch(1), current -> {
+                combining.countDown();
+                Unchecked.run(release::await);
+                return current;
+            })));
+            combining.await();
+
+            var failingQueued = new CountDownLatch(1);
+            var failing = pool.submit(() -> holder.update(queued(holder, failingQueued, current -> Unchecked.rethrow(new IOException("🧨")))));
+            failingQueued.await();
+
+            var appendingQueued = new CountDownLatch(1);
+            var appending = pool.submit(() -> holder.update(queued(holder, appendingQueued, current -> current + "y")));
+            appendingQueued.await();
+
+            Thread.sleep(100);
+            release.countDown();
+
+            Assertions.assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("x");
+            Assertions.assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+            Assertions.assertThat(appending.get(10, TimeUnit.SECONDS)).isEqualTo("xy");
+            Assertions.assertThat(holder.get()).isEqualTo("xy");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
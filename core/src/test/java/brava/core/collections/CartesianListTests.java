@@ -0,0 +1,198 @@
+package brava.core.collections;
+
+import brava.core.tuples.Tuple;
+import brava.core.tuples.Tuple2;
+import brava.core.tuples.Tuple4;
+import com.google.common.collect.Lists;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class CartesianListTests {
+    @Test
+    void givenDomains_whenIterated_thenLexicographicOrder() {
+        var product = Combinatorial.cartesianList(List.of('a', 'b'), new LinkedList<>(List.of(1, 2, 3)));
+
+        Assertions.assertThat(product)
+            .containsExactly(
+                Tuple.of('a', 1), Tuple.of('a', 2), Tuple.of('a', 3),
+                Tuple.of('b', 1), Tuple.of('b', 2), Tuple.of('b', 3)
+            );
+        Assertions.assertThat(product.get(4)).isEqualTo(Tuple.of('b', 2));
+    }
+
+    @Test
+    void givenNullsAndEmptyDomains_whenBuilt_thenHandled() {
+        var withNull = Combinatorial.cartesianList(Arrays.asList("x", null), List.of(1));
+        var empty    = Combinatorial.cartesianList(List.of(1, 2), List.of());
+
+        Assertions.assertThat(withNull).containsExactly(Tuple.of("x", 1), Tuple.of(null, 1));
+        Assertions.assertThat(empty).isEmpty();
+        Assertions.assertThat(empty.longSize()).isZero();
+    }
+
+    @Test
+    void givenHugeProduct_whenIndexedByLong_thenDecodesDigits() {
+        var domain  = IntStream.range(0, 1000).boxed().toList();
+        var product = Combinatorial.cartesianList(domain, domain, domain, domain);
+
+        Assertions.assertThat(product.longSize()).isEqualTo(1_000_000_000_000L);
+        Assertions.assertThat(product.size()).isEqualTo(Integer.MAX_VALUE);
+        Assertions.assertThat(product.get(123_456_789_012L)).isEqualTo(Tuple.of(123, 456, 789, 12));
+        Assertions.assertThatThrownBy(() -> product.get(1_000_000_000_000L))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenHugeProduct_whenRowIsBeyondListSize_thenIndexOfIsMissing() {
+        var domain  = IntStream.range(0, 1000).boxed().toList();
+        var product = Combinatorial.cartesianList(domain, domain, domain, domain);
+
+        Assertions.assertThat(product.indexOf(Tuple.of(2, 147, 483, 646))).isEqualTo(Integer.MAX_VALUE - 1);
+        Assertions.assertThat(product.indexOf(Tuple.of(2, 147, 483, 647))).isEqualTo(-1);
+        Assertions.assertThat(product.longIndexOf(Tuple.of(2, 147, 483, 647))).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void givenTooManyRows_whenBuilt_thenThrows() {
+        var domain = IntStream.range(0, 1 << 16).boxed().toList();
+
+        Assertions.assertThatThrownBy(() -> Combinatorial.cartesianList(domain, domain, domain, domain, domain))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenPartlyConsumedSpliterator_whenSplit_thenNothingIsLostOrRepeated() {
+        var domain   = IntStream.range(0, 10).boxed().toList();
+        var product  = Combinatorial.cartesianList(domain, domain);
+        var expected = new ArrayList<Tuple2<Integer, Integer>>(product);
+        var actual   = new ArrayList<Tuple2<Integer, Integer>>();
+
+        var spliterator = product.spliterator();
+        spliterator.tryAdvance(actual::add);
+        spliterator.tryAdvance(actual::add);
+        var prefix = spliterator.trySplit();
+        Assertions.assertThat(prefix).isNotNull();
+        prefix.forEachRemaining(actual::add);
+        spliterator.forEachRemaining(actual::add);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void givenParallelStream_whenCollected_thenSameAsSequential() {
+        var domain  = IntStream.range(0, 20).boxed().toList();
+        var product = Combinatorial.cartesianList(domain, domain, domain, domain);
+
+        List<Tuple4<Integer, Integer, Integer, Integer>> parallel = product.parallelStream().toList();
+
+        Assertions.assertThat(parallel).isEqualTo(product.stream().toList());
+    }
+
+    @Test
+    void givenRuntimeNumberOfDomains_whenProduct_thenMatchesGuava() {
+        List<List<Integer>> domains = List.of(List.of(1, 2), List.of(3, 4, 5), List.of(6), List.of(7, 8));
+
+        var product = Combinatorial.cartesianProduct(domains);
+
+        Assertions.assertThat(product)
+            .isEqualTo(Lists.cartesianProduct(domains))
+            .hasSameHashCodeAs(Lists.cartesianProduct(domains));
+        Assertions.assertThat(product.get(5)).containsExactly(1, 5, 6, 8);
+        Assertions.assertThat(product.arity()).isEqualTo(4);
+    }
+
+    @Test
+    void givenDuplicatesInDomain_whenRowsCompared_thenEqualByElements() {
+        var product = Combinatorial.cartesianProduct(List.of(List.of("x", "x"), List.of("y")));
+
+        Assertions.assertThat(product.get(0))
+            .isEqualTo(product.get(1))
+            .isEqualTo(List.of("x", "y"))
+            .hasSameHashCodeAs(product.get(1));
+        Assertions.assertThat(product.stream().distinct().count())
+            .isEqualTo(1);
+        Assertions.assertThat(product.get(product.longIndexOf(product.get(1))))
+            .isEqualTo(product.get(1));
+    }
+
+    @Test
+    void givenNoDomains_whenProduct_thenSingleEmptyRow() {
+        var product = Combinatorial.cartesianProduct(List.<List<String>>of());
+
+        Assertions.assertThat(product).isEqualTo(List.of(List.of()));
+    }
+
+    @Test
+    void givenCursor_whenWalked_thenVisitsEveryRowInOrder() {
+        List<List<Character>> domains = List.of(List.of('a', 'b'), List.of('x', 'y', 'z'));
+        var product = Combinatorial.cartesianProduct(domains);
+        var visited = new ArrayList<List<Object>>();
+        var indices = new ArrayList<Long>();
+
+        product.forEachCursor(cursor -> {
+            visited.add(cursor.snapshot());
+            indices.add(cursor.index());
+        });
+
+        Assertions.assertThat(visited).isEqualTo(product);
+        Assertions.assertThat(indices).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void givenHugeProduct_whenSampled_thenDifferentRowsInProductOrder() {
+        var domains = Collections.nCopies(6, IntStream.range(0, 1000).boxed().toList());
+        var product = Combinatorial.cartesianProduct(domains);
+
+        var sample = Combinatorial.sample(domains, 1000, new SplittableRandom(1));
+
+        Assertions.assertThat(sample).hasSize(1000).doesNotHaveDuplicates();
+        var indices = sample.stream().mapToLong(product::longIndexOf).toArray();
+        Assertions.assertThat(indices).isSorted().doesNotContain(-1L);
+    }
+
+    @Test
+    void givenWholeProduct_whenSampled_thenEveryRow() {
+        var domains = List.of(List.of('a', 'b', 'c'), Arrays.asList("x", null));
+
+        var sample = Combinatorial.sample(domains, 6, new SplittableRandom(1));
+
+        Assertions.assertThat(sample).isEqualTo(Combinatorial.cartesianProduct(domains));
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.sample(domains, 7, new SplittableRandom(1)));
+    }
+
+    @Test
+    void givenStratifiedSample_whenCounted_thenEachDomainIsBalanced() {
+        var sevens = IntStream.range(0, 7).boxed().toList();
+        var tens   = IntStream.range(0, 10).boxed().toList();
+
+        var sample = Combinatorial.stratifiedSample(List.of(sevens, tens), 23, new SplittableRandom(1));
+
+        Assertions.assertThat(sample).hasSize(23);
+        Assertions.assertThat(sample.stream().collect(Collectors.groupingBy(row -> row.get(0), Collectors.counting())))
+            .containsOnlyKeys(sevens)
+            .allSatisfy((digit, count) -> Assertions.assertThat(count).isBetween(3L, 4L));
+        Assertions.assertThat(sample.stream().collect(Collectors.groupingBy(row -> row.get(1), Collectors.counting())))
+            .containsOnlyKeys(tens)
+            .allSatisfy((digit, count) -> Assertions.assertThat(count).isBetween(2L, 3L));
+    }
+
+    @Test
+    void givenEmptyProduct_whenStratifiedSampleOfNothing_thenEmpty() {
+        var domains = List.of(List.of(1), List.<Integer>of());
+
+        Assertions.assertThat(Combinatorial.stratifiedSample(domains, 0, new SplittableRandom(1)))
+            .isEmpty();
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.stratifiedSample(domains, 1, new SplittableRandom(1)));
+    }
+}
@@ -1,14 +1,17 @@
 package brava.core.collections;
 
 import brava.core.Records;
+import brava.core.Vinyl;
 import brava.core.tuples.*;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.RecordComponent;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -378,4 +381,49 @@ class CombinatorialTests {
             .isEqualTo(expectedPairs.orderedPairs);
     }
     //endregion
+
+    //region Records
+    @Test
+    void givenComponentValues_whenRecords_thenEveryCombination() {
+        var values = new HashMap<RecordComponent, List<?>>();
+        values.put(Vinyl.YEAR, List.of(1988, 1980));
+        values.put(Vinyl.ARTIST, Arrays.asList("Weird Al", null));
+        values.put(Vinyl.TITLE, List.of("Fat"));
+
+        var vinyls = Combinatorial.records(Vinyl.class, values);
+
+        Assertions.assertThat(vinyls)
+            .containsExactly(
+                new Vinyl("Weird Al", "Fat", 1988),
+                new Vinyl("Weird Al", "Fat", 1980),
+                new Vinyl(null, "Fat", 1988),
+                new Vinyl(null, "Fat", 1980)
+            );
+        Assertions.assertThat(vinyls.get(3L)).isEqualTo(new Vinyl(null, "Fat", 1980));
+        Assertions.assertThat(vinyls.parallelStream().toList()).isEqualTo(vinyls);
+    }
+
+    @Test
+    void givenMissingComponent_whenRecords_thenThrows() {
+        var values = Map.<RecordComponent, List<?>>of(Vinyl.ARTIST, List.of("Devo"), Vinyl.TITLE, List.of("Fat"));
+
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.records(Vinyl.class, values));
+    }
+
+    @Test
+    void givenWrongTypeOfValue_whenRecords_thenThrowsUpFront() {
+        var values = new HashMap<RecordComponent, List<?>>();
+        values.put(Vinyl.ARTIST, List.of("Weird Al"));
+        values.put(Vinyl.TITLE, List.of("Fat"));
+        values.put(Vinyl.YEAR, List.of(1988, "1980"));
+
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.records(Vinyl.class, values));
+
+        values.put(Vinyl.YEAR, Arrays.asList(1988, null));
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.records(Vinyl.class, values));
+    }
+    //endregion
 }
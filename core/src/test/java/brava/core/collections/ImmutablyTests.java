@@ -0,0 +1,77 @@
+package brava.core.collections;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ImmutablyTests {
+    @Test
+    void givenList_whenEdited_thenAllEditsApplied() {
+        var original = List.of("a", "b", "c");
+
+        var edited = Immutably.edit(original, editor -> {
+            editor.add("d");
+            editor.insert("z", 0);
+            editor.set(1, "A");
+            editor.removeAt(2);
+        });
+
+        Assertions.assertThat(edited).containsExactly("z", "A", "c", "d");
+        Assertions.assertThat(original).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void givenPersistentVector_whenEdited_thenStaysPersistent() {
+        var original = PersistentVector.of(1, 2, 3);
+
+        PersistentVector<Integer> edited = Immutably.edit(original, editor -> {
+            for (int i = 0; i < 100; i++) {
+                editor.add(i);
+            }
+            editor.removeAt(0);
+        });
+
+        Assertions.assertThat(edited).hasSize(102).startsWith(2, 3, 0);
+        Assertions.assertThat(original).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void givenMap_whenEdited_thenAllEditsApplied() {
+        var original = Map.of("a", 1, "b", 2);
+
+        var edited = Immutably.edit(original, editor -> {
+            editor.put("c", 3);
+            editor.put("a", -1);
+            editor.remove("b");
+        });
+
+        Assertions.assertThat(edited).isEqualTo(Map.of("a", -1, "c", 3));
+        Assertions.assertThat(original).isEqualTo(Map.of("a", 1, "b", 2));
+    }
+
+    @Test
+    void givenPersistentMap_whenEdited_thenStaysPersistent() {
+        var original = PersistentMap.copyOf(Map.of("a", 1));
+
+        PersistentMap<String, Integer> edited = Immutably.edit(original, editor -> {
+            editor.put("b", 2);
+            editor.remove("a");
+        });
+
+        Assertions.assertThat(edited).isEqualTo(Map.of("b", 2));
+        Assertions.assertThatThrownBy(() -> Immutably.edit(original, editor -> editor.remove("nope")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenEditor_whenUsedAfterEdit_thenThrows() {
+        var leaked = new AtomicReference<Immutably.ListEditor<String>>();
+        Immutably.edit(List.of("a"), leaked::set);
+
+        Assertions.assertThatThrownBy(() -> leaked.get().add("b"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package brava.core.collections;
+
+import brava.core.tuples.Tuple;
+import brava.core.tuples.TupleT;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+class ListBaseTests {
+    private record Range(int size) implements ListBase<Integer> {
+        @Override
+        public Integer get(int index) {
+            return index;
+        }
+    }
+
+    @Test
+    void givenListBase_whenSpliterator_thenSizedImmutableAndSplitsEvenly() {
+        var spliterator = new Range(1000).spliterator();
+
+        Assertions.assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE))
+            .isTrue();
+
+        var prefix = spliterator.trySplit();
+
+        Assertions.assertThat(prefix)
+            .isNotNull();
+        Assertions.assertThat(prefix.estimateSize())
+            .isEqualTo(spliterator.estimateSize())
+            .isEqualTo(500);
+    }
+
+    @Test
+    void givenLargeListBase_whenParallelStream_thenEveryElementIsVisitedOnce() {
+        var range = new Range(100_000);
+
+        Assertions.assertThat(range.parallelStream().mapToLong(Integer::longValue).sum())
+            .isEqualTo(LongStream.range(0, 100_000).sum());
+    }
+
+    @Test
+    void givenListBase_whenContainsAndToArray_thenUseIndices() {
+        var range = new Range(5);
+
+        Assertions.assertThat(range.contains(4))
+            .isTrue();
+        Assertions.assertThat(range.contains(5))
+            .isFalse();
+        Assertions.assertThat(range.toArray())
+            .containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void givenTuples_whenSpliterator_thenSized() {
+        Assertions.assertThat(Tuple.of(1, 2, 3).spliterator().getExactSizeIfKnown())
+            .isEqualTo(3);
+        Assertions.assertThat(TupleT.of(1, 2).spliterator().hasCharacteristics(Spliterator.SUBSIZED))
+            .isTrue();
+        Assertions.assertThat(Tuple.of("a", null).contains(null))
+            .isTrue();
+    }
+
+    @Test
+    void givenNestedSubLists_whenSliced_thenFlattenedOntoRoot() {
+        var range  = new Range(1_000_000);
+        var window = range.subList(10, 1_000_000).subList(999_980, 999_990).subList(5, 10);
+
+        Assertions.assertThat(window)
+            .containsExactly(999_995, 999_996, 999_997, 999_998, 999_999)
+            .isEqualTo(List.of(999_995, 999_996, 999_997, 999_998, 999_999))
+            .hasSameHashCodeAs(List.of(999_995, 999_996, 999_997, 999_998, 999_999));
+        Assertions.assertThatThrownBy(() -> window.get(5))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        Assertions.assertThatThrownBy(() -> range.subList(5, 4))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenTailWindow_whenIterated_thenOnlyTheWindowIsVisited() {
+        var range = new Range(Integer.MAX_VALUE);
+        var tail  = range.subList(Integer.MAX_VALUE - 3, Integer.MAX_VALUE);
+
+        // 📎 If iterating skipped through the first 2 billion elements, this test would time out.
+        Assertions.assertThat(tail)
+            .containsExactly(Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1);
+        Assertions.assertThat(tail.stream().count())
+            .isEqualTo(3);
+    }
+}
@@ -0,0 +1,120 @@
+package brava.core.collections;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class PersistentMapTests {
+    /**
+     * A key whose {@link #hashCode()} can be chosen, so that we can force collisions.
+     */
+    private record Key(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    void givenRandomEdits_whenComparedToHashMap_thenSameEntries() {
+        var random   = new Random(42);
+        var map      = PersistentMap.<Key, Integer>empty();
+        var expected = new HashMap<Key, Integer>();
+
+        for (int i = 0; i < 20_000; i++) {
+            var id  = random.nextInt(2_000);
+            var key = new Key(id, id % 100);
+            if (random.nextInt(3) == 0) {
+                map = map.minus(key);
+                expected.remove(key);
+            } else {
+                map = map.plus(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertThat(map)
+            .hasSameSizeAs(expected)
+            .isEqualTo(expected)
+            .hasSameHashCodeAs(expected)
+            .containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    @Test
+    void givenMap_whenModified_thenOriginalIsUnchanged() {
+        var original = PersistentMap.copyOf(Map.of("a", 1, "b", 2));
+
+        var added   = original.plus("c", 3);
+        var changed = original.plus("a", -1);
+        var removed = original.minus("b");
+
+        Assertions.assertThat(original).isEqualTo(Map.of("a", 1, "b", 2));
+        Assertions.assertThat(added).isEqualTo(Map.of("a", 1, "b", 2, "c", 3));
+        Assertions.assertThat(changed).isEqualTo(Map.of("a", -1, "b", 2));
+        Assertions.assertThat(removed).isEqualTo(Map.of("a", 1));
+    }
+
+    @Test
+    void givenIdenticalHashes_whenRemovingEverything_thenEmpty() {
+        var map = PersistentMap.<Key, String>empty();
+        for (int i = 0; i < 10; i++) {
+            map = map.plus(new Key(i, 7), "v" + i);
+        }
+
+        Assertions.assertThat(map).hasSize(10).containsEntry(new Key(3, 7), "v3");
+
+        for (int i = 0; i < 10; i++) {
+            map = map.minus(new Key(i, 7));
+        }
+
+        Assertions.assertThat(map).isEmpty();
+    }
+
+    @Test
+    void givenMapsSharingStructure_whenMerged_thenArbiterOnlySeesDifferences() {
+        var base = PersistentMap.<Integer, Integer>empty();
+        for (int i = 0; i < 1000; i++) {
+            base = base.plus(i, i);
+        }
+
+        var left  = base.plus(1, 100).plus(-1, -1);
+        var right = base.plus(1, 200).plus(2000, 2000);
+        var calls = new int[1];
+
+        var merged = Immutably.merge(left, right, (k, a, b) -> {
+            calls[0]++;
+            return a + b;
+        });
+
+        Assertions.assertThat(calls[0]).isEqualTo(1);
+        Assertions.assertThat(merged)
+            .hasSize(1002)
+            .containsEntry(1, 300)
+            .containsEntry(-1, -1)
+            .containsEntry(2000, 2000)
+            .containsEntry(500, 500);
+    }
+
+    @Test
+    void givenPersistentMap_whenImmutablyPutAndRemove_thenStaysPersistent() {
+        PersistentMap<String, Integer> map = Immutably.put(PersistentMap.<String, Integer>empty(), "a", 1);
+        var removed = Immutably.remove(map, "a");
+
+        Assertions.assertThat(map).containsExactlyEntriesOf(Map.of("a", 1));
+        Assertions.assertThat(removed.a()).isEmpty();
+        Assertions.assertThat(removed.b()).isEqualTo(1);
+        Assertions.assertThatThrownBy(() -> Immutably.remove(map, "b"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenPersistentMap_whenPut_thenUnsupported() {
+        var map = PersistentMap.<String, Integer>empty();
+
+        Assertions.assertThatThrownBy(() -> map.put("a", 1))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package brava.core.collections;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+class PersistentVectorTests {
+    @Test
+    void givenRandomEdits_whenComparedToArrayList_thenSameContents() {
+        var random   = new Random(42);
+        var vector   = PersistentVector.<Integer>empty();
+        var expected = new ArrayList<Integer>();
+
+        for (int i = 0; i < 20_000; i++) {
+            var op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                var index = random.nextInt(expected.size() + 1);
+                vector = vector.plus(index, i);
+                expected.add(index, i);
+            } else if (op < 8) {
+                var index = random.nextInt(expected.size());
+                vector = vector.minus(index);
+                expected.remove(index);
+            } else {
+                var index = random.nextInt(expected.size());
+                vector = vector.with(index, -i);
+                expected.set(index, -i);
+            }
+        }
+
+        Assertions.assertThat(vector)
+            .isEqualTo(expected)
+            .hasSameHashCodeAs(expected)
+            .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void givenVector_whenModified_thenOriginalIsUnchanged() {
+        var original = PersistentVector.copyOf(IntStream.range(0, 1000).boxed().toList());
+
+        var added    = original.plus(-1);
+        var inserted = original.plus(500, -1);
+        var replaced = original.with(0, -1);
+        var removed  = original.minus(999);
+
+        Assertions.assertThat(original)
+            .isEqualTo(IntStream.range(0, 1000).boxed().toList());
+        Assertions.assertThat(added.get(1000)).isEqualTo(-1);
+        Assertions.assertThat(inserted.get(500)).isEqualTo(-1);
+        Assertions.assertThat(inserted.get(501)).isEqualTo(500);
+        Assertions.assertThat(replaced.get(0)).isEqualTo(-1);
+        Assertions.assertThat(removed).hasSize(999);
+    }
+
+    @Test
+    void givenPersistentVector_whenImmutablyAdd_thenStaysPersistent() {
+        var vector = PersistentVector.of("a", "b");
+
+        PersistentVector<String> added    = Immutably.add(vector, "c");
+        PersistentVector<String> inserted = Immutably.insert(added, "z", 0);
+
+        Assertions.assertThat(inserted)
+            .containsExactly("z", "a", "b", "c");
+    }
+
+    @Test
+    void givenEveryElementRemoved_whenEmpty_thenEqualsEmptyList() {
+        var vector = PersistentVector.copyOf(IntStream.range(0, 100).boxed().toList());
+        while (!vector.isEmpty()) {
+            vector = vector.minus(vector.size() / 2);
+        }
+
+        Assertions.assertThat(vector)
+            .isEqualTo(List.of())
+            .isSameAs(PersistentVector.empty());
+    }
+}
@@ -0,0 +1,73 @@
+package brava.core.collections;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+class PrunedSearchTests {
+    private static final Predicate<List<Integer>> INCREASING = prefix -> {
+        var last = prefix.size() - 1;
+        return last < 1 || prefix.get(last - 1) < prefix.get(last);
+    };
+
+    private static List<List<Integer>> digits(int arity) {
+        return Collections.nCopies(arity, IntStream.range(0, 10).boxed().toList());
+    }
+
+    @Test
+    void givenPrefixPredicate_whenSearched_thenSameAsFilteringEveryRow() {
+        var domains = digits(4);
+
+        var actual = Combinatorial.search(domains, INCREASING).toList();
+
+        var expected = Combinatorial.cartesianProduct(domains)
+            .stream()
+            .filter(row -> IntStream.rangeClosed(1, row.size()).allMatch(length -> INCREASING.test(row.subList(0, length))))
+            .toList();
+        Assertions.assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void givenFailingPrefix_whenSearched_thenSubtreeIsSkipped() {
+        var calls = new AtomicLong();
+
+        var found = Combinatorial.search(digits(8), prefix -> {
+            calls.incrementAndGet();
+            return INCREASING.test(prefix);
+        }).count();
+
+        // There are 10^8 rows, but only C(10, 8) of them are increasing
+        Assertions.assertThat(found).isEqualTo(45);
+        Assertions.assertThat(calls.get()).isLessThan(20_000);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2, 3, 10 })
+    void givenForkDepth_whenSearchedInParallel_thenSameAsSequential(int forkDepth) {
+        var withEmpty = List.of(List.of(0, 1, 2), List.of(0, 1, 2, 3, 4), List.<Integer>of(), List.of(7));
+        var domains   = digits(4);
+
+        Assertions.assertThat(Combinatorial.search(withEmpty, INCREASING, forkDepth).toList()).isEmpty();
+        Assertions.assertThat(Combinatorial.search(domains, INCREASING, forkDepth).toList())
+            .isEqualTo(Combinatorial.search(domains, INCREASING).toList());
+    }
+
+    @Test
+    void givenNoDomains_whenSearched_thenSingleEmptyRow() {
+        Assertions.assertThat(Combinatorial.search(List.<List<String>>of(), prefix -> false).toList())
+            .isEqualTo(List.of(List.of()));
+    }
+
+    @Test
+    void givenNegativeForkDepth_whenSearched_thenThrows() {
+        Assertions.assertThatIllegalArgumentException()
+            .isThrownBy(() -> Combinatorial.search(digits(2), INCREASING, -1));
+    }
+}
@@ -0,0 +1,140 @@
+package brava.core.collections;
+
+import com.google.common.collect.Collections2;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+class SelectionListTests {
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().toList();
+    }
+
+    private static void assertRanksRoundTrip(CombinatorialList<? extends List<?>> list) {
+        for (int i = 0; i < list.size(); i++) {
+            Assertions.assertThat(list.longIndexOf(list.get(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void givenSource_whenCombinations_thenLexicographicOrder() {
+        var combinations = Combinatorial.combinations(List.of('a', 'b', 'c', 'd'), 2);
+
+        Assertions.assertThat(combinations)
+            .isEqualTo(List.of(
+                List.of('a', 'b'), List.of('a', 'c'), List.of('a', 'd'),
+                List.of('b', 'c'), List.of('b', 'd'),
+                List.of('c', 'd')
+            ));
+        Assertions.assertThat(combinations.get(3)).isEqualTo(List.of('b', 'c'));
+        assertRanksRoundTrip(combinations);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 2, 3, 4, 5, 6, 7 })
+    void givenK_whenCombinations_thenMatchesGuava(int k) {
+        var source   = range(7);
+        var expected = Sets.combinations(new LinkedHashSet<>(source), k);
+
+        var actual = Combinatorial.combinations(source, k);
+
+        Assertions.assertThat(actual).hasSameSizeAs(expected);
+        Assertions.assertThat(actual.stream().<Set<Integer>>map(LinkedHashSet::new).toList()).containsExactlyInAnyOrderElementsOf(expected);
+        Assertions.assertThat(actual.parallelStream().toList()).isEqualTo(actual);
+        assertRanksRoundTrip(actual);
+    }
+
+    @Test
+    void givenSource_whenPermutations_thenMatchesGuava() {
+        var source = range(6);
+
+        var actual = Combinatorial.permutations(source);
+
+        Assertions.assertThat(actual).isEqualTo(List.copyOf(Collections2.orderedPermutations(source)));
+        Assertions.assertThat(actual.parallelStream().toList()).isEqualTo(actual);
+        assertRanksRoundTrip(actual);
+    }
+
+    @Test
+    void givenK_whenPermutations_thenEveryArrangementOfEveryCombination() {
+        var actual = Combinatorial.permutations(List.of(1, 2, 3), 2);
+
+        Assertions.assertThat(actual)
+            .isEqualTo(List.of(
+                List.of(1, 2), List.of(1, 3),
+                List.of(2, 1), List.of(2, 3),
+                List.of(3, 1), List.of(3, 2)
+            ));
+        assertRanksRoundTrip(actual);
+        assertRanksRoundTrip(Combinatorial.permutations(range(9), 3));
+    }
+
+    @Test
+    void givenSource_whenPowerSet_thenMatchesGuava() {
+        var source   = range(6);
+        var expected = Sets.powerSet(new LinkedHashSet<>(source)).stream().map(ArrayList::new).toList();
+
+        var actual = Combinatorial.powerSet(source);
+
+        Assertions.assertThat(actual).isEqualTo(expected);
+        Assertions.assertThat(actual.parallelStream().toList()).isEqualTo(expected);
+        assertRanksRoundTrip(actual);
+    }
+
+    @Test
+    void givenDuplicatesAndNulls_whenCombinations_thenPickedByPosition() {
+        var combinations = Combinatorial.combinations(Arrays.asList("a", null, "a"), 2);
+
+        Assertions.assertThat(combinations)
+            .isEqualTo(List.of(Arrays.asList("a", null), List.of("a", "a"), Arrays.asList(null, "a")));
+        Assertions.assertThat(combinations.indexOf(Arrays.asList(null, "a"))).isEqualTo(2);
+        Assertions.assertThat(combinations.contains(List.of("b", "a"))).isFalse();
+    }
+
+    @Test
+    void givenHugeSelections_whenIndexedByLong_thenUnranks() {
+        var combinations = Combinatorial.combinations(range(100), 5);
+        var permutations = Combinatorial.permutations(range(20));
+
+        Assertions.assertThat(combinations.longSize()).isEqualTo(75_287_520L);
+        Assertions.assertThat(combinations.get(combinations.longSize() - 1)).isEqualTo(List.of(95, 96, 97, 98, 99));
+        Assertions.assertThat(combinations.longIndexOf(combinations.get(12_345_678L))).isEqualTo(12_345_678L);
+        Assertions.assertThat(permutations.longSize()).isEqualTo(2_432_902_008_176_640_000L);
+        Assertions.assertThat(permutations.get(permutations.longSize() - 1)).isEqualTo(Lists.reverse(range(20)));
+    }
+
+    @Test
+    void givenTooManyRows_whenBuilt_thenThrows() {
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> Combinatorial.permutations(range(21)));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> Combinatorial.combinations(range(100), 50));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> Combinatorial.powerSet(range(63)));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> Combinatorial.combinations(range(3), -1));
+    }
+
+    @Test
+    void givenMoreThanAvailable_whenSelected_thenEmpty() {
+        Assertions.assertThat(Combinatorial.combinations(range(2), 3)).isEmpty();
+        Assertions.assertThat(Combinatorial.permutations(range(2), 3)).isEmpty();
+        Assertions.assertThat(Combinatorial.combinations(range(2), 0)).isEqualTo(List.of(List.of()));
+    }
+
+    @Test
+    void givenCursor_whenWalked_thenVisitsEveryRowInOrder() {
+        var permutations = Combinatorial.permutations(List.of('a', 'b', 'c'));
+        var visited      = new ArrayList<List<Object>>();
+
+        permutations.forEachCursor(cursor -> visited.add(cursor.snapshot()));
+
+        Assertions.assertThat(visited).isEqualTo(permutations);
+    }
+}
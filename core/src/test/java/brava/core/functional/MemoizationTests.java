@@ -0,0 +1,96 @@
+package brava.core.functional;
+
+import brava.core.tuples.Tuple;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+class MemoizationTests {
+    @Test
+    void givenMemoizedFunction_whenCalledRepeatedly_thenOriginalIsInvokedOncePerArguments() {
+        var calls = new LongAdder();
+        TriFunction<Integer, Integer, Integer, Integer> sum = (a, b, c) -> {
+            calls.increment();
+            return a + b + c;
+        };
+
+        var memoized = sum.memoize();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertThat(memoized.apply(i, 1, 2))
+                    .isEqualTo(i + 3);
+            }
+        }
+
+        Assertions.assertThat(calls.sum())
+            .isEqualTo(10);
+        Assertions.assertThat(memoized.stats())
+            .isEqualTo(new MemoStats(20, 10, 0));
+    }
+
+    @Test
+    void givenNullArgumentsAndResults_whenMemoized_thenTheyAreCached() {
+        var calls = new LongAdder();
+        QuadFunction<String, String, String, String, String> nothing = (a, b, c, d) -> {
+            calls.increment();
+            return null;
+        };
+
+        var memoized = nothing.memoize();
+        memoized.apply(null, "b", null, "d");
+        memoized.apply(null, "b", null, "d");
+
+        Assertions.assertThat(calls.sum())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givenFullCache_whenNewArguments_thenOldResultsAreEvicted() {
+        HexaFunction<Integer, Integer, Integer, Integer, Integer, Integer, String> join = (a, b, c, d, e, f) -> Arrays.toString(new int[]{ a, b, c, d, e, f });
+
+        var memoized = join.memoize(1);
+        memoized.apply(1, 2, 3, 4, 5, 6);
+        var second = memoized.apply(6, 5, 4, 3, 2, 1);
+
+        Assertions.assertThat(second)
+            .isEqualTo("[6, 5, 4, 3, 2, 1]");
+        Assertions.assertThat(memoized.stats())
+            .isEqualTo(new MemoStats(0, 2, 1));
+    }
+
+    @Test
+    void givenMaximumSizeThatIsNotAPowerOfTwo_whenFilled_thenNeverHoldsMoreThanMaximumSize() {
+        TriFunction<Integer, Integer, Integer, Integer> sum = (a, b, c) -> a + b + c;
+
+        var memoized = sum.memoize(3);
+        for (int i = 0; i < 1000; i++) {
+            memoized.apply(i, -i, i);
+        }
+
+        var stats = memoized.stats();
+        Assertions.assertThat(stats.misses() - stats.evictions())
+            .isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void givenMemoizedBiFunction_whenAppliedToTuple_thenResultIsCached() {
+        var memoized = Memoization.memoize((String a, Integer b) -> a.repeat(b));
+
+        Assertions.assertThat(memoized.apply("yo", 2))
+            .isEqualTo(memoized.apply(Tuple.of("yo", 2)))
+            .isEqualTo("yoyo");
+        Assertions.assertThat(memoized.stats().hits())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givenMemoizedPentaFunction_whenAppliedToTuple_thenResultMatchesOriginal() {
+        PentaFunction<Integer, Integer, Integer, Integer, Integer, Integer> product = (a, b, c, d, e) -> a * b * c * d * e;
+
+        Assertions.assertThat(product.memoize().apply(Tuple.of(1, 2, 3, 4, 5)))
+            .isEqualTo(product.apply(1, 2, 3, 4, 5));
+    }
+}
@@ -0,0 +1,56 @@
+package brava.core.tuples;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveTupleTests {
+    @Test
+    void intLong_boxedRoundTrip() {
+        var boxed     = Tuple.of(1, 2L);
+        var primitive = PrimitiveTuple.IntLong.fromBoxed(boxed);
+
+        Assertions.assertThat(primitive)
+            .isEqualTo(new PrimitiveTuple.IntLong(1, 2L));
+        Assertions.assertThat(primitive.toBoxed())
+            .isEqualTo(boxed);
+    }
+
+    @Test
+    void objDouble_map() {
+        var original = new PrimitiveTuple.ObjDouble<>("yolo", 1.5);
+        var expected = new PrimitiveTuple.ObjDouble<>(4, 3.0);
+        PrimitiveTuple.ObjDouble<Integer> actual = original.map(String::length, it -> it * 2);
+
+        Assertions.assertThat(actual)
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void intIntInt_reduce() {
+        var tuple = new PrimitiveTuple.IntIntInt(1, 2, 3);
+
+        Assertions.assertThat(tuple.reduceToInt(Integer::sum))
+            .isEqualTo(6);
+        Assertions.assertThat(tuple.reduce((a, b, c) -> "%s%s%s".formatted(a, b, c)))
+            .isEqualTo("123");
+    }
+
+    @Test
+    void longDouble_isTuple() {
+        var tuple = new PrimitiveTuple.LongDouble(1L, 2.5);
+
+        Assertions.assertThat(tuple)
+            .hasSize(2)
+            .containsExactly(1L, 2.5);
+        Assertions.assertThatThrownBy(() -> tuple.get(2))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenNullElement_whenFromBoxed_thenExceptionIsThrown() {
+        Tuple2<Integer, Integer> boxed = Tuple.of(1, null);
+
+        Assertions.assertThatThrownBy(() -> PrimitiveTuple.IntInt.fromBoxed(boxed))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
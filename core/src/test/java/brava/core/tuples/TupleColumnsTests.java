@@ -0,0 +1,75 @@
+package brava.core.tuples;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+class TupleColumnsTests {
+    @Test
+    void givenTuples_whenCopied_thenEqualToOriginal() {
+        var tuples = List.of(Tuple.of(1, "a", 1.5), Tuple.of(2, "b", 2.5));
+        var copy   = TupleColumns3.copyOf(Integer.class, String.class, Double.class, tuples);
+
+        Assertions.assertThat(copy)
+            .isEqualTo(tuples)
+            .hasSameHashCodeAs(tuples);
+        Assertions.assertThat(copy.get(1))
+            .isEqualTo(Tuple.of(2, "b", 2.5));
+    }
+
+    @Test
+    void givenPrimitiveComponents_whenBuilt_thenStoredInPrimitiveColumns() {
+        var columns = TupleColumns2.builder(Long.class, Double.class)
+                                   .add(1L, 0.5)
+                                   .add(2L, 1.5)
+                                   .build();
+
+        Assertions.assertThat(columns.longColumn(0).toLongArray())
+            .containsExactly(1L, 2L);
+        Assertions.assertThat(columns.doubleColumn(1).doubles().sum())
+            .isEqualTo(2.0);
+        Assertions.assertThatThrownBy(() -> columns.intColumn(0))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void givenMismatchedColumns_whenCombined_thenThrows() {
+        Assertions.assertThatThrownBy(() -> TupleColumns2.ofColumns(Column.OfInt.copyOf(1, 2), Column.OfInt.copyOf(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void givenLargeColumns_whenStreamedInParallel_thenEveryElementIsVisitedOnce() {
+        var builder = TupleColumns2.builder(Integer.class, String.class);
+        IntStream.range(0, 10_000).forEach(i -> builder.add(i, String.valueOf(i)));
+        var columns = builder.build();
+
+        Assertions.assertThat(columns.parallelStream().mapToLong(Tuple2::a).sum())
+            .isEqualTo(columns.intColumn(0).ints().asLongStream().sum())
+            .isEqualTo(49_995_000L);
+    }
+
+    @Test
+    void givenColumns_whenComparedToLists_thenFollowListContract() {
+        var columns = TupleColumns3.builder(Integer.class, Double.class, String.class)
+                                   .add(1, 0.5, "a")
+                                   .add(2, 1.5, null)
+                                   .build();
+
+        Assertions.assertThat(columns.column(0))
+            .isEqualTo(List.of(1, 2))
+            .hasSameHashCodeAs(List.of(1, 2));
+        Assertions.assertThat(columns.column(1))
+            .isEqualTo(Column.OfDouble.copyOf(0.5, 1.5))
+            .isEqualTo(List.of(0.5, 1.5))
+            .hasSameHashCodeAs(List.of(0.5, 1.5));
+        Assertions.assertThat(columns.column(2))
+            .isEqualTo(Arrays.asList("a", null))
+            .hasSameHashCodeAs(Arrays.asList("a", null));
+        Assertions.assertThat(columns.column(0)).isNotEqualTo(List.of(1L, 2L));
+        Assertions.assertThat(columns.column(2).toString()).isEqualTo("[a, null]");
+    }
+}
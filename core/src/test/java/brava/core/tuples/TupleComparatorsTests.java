@@ -0,0 +1,69 @@
+package brava.core.tuples;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+class TupleComparatorsTests {
+    @Test
+    void givenTuple3s_whenSortedLexicographically_thenMatchesComparatorChain() {
+        var tuples = new ArrayList<>(List.of(
+              Tuple.of(2, "a", 1.0),
+              Tuple.of(1, "b", 2.0),
+              Tuple.of(1, "a", 3.0),
+              Tuple.of(1, "a", -1.0)
+        ));
+        var expected = new ArrayList<>(tuples);
+        expected.sort(Comparator.comparing((Tuple3<Integer, String, Double> it) -> it.a())
+                                .thenComparing(Tuple3::b)
+                                .thenComparing(Tuple3::c));
+
+        tuples.sort(TupleComparators.lexicographic(Comparator.naturalOrder(), Comparator.naturalOrder(), Comparator.naturalOrder()));
+
+        Assertions.assertThat(tuples)
+            .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void givenReversedComponentComparator_whenCompared_thenOnlyThatComponentIsReversed() {
+        var comparator = TupleComparators.<Integer, Integer>lexicographic(Comparator.naturalOrder(), Comparator.reverseOrder());
+
+        Assertions.assertThat(comparator.compare(Tuple.of(1, 1), Tuple.of(1, 2)))
+            .isPositive();
+        Assertions.assertThat(comparator.compare(Tuple.of(1, 9), Tuple.of(2, 0)))
+            .isNegative();
+    }
+
+    @Test
+    void givenPrimitiveTuples_whenCompared_thenOrderedLexicographically() {
+        var comparator = TupleComparators.intLong();
+
+        Assertions.assertThat(comparator.compare(new PrimitiveTuple.IntLong(1, Long.MAX_VALUE), new PrimitiveTuple.IntLong(2, Long.MIN_VALUE)))
+            .isNegative();
+        Assertions.assertThat(comparator.compare(new PrimitiveTuple.IntLong(1, -1), new PrimitiveTuple.IntLong(1, -2)))
+            .isPositive();
+        Assertions.assertThat(TupleComparators.<String>objDouble(Comparator.naturalOrder()).compare(new PrimitiveTuple.ObjDouble<>("a", 1), new PrimitiveTuple.ObjDouble<>("a", 1)))
+            .isZero();
+    }
+
+    @Test
+    void givenEquivalentInputs_whenHashed_thenAllOverloadsAgree() {
+        var tuple = Tuple.of(-1, 7);
+
+        Assertions.assertThat(TupleHashing.hash(tuple))
+            .isEqualTo(TupleHashing.hash(tuple.a(), tuple.b()))
+            .isEqualTo(TupleHashing.hashInts(-1, 7))
+            .isEqualTo(TupleHashing.hash(new PrimitiveTuple.IntInt(-1, 7)));
+        Assertions.assertThat(TupleHashing.hashLongs(3L, -4L))
+            .isEqualTo(TupleHashing.hash(3L, -4L));
+    }
+
+    @Test
+    void givenComponentsThatCollideUnderListHashCode_whenHashed_thenTheyDiffer() {
+        Assertions.assertThat(TupleHashing.hashInts(0, 31))
+            .isNotEqualTo(TupleHashing.hashInts(1, 0));
+    }
+}
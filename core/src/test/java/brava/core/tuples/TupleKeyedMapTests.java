@@ -0,0 +1,137 @@
+package brava.core.tuples;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+class TupleKeyedMapTests {
+    @Test
+    void givenComponents_whenPut_thenGettableByComponentsOrTuple() {
+        var map = TupleKeyedMap2.<String, Integer, String>create();
+        map.put("a", 1, "yolo");
+
+        Assertions.assertThat(map.get("a", 1))
+            .isEqualTo(map.get(Tuple.of("a", 1)))
+            .isEqualTo("yolo");
+        Assertions.assertThat(map.containsKey("a", 2))
+            .isFalse();
+        Assertions.assertThat(map)
+            .containsExactly(Map.entry(Tuple.of("a", 1), "yolo"));
+    }
+
+    @Test
+    void givenNullComponents_whenPut_thenTheyAreValidKeys() {
+        var map = TupleKeyedMap3.<String, String, String, Integer>create();
+        map.put(null, "b", null, 1);
+
+        Assertions.assertThat(map.get(null, "b", null))
+            .isEqualTo(1);
+        Assertions.assertThat(map.removeKey(null, "b", null))
+            .isEqualTo(1);
+        Assertions.assertThat(map)
+            .isEmpty();
+    }
+
+    @Test
+    void givenRandomOperations_whenComparedToHashMap_thenSameContents() {
+        var random   = new Random(42);
+        var map      = TupleKeyedMap2.<Integer, Integer, Integer>create();
+        var expected = new HashMap<Tuple2<Integer, Integer>, Integer>();
+
+        for (int i = 0; i < 50_000; i++) {
+            int a = random.nextInt(100);
+            int b = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0 -> Assertions.assertThat(map.put(a, b, i)).isEqualTo(expected.put(Tuple.of(a, b), i));
+                case 1 -> Assertions.assertThat(map.removeKey(a, b)).isEqualTo(expected.remove(Tuple.of(a, b)));
+                default -> Assertions.assertThat(map.get(a, b)).isEqualTo(expected.get(Tuple.of(a, b)));
+            }
+        }
+
+        Assertions.assertThat(map)
+            .isEqualTo(expected)
+            .hasSameHashCodeAs(expected);
+    }
+
+    @Test
+    void givenMissingKey_whenComputeIfAbsent_thenComputedOnce() {
+        var map   = TupleKeyedMap4.<Integer, Integer, Integer, Integer, String>create(1);
+        var calls = new int[1];
+
+        for (int i = 0; i < 3; i++) {
+            map.computeIfAbsent(1, 2, 3, 4, (a, b, c, d) -> {
+                calls[0]++;
+                return Objects.toString(a + b + c + d);
+            });
+        }
+
+        Assertions.assertThat(map.get(1, 2, 3, 4))
+            .isEqualTo("10");
+        Assertions.assertThat(calls[0])
+            .isEqualTo(1);
+    }
+
+    @Test
+    void givenEntry_whenSetValue_thenWritesThrough() {
+        var map = TupleKeyedMap2.<Integer, Integer, String>create();
+        map.put(1, 1, "before");
+
+        map.entrySet().iterator().next().setValue("after");
+
+        Assertions.assertThat(map.get(1, 1))
+            .isEqualTo("after");
+    }
+
+    @Test
+    void givenRemovalsWhileIterating_whenComparedToHashMap_thenEveryEntryIsVisitedOnce() {
+        var random = new Random(42);
+        for (int round = 0; round < 1000; round++) {
+            // A tiny key space keeps the table crowded, so plenty of entries get shifted back into the slots we remove
+            var map      = TupleKeyedMap2.<Integer, Integer, Integer>create(4);
+            var expected = new HashMap<Tuple2<Integer, Integer>, Integer>();
+            for (int i = random.nextInt(40); i > 0; i--) {
+                int a = random.nextInt(8);
+                int b = random.nextInt(8);
+                map.put(a, b, i);
+                expected.put(Tuple.of(a, b), i);
+            }
+
+            var size    = map.size();
+            var visited = new ArrayList<Tuple2<Integer, Integer>>();
+            map.entrySet().removeIf(entry -> {
+                visited.add(entry.getKey());
+                return entry.getValue() % 3 == 0;
+            });
+            expected.values().removeIf(value -> value % 3 == 0);
+
+            Assertions.assertThat(visited)
+                .doesNotHaveDuplicates()
+                .hasSize(size);
+            Assertions.assertThat(map)
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void givenInheritedViews_whenRemovingThroughThem_thenWritesThrough() {
+        var map = TupleKeyedMap2.<Integer, Integer, String>create();
+        map.put(1, 1, "a");
+        map.put(1, 2, "b");
+        map.put(2, 2, "c");
+        map.put(3, 3, "d");
+
+        map.keySet().remove(Tuple.of(1, 1));
+        map.values().remove("b");
+        map.keySet().removeIf(key -> key.a() == 3);
+
+        Assertions.assertThat(map)
+            .containsExactly(Map.entry(Tuple.of(2, 2), "c"));
+        Assertions.assertThatThrownBy(() -> map.entrySet().iterator().remove())
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
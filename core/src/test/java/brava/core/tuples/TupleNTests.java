@@ -0,0 +1,67 @@
+package brava.core.tuples;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class TupleNTests {
+    @Test
+    void givenAppendedElements_whenBuilt_thenContainsThemInOrder() {
+        var tuple = TupleN.empty();
+        for (int i = 0; i < 50; i++) {
+            tuple = tuple.append(i);
+        }
+
+        Assertions.assertThat(tuple)
+            .hasSize(50)
+            .containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+    }
+
+    @Test
+    void givenSharedBuffer_whenBothViewsAppend_thenNeitherSeesTheOther() {
+        var base = TupleN.of(1, 2, 3).slice(0, 2);
+
+        var x = base.append("x");
+        var y = base.append("y");
+
+        Assertions.assertThat(x)
+            .containsExactly(1, 2, "x");
+        Assertions.assertThat(y)
+            .containsExactly(1, 2, "y");
+        Assertions.assertThat(base)
+            .containsExactly(1, 2);
+    }
+
+    @Test
+    void givenSlice_whenSlicedAgain_thenIndicesAreRelative() {
+        var tuple = TupleN.of("a", "b", "c", "d", "e");
+
+        Assertions.assertThat(tuple.slice(1, 4).slice(1, 3))
+            .containsExactly("c", "d");
+        Assertions.assertThatThrownBy(() -> tuple.slice(1, 4).get(3))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void givenTupleN_whenConcat_thenEqualsList() {
+        var tuple = TupleN.of(1, 2).concat(TupleN.of(3)).concat(List.of(4, 5));
+
+        Assertions.assertThat(tuple)
+            .isEqualTo(List.of(1, 2, 3, 4, 5))
+            .hasSameHashCodeAs(List.of(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    void givenFixedArityTuple_whenRoundTripped_thenEqualsOriginal() {
+        var original = Tuple.of("a", 1, 2.0);
+
+        Assertions.assertThat(TupleN.copyOf(original).toFixedArity())
+            .isEqualTo(original);
+        Assertions.assertThat(TupleN.copyOf(TupleT.of(1, 2)))
+            .containsExactly(1, 2);
+        Assertions.assertThatThrownBy(() -> TupleN.of(1, 2, 3, 4, 5, 6, 7).toFixedArity())
+            .isInstanceOf(IllegalStateException.class);
+    }
+}